@@ -0,0 +1,162 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import LinkedListT.ArrayStack;
+import LinkedListT.IntArrayStack;
+import LinkedListT.Stack;
+import LinkedListT.StackOps;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 数组栈 vs 链表栈：push/pop 耗时与内存占用
+ * <p>
+ * 对 Stack（链表）、Stack + 节点池（PooledStack）、ArrayStack、IntArrayStack 比较：
+ * 1. churn：连续 push size 个元素再全部 pop（DFS / 表达式求值的典型模式），
+ *    每次调用为 2 * size 次操作，gc.alloc.rate.norm 除以 2 * size 即每次操作的分配字节数
+ * 2. 常驻内存：Trial 开始前构造若干个各保留 size 个元素的栈，GC 前后堆占用差值按每元素字节数
+ *    作为辅助计数器 residentBytesPerElement 输出
+ * IntArrayStackPrimitive 为 IntArrayStack 的原始类型接口（push(int)/popInt()）。
+ * 元素使用缓存的 Integer，排除装箱分配。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ArrayStackBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayStackBenchmark {
+
+    /** 测量常驻内存时保留的元素总数 */
+    private static final int RESIDENT_TOTAL = 1_000_000;
+
+    private static volatile Object sink;
+
+    @Param({"Stack", "PooledStack", "ArrayStack", "IntArrayStack", "IntArrayStackPrimitive"})
+    public String stack;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private StackOps<Integer> boxed;
+    private IntArrayStack primitive;
+    private double resident;
+
+    /** 常驻内存的辅助计数器 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /** GC 后保留 size 个元素时每个元素的堆占用（字节） */
+        public double residentBytesPerElement;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        Supplier<Object> build;
+        if (stack.equals("IntArrayStackPrimitive")) {
+            primitive = new IntArrayStack();
+            build = () -> {
+                IntArrayStack s = new IntArrayStack();
+                for (int i = 0; i < size; i++) {
+                    s.push(i);
+                }
+                return s;
+            };
+        } else {
+            boxed = create();
+            build = () -> {
+                StackOps<Integer> s = create();
+                churn(s); // 填满一次，使节点池与数组容量处于稳态
+                for (int i = 0; i < size; i++) {
+                    s.push(i & 127);
+                }
+                return s;
+            };
+        }
+        resident = resident(build);
+    }
+
+    private StackOps<Integer> create() {
+        switch (stack) {
+            case "Stack":
+                return new Stack<>();
+            case "PooledStack": {
+                Stack<Integer> s = new Stack<>();
+                s.enableNodePool(size);
+                return s;
+            }
+            case "ArrayStack":
+                return new ArrayStack<>();
+            case "IntArrayStack":
+                return new IntArrayStack();
+            default:
+                throw new IllegalArgumentException("未知栈: " + stack);
+        }
+    }
+
+    @Benchmark
+    public int churn(Footprint footprint) {
+        footprint.residentBytesPerElement = resident;
+        return primitive != null ? churnPrimitive(primitive) : churn(boxed);
+    }
+
+    private int churn(StackOps<Integer> s) {
+        int check = 0;
+        for (int i = 0; i < size; i++) {
+            s.push(i & 127);
+        }
+        for (int i = 0; i < size; i++) {
+            check += s.pop();
+        }
+        return check;
+    }
+
+    private int churnPrimitive(IntArrayStack s) {
+        int check = 0;
+        for (int i = 0; i < size; i++) {
+            s.push(i);
+        }
+        for (int i = 0; i < size; i++) {
+            check += s.popInt();
+        }
+        return check;
+    }
+
+    /** 构造若干个各保留 size 个元素的栈（合计约 RESIDENT_TOTAL 个元素），返回 GC 后每元素的堆占用 */
+    private double resident(Supplier<Object> build) throws InterruptedException {
+        int copies = Math.max(1, RESIDENT_TOTAL / size);
+        Object[] stacks = new Object[copies];
+        long before = usedHeap();
+        for (int i = 0; i < copies; i++) {
+            stacks[i] = build.get();
+        }
+        long after = usedHeap();
+        sink = stacks; // 保证测量期间所有栈都可达
+        sink = null;
+        return (double) (after - before) / ((long) size * copies);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,207 @@
+package Benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.LinkedList;
+import LinkedListT.Node;
+import LinkedListT.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 批量操作 vs 单次 insert 循环
+ * <p>
+ * 对 SinglyLinkedList / DoublyLinkedList 比较（xxx 为批量版本，xxxLoop 为逐个操作的写法）：
+ * 1. 构造：addAll(values) vs 逐个 insert(size+1, x)
+ *    （借助尾指针两者均为 O(n)，主要差别在于批量版本不逐次校验位置）
+ * 2. 中部插入 MIDDLE_INSERTS 个元素：addAll(pos, values) vs 逐个 insert(pos+i, x)
+ * 3. 尾部拼接另一个链表：splice vs 逐个 addLast
+ * 4. 拆分为两半：split vs 逐个 addLast 复制后半部分并 delete 截断
+ * 5. 导出数组：toArray vs 逐个 getNode(i)
+ * 每次调用前（不计时）重新构造链表。4、5 的循环写法在 SinglyLinkedList 上为 O(n^2)
+ * （DoublyLinkedList 借助游标缓存为 O(n)），放在 Quadratic 中单独按较小的长度运行。
+ * 注意：-prof gc 的分配统计包含每次调用前重新构造链表的分配，gc.alloc.rate.norm 只能在
+ * 同一链表类型的批量 / 循环版本之间做差值比较，不是操作本身的分配量。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=BulkOpsBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkOpsBenchmark {
+
+    /** 中部插入的元素个数 */
+    private static final int MIDDLE_INSERTS = 1000;
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList"})
+    public String list;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private List<Integer> all;
+    private List<Integer> middle;
+
+    /** 每次调用前重新构造：空链表、长度为 size 的链表，以及 splice 的另一个链表 */
+    private LinkedList<Integer, ?> empty;
+    private LinkedList<Integer, ?> filled;
+    private LinkedList<Integer, ?> other;
+    private Runnable splice;
+
+    @Setup(Level.Trial)
+    public void values() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        all = Arrays.asList(values);
+        middle = new ArrayList<>();
+        for (int i = 0; i < MIDDLE_INSERTS; i++) {
+            middle.add(-i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void lists() {
+        if (list.equals("SinglyLinkedList")) {
+            prepare(SinglyLinkedList::new);
+        } else {
+            prepare(DoublyLinkedList::new);
+        }
+    }
+
+    /** splice 要求两个链表的节点类型相同，在这里捕获具体类型 */
+    private <T extends Node<Integer, T>> void prepare(Supplier<LinkedList<Integer, T>> factory) {
+        LinkedList<Integer, T> a = factory.get();
+        a.addAll(all);
+        LinkedList<Integer, T> b = factory.get();
+        b.addAll(all);
+        empty = factory.get();
+        filled = a;
+        other = b;
+        splice = () -> a.splice(b);
+    }
+
+    @Benchmark
+    public int build() {
+        empty.addAll(all);
+        return empty.size();
+    }
+
+    @Benchmark
+    public int buildLoop() {
+        for (Integer v : values) {
+            empty.insert(empty.size() + 1, v);
+        }
+        return empty.size();
+    }
+
+    @Benchmark
+    public int insertMiddle() {
+        filled.addAll(size / 2, middle);
+        return filled.size();
+    }
+
+    @Benchmark
+    public int insertMiddleLoop() {
+        int pos = size / 2;
+        for (Integer v : middle) {
+            filled.insert(pos++, v);
+        }
+        return filled.size();
+    }
+
+    @Benchmark
+    public int splice() {
+        splice.run();
+        return filled.size();
+    }
+
+    @Benchmark
+    public int spliceLoop() {
+        for (Integer v : other) {
+            filled.addLast(v);
+        }
+        return filled.size();
+    }
+
+    @Benchmark
+    public int split() {
+        return filled.split(size / 2).size();
+    }
+
+    @Benchmark
+    public int toArray() {
+        return filled.toArray(new Integer[0]).length;
+    }
+
+    /** O(n^2) 的循环写法：split 与 toArray 的逐个 getNode 版本，只按较小的长度运行 */
+    @State(Scope.Thread)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public static class Quadratic {
+
+        @Param({"SinglyLinkedList", "DoublyLinkedList"})
+        public String list;
+
+        @Param({"10000"})
+        public int size;
+
+        private LinkedList<Integer, ?> filled;
+
+        @Setup(Level.Invocation)
+        public void lists() {
+            filled = create();
+            for (int i = 0; i < size; i++) {
+                filled.addLast(i);
+            }
+        }
+
+        private LinkedList<Integer, ?> create() {
+            return list.equals("SinglyLinkedList") ? new SinglyLinkedList<>() : new DoublyLinkedList<>();
+        }
+
+        @Benchmark
+        public int splitLoop() {
+            LinkedList<Integer, ?> rest = create();
+            for (int pos = size / 2 + 1; pos <= size; pos++) {
+                rest.addLast(filled.getNode(pos).data);
+            }
+            while (filled.size() > size / 2) {
+                filled.delete(filled.size());
+            }
+            return rest.size();
+        }
+
+        @Benchmark
+        public int toArrayLoop() {
+            Integer[] out = new Integer[filled.size()];
+            for (int i = 1; i <= filled.size(); i++) {
+                out[i - 1] = filled.getNode(i).data;
+            }
+            return out.length;
+        }
+    }
+}
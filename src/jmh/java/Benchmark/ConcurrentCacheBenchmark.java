@@ -0,0 +1,238 @@
+package Benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.ConcurrentCache;
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.DoublyNode;
+import LinkedListT.EvictionPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * 缓存吞吐与命中率：Zipf 分布的键，多线程旁路缓存访问（get，未命中时 put）
+ * <p>
+ * 对比方案：
+ * 1. legacy：DoublyLinkedList + HashMap（全局锁），命中时扫描出键的位置，delete(pos) 后 addLast —— 手写 LRU 的常见做法
+ * 2. linkedHashMap：synchronized LinkedHashMap（访问顺序，全局锁）
+ * 3. lru / lfu / windowTinyLfu：ConcurrentCache 搭配对应淘汰策略（分段锁）
+ * 所有线程共享同一个缓存；每个线程在 Trial 开始前按 Zipf 分布（指数 0.99）生成自己的访问序列，
+ * 计时期间不生成随机数、不装箱。threads1 / threads2 / threads4 / threads8 分别以 1、2、4、8 个线程运行，
+ * 吞吐单位为每微秒访问次数（所有线程合计）；辅助计数 hits / misses 为命中与未命中次数，命中率 = hits / (hits + misses)。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ConcurrentCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCacheBenchmark {
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final int TRACE_LENGTH = 1 << 20;
+
+    /** 被测缓存的统一操作：读取 key，未命中时写入；返回是否命中 */
+    private interface Target {
+        boolean access(Integer key);
+    }
+
+    @Param({"legacy", "linkedHashMap", "lru", "lfu", "windowTinyLfu"})
+    public String scheme;
+
+    @Param({"10000"})
+    public int capacity;
+
+    @Param({"1000000"})
+    public int keys;
+
+    private Target target;
+    /** 排名 r（从0开始）的累积概率（未归一化） */
+    private double[] cdf;
+    /** 排名到键的固定置换，使热点键分散在各分段 */
+    private Integer[] boxed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (scheme) {
+            case "legacy":
+                target = legacy(capacity);
+                break;
+            case "linkedHashMap":
+                target = linkedHashMap(capacity);
+                break;
+            case "lru":
+                target = concurrentCache(capacity, EvictionPolicy.lru());
+                break;
+            case "lfu":
+                target = concurrentCache(capacity, EvictionPolicy.lfu());
+                break;
+            case "windowTinyLfu":
+                target = concurrentCache(capacity, EvictionPolicy.windowTinyLfu());
+                break;
+            default:
+                throw new IllegalArgumentException("未知方案: " + scheme);
+        }
+        cdf = new double[keys];
+        double sum = 0;
+        for (int r = 0; r < keys; r++) {
+            sum += 1 / Math.pow(r + 1, ZIPF_EXPONENT);
+            cdf[r] = sum;
+        }
+        boxed = new Integer[keys];
+        Random shuffle = new Random(7);
+        for (int i = 0; i < keys; i++) {
+            int j = shuffle.nextInt(i + 1);
+            boxed[i] = boxed[j];
+            boxed[j] = i;
+        }
+    }
+
+    /** 每个线程的 Zipf 访问序列与命中计数 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Accesses {
+        public long hits;
+        public long misses;
+
+        private Integer[] trace;
+        private int cursor;
+
+        /** 排名 r（从1开始）的概率正比于 1 / r^s */
+        @Setup(Level.Trial)
+        public void setup(ConcurrentCacheBenchmark shared, ThreadParams params) {
+            double[] cdf = shared.cdf;
+            double sum = cdf[cdf.length - 1];
+            Random random = new Random(params.getThreadIndex());
+            trace = new Integer[TRACE_LENGTH];
+            for (int i = 0; i < TRACE_LENGTH; i++) {
+                double u = random.nextDouble() * sum;
+                int lo = 0;
+                int hi = cdf.length - 1;
+                while (lo < hi) { // 第一个 cdf >= u 的排名
+                    int mid = (lo + hi) >>> 1;
+                    if (cdf[mid] < u) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                trace[i] = shared.boxed[lo];
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        Integer next() {
+            return trace[cursor++ & (TRACE_LENGTH - 1)];
+        }
+    }
+
+    /** 手写 LRU：键的访问顺序保存在 DoublyLinkedList 中，调整顺序需要 O(n) 扫描 */
+    private static Target legacy(int capacity) {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        DoublyLinkedList<Integer> order = new DoublyLinkedList<>();
+        return new Target() {
+            public synchronized boolean access(Integer key) {
+                if (map.containsKey(key)) {
+                    int pos = 1;
+                    for (DoublyNode<Integer> node = order.getNode(1); !key.equals(node.data); node = node.next) {
+                        pos++;
+                    }
+                    order.delete(pos);
+                    order.addLast(key);
+                    return true;
+                }
+                map.put(key, key);
+                order.addLast(key);
+                if (map.size() > capacity) {
+                    map.remove(order.getNode(1).data);
+                    order.delete(1);
+                }
+                return false;
+            }
+        };
+    }
+
+    private static Target linkedHashMap(int capacity) {
+        Map<Integer, Integer> map = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        return new Target() {
+            public synchronized boolean access(Integer key) {
+                if (map.get(key) != null) {
+                    return true;
+                }
+                map.put(key, key);
+                return false;
+            }
+        };
+    }
+
+    private static Target concurrentCache(int capacity, EvictionPolicy.Factory<Integer, Integer> policy) {
+        ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(capacity, policy);
+        return key -> {
+            if (cache.get(key) != null) {
+                return true;
+            }
+            cache.put(key, key);
+            return false;
+        };
+    }
+
+    private boolean access(Accesses accesses) {
+        if (target.access(accesses.next())) {
+            accesses.hits++;
+            return true;
+        }
+        accesses.misses++;
+        return false;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads1(Accesses accesses) {
+        return access(accesses);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean threads2(Accesses accesses) {
+        return access(accesses);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads4(Accesses accesses) {
+        return access(accesses);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean threads8(Accesses accesses) {
+        return access(accesses);
+    }
+}
@@ -0,0 +1,131 @@
+package Benchmark;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.ConcurrentDeque;
+import LinkedListT.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 双端队列并发吞吐基准：ConcurrentDeque vs 全局锁 DoublyLinkedList vs JDK 实现
+ * <p>
+ * 所有线程共享同一个队列，预先放入 PREFILL 个元素，每次操作为尾部 offerLast + 头部 pollFirst，
+ * 队列长度保持在 PREFILL 附近，头尾两端始终相距较远；threads2 / threads8 / threads32 / threads64
+ * 分别以 2、8、32、64 个线程运行，吞吐单位为每微秒完成的 offerLast + pollFirst 次数（所有线程合计）。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ConcurrentDequeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDequeBenchmark {
+
+    private static final Integer VALUE = 1;
+    private static final int PREFILL = 1024;
+
+    /** 被测队列的统一操作接口 */
+    private interface Target {
+        void offerLast(Integer value);
+
+        Integer pollFirst();
+    }
+
+    @Param({"ConcurrentDeque", "SynchronizedDoublyLinkedList", "LinkedBlockingDeque", "ConcurrentLinkedDeque"})
+    public String deque;
+
+    private Target target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (deque) {
+            case "ConcurrentDeque": {
+                ConcurrentDeque<Integer> d = new ConcurrentDeque<>();
+                target = new Target() {
+                    public void offerLast(Integer value) { d.offerLast(value); }
+                    public Integer pollFirst() { return d.pollFirst(); }
+                };
+                break;
+            }
+            case "SynchronizedDoublyLinkedList": {
+                DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+                target = new Target() {
+                    public synchronized void offerLast(Integer value) { list.addLast(value); }
+
+                    public synchronized Integer pollFirst() {
+                        if (list.size() == 0) {
+                            return null;
+                        }
+                        Integer value = list.getNode(1).data;
+                        list.delete(1);
+                        return value;
+                    }
+                };
+                break;
+            }
+            case "LinkedBlockingDeque": {
+                LinkedBlockingDeque<Integer> d = new LinkedBlockingDeque<>();
+                target = new Target() {
+                    public void offerLast(Integer value) { d.offerLast(value); }
+                    public Integer pollFirst() { return d.pollFirst(); }
+                };
+                break;
+            }
+            default: {
+                ConcurrentLinkedDeque<Integer> d = new ConcurrentLinkedDeque<>();
+                target = new Target() {
+                    public void offerLast(Integer value) { d.offerLast(value); }
+                    public Integer pollFirst() { return d.pollFirst(); }
+                };
+                break;
+            }
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            target.offerLast(VALUE);
+        }
+    }
+
+    private Integer offerPoll() {
+        target.offerLast(VALUE);
+        return target.pollFirst();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer threads2() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer threads8() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Integer threads32() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer threads64() {
+        return offerPoll();
+    }
+}
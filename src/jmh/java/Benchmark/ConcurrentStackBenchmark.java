@@ -0,0 +1,109 @@
+package Benchmark;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.ConcurrentStack;
+import LinkedListT.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 并发栈吞吐基准：ConcurrentStack vs ConcurrentLinkedDeque vs 加锁包装的 Stack
+ * <p>
+ * 所有线程共享同一个栈，每次操作为 push + pop；threads1 / threads4 / threads16 / threads64
+ * 分别以 1、4、16、64 个线程运行，吞吐单位为每微秒完成的 push + pop 次数（所有线程合计）。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ConcurrentStackBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+    private static final Integer VALUE = 1;
+
+    /** 被测栈的统一操作接口 */
+    private interface Target {
+        void push(Integer value);
+
+        Integer pop();
+    }
+
+    @Param({"ConcurrentStack", "ConcurrentLinkedDeque", "SynchronizedStack"})
+    public String stack;
+
+    private Target target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (stack) {
+            case "ConcurrentStack": {
+                ConcurrentStack<Integer> s = new ConcurrentStack<>();
+                target = new Target() {
+                    public void push(Integer value) { s.push(value); }
+                    public Integer pop() { return s.pop(); }
+                };
+                break;
+            }
+            case "ConcurrentLinkedDeque": {
+                ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+                target = new Target() {
+                    public void push(Integer value) { deque.offerFirst(value); }
+                    public Integer pop() { return deque.pollFirst(); }
+                };
+                break;
+            }
+            default: {
+                Stack<Integer> s = new Stack<>();
+                target = new Target() {
+                    public synchronized void push(Integer value) { s.push(value); }
+                    public synchronized Integer pop() { return s.isEmpty() ? null : s.pop(); }
+                };
+                break;
+            }
+        }
+    }
+
+    private Integer pushPop() {
+        target.push(VALUE);
+        return target.pop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer threads64() {
+        return pushPop();
+    }
+}
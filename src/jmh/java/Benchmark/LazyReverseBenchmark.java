@@ -0,0 +1,90 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 反转代价：DoublyLinkedList 即时反转（eager）vs 惰性反转（lazy）
+ * <p>
+ * 对 size 个元素（默认 1000 万）的链表比较：
+ * 1. 单次反转：reverse()、reverseRecursion()、reverseByStack()，惰性版本只翻转方向标志
+ * 2. reverseMaterialize：反转后立即 materialize()，惰性反转实际重新链接一次的代价（与即时反转同阶）
+ * 3. toggles：每次反转后在两端各做一次插入与删除，共 TOGGLES 次，链表长度保持不变
+ * 即时模式的 toggles 每次调用做 TOGGLES 次完整反转，千万规模下单次调用需数十秒。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=LazyReverseBenchmark
+ * （快速对比：-Djmh.args="-p size=1000000"）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LazyReverseBenchmark {
+
+    private static final int TOGGLES = 100;
+    private static final Integer VALUE = 1;
+
+    @Param({"eager", "lazy"})
+    public String mode;
+
+    @Param({"10000000"})
+    public int size;
+
+    private DoublyLinkedList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        list = new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        list.setLazyReversal(mode.equals("lazy"));
+    }
+
+    @Benchmark
+    public void reverse() {
+        list.reverse();
+    }
+
+    @Benchmark
+    public void reverseRecursion() {
+        list.reverseRecursion();
+    }
+
+    @Benchmark
+    public void reverseByStack() {
+        list.reverseByStack();
+    }
+
+    @Benchmark
+    public void reverseMaterialize() {
+        list.reverse();
+        list.materialize();
+    }
+
+    @Benchmark
+    public void toggles(Blackhole bh) {
+        for (int i = 0; i < TOGGLES; i++) {
+            list.reverse();
+            list.insert(VALUE);
+            list.insertAtTail(VALUE);
+            list.delete(1);
+            bh.consume(list.removeLast());
+        }
+    }
+}
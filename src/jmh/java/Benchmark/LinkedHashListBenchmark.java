@@ -0,0 +1,135 @@
+package Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.DoublyNode;
+import LinkedListT.LinkedHashList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 按值查找 / 删除：LinkedHashList 哈希索引 vs DoublyLinkedList 先扫描再删除
+ * <p>
+ * 对 size 个互不相同的 Integer（默认 10 万与 1000 万）比较每次操作的耗时，操作的值取自预先装箱的随机值池：
+ * 1. contains：判断一个存在的值是否存在
+ * 2. removeAddLast：删除一个存在的值后追加回尾部（长度保持不变）
+ * 3. moveToBack：把一个存在的值移到尾部
+ * DoublyLinkedList 没有按值索引，只能从头扫描得到位置，再 delete(pos)，每次操作 O(n)；
+ * LinkedHashList 通过开放寻址索引直接定位节点。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=LinkedHashListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class LinkedHashListBenchmark {
+
+    /** 按值操作的统一接口 */
+    private interface Target {
+        boolean contains(Integer value);
+
+        void remove(Integer value);
+
+        void addLast(Integer value);
+
+        void moveToBack(Integer value);
+    }
+
+    @Param({"LinkedHashList", "DoublyLinkedList"})
+    public String list;
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private Target target;
+    /** 预先装箱的随机值，装箱与 Random 不进入计时区 */
+    private Integer[] values;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        values = new Integer[1 << 16];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(size);
+        }
+        switch (list) {
+            case "LinkedHashList": {
+                LinkedHashList<Integer> hashed = new LinkedHashList<>(size);
+                for (int i = 0; i < size; i++) {
+                    hashed.addLast(i);
+                }
+                target = new Target() {
+                    public boolean contains(Integer value) { return hashed.contains(value); }
+                    public void remove(Integer value) { hashed.remove(value); }
+                    public void addLast(Integer value) { hashed.addLast(value); }
+                    public void moveToBack(Integer value) { hashed.moveToBack(value); }
+                };
+                break;
+            }
+            case "DoublyLinkedList": {
+                DoublyLinkedList<Integer> doubly = new DoublyLinkedList<>();
+                for (int i = 0; i < size; i++) {
+                    doubly.addLast(i);
+                }
+                target = new Target() {
+                    public boolean contains(Integer value) { return scanIndexOf(doubly, value) > 0; }
+                    public void remove(Integer value) { doubly.delete(scanIndexOf(doubly, value)); }
+                    public void addLast(Integer value) { doubly.addLast(value); }
+
+                    public void moveToBack(Integer value) {
+                        doubly.delete(scanIndexOf(doubly, value));
+                        doubly.addLast(value);
+                    }
+                };
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("未知链表: " + list);
+        }
+    }
+
+    /** 从头扫描，返回值 v 的位置（从1开始），不存在时返回 -1 */
+    private static int scanIndexOf(DoublyLinkedList<Integer> list, Integer v) {
+        int pos = 1;
+        for (DoublyNode<Integer> node = list.getNode(1); node != null; node = node.next, pos++) {
+            if (v.equals(node.data)) return pos;
+        }
+        return -1;
+    }
+
+    private Integer next() {
+        return values[cursor++ & (values.length - 1)];
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return target.contains(next());
+    }
+
+    @Benchmark
+    public void removeAddLast() {
+        Integer value = next();
+        target.remove(value);
+        target.addLast(value);
+    }
+
+    @Benchmark
+    public void moveToBack() {
+        target.moveToBack(next());
+    }
+}
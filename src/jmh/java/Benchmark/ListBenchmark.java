@@ -0,0 +1,246 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 链表基准测试（JMH）
+ * <p>
+ * 覆盖 LinkedListH.LinkedList / LinkedListH.DoublyLinkedList /
+ * LinkedListT.SinglyLinkedList / LinkedListT.DoublyLinkedList / LinkedListT.Stack，
+ * 测量头部插入、位置插入、位置删除、getNode、toString、writeTo 与全部反转方法，按链表长度参数化；
+ * LinkedListT 系列另按元素类型（int / string）参数化，LinkedListH 系列只存 int。
+ * 1. Primitive：LinkedListH 系列
+ * 2. Generic：LinkedListT 系列，另测 getNode 与 reverseByStack
+ * 插入 / 删除基准每次调用执行 OPS 次操作，调用结束后（不计时）撤销，链表长度保持为 size。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ListBenchmark
+ * （开启 -prof gc，gc.alloc.rate.norm 为每次操作的分配字节数；结果写入 target/jmh-result.json）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ListBenchmark {
+
+    /** 位置插入 / 删除 / getNode 每次调用执行的操作次数 */
+    static final int OPS = 100;
+
+    /** 丢弃所有写入字节的 channel，用于测量流式输出本身的开销 */
+    static final WritableByteChannel DISCARD = new WritableByteChannel() {
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        public boolean isOpen() { return true; }
+
+        public void close() { }
+    };
+
+    /** 统一不同链表 API 的被测对象 */
+    abstract static class Subject {
+        abstract void insertHead(int i);
+
+        abstract void insertAt(int pos, int i);
+
+        abstract void deleteAt(int pos);
+
+        abstract String render();
+
+        abstract void stream() throws IOException;
+
+        abstract void reverse();
+
+        abstract void reverseRecursion();
+    }
+
+    /** 撤销方式：调用结束后恢复链表长度 */
+    private enum Undo { NONE, HEAD, MIDDLE, DELETED }
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    Subject subject;
+    private Undo undo = Undo.NONE;
+
+    abstract Subject create();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        subject = create();
+        for (int i = 0; i < size; i++) {
+            subject.insertHead(i);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < OPS; i++) {
+            switch (undo) {
+                case HEAD:
+                    subject.deleteAt(1);
+                    break;
+                case MIDDLE:
+                    subject.deleteAt(size / 2 + 1);
+                    break;
+                case DELETED:
+                    subject.insertAt(size / 4 + 1, i);
+                    break;
+                default:
+                    return;
+            }
+        }
+        undo = Undo.NONE;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void insertHead() {
+        undo = Undo.HEAD;
+        for (int i = 0; i < OPS; i++) {
+            subject.insertHead(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void insertAtPosition() {
+        undo = Undo.MIDDLE;
+        for (int i = 0; i < OPS; i++) {
+            subject.insertAt(size / 2 + 1, i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void deleteAtPosition() {
+        undo = Undo.DELETED;
+        for (int i = 0; i < OPS; i++) {
+            subject.deleteAt(size / 4 + 1);
+        }
+    }
+
+    @Benchmark
+    public String toStringAll() {
+        return subject.render();
+    }
+
+    @Benchmark
+    public void writeTo() throws IOException {
+        subject.stream();
+    }
+
+    @Benchmark
+    public void reverse() {
+        subject.reverse();
+    }
+
+    @Benchmark
+    public void reverseRecursion() {
+        subject.reverseRecursion();
+    }
+
+    /** LinkedListH 系列：只存 int，没有 getNode 与 reverseByStack */
+    public static class Primitive extends ListBenchmark {
+
+        @Param({"LinkedListH.LinkedList", "LinkedListH.DoublyLinkedList"})
+        public String list;
+
+        @Override
+        Subject create() {
+            LinkedListH.LinkedList target = list.equals("LinkedListH.LinkedList")
+                    ? new LinkedListH.LinkedList() : new LinkedListH.DoublyLinkedList();
+            return new Subject() {
+                void insertHead(int i) { target.insert(i); }
+                void insertAt(int pos, int i) { target.insert(pos, i); }
+                void deleteAt(int pos) { target.delete(pos); }
+                String render() { return target.toString(); }
+                void stream() throws IOException { target.writeTo(DISCARD); }
+                void reverse() { target.reverse(); }
+                void reverseRecursion() { target.reverseRecursion(); }
+            };
+        }
+    }
+
+    /** LinkedListT 系列：元素取自预先生成的值池 */
+    public static class Generic extends ListBenchmark {
+
+        @Param({"LinkedListT.SinglyLinkedList", "LinkedListT.DoublyLinkedList", "LinkedListT.Stack"})
+        public String list;
+
+        @Param({"int", "string"})
+        public String elementType;
+
+        private LinkedListT.LinkedList<Object, ?> target;
+
+        @Override
+        Subject create() {
+            Supplier<LinkedListT.LinkedList<Object, ?>> factory;
+            switch (list) {
+                case "LinkedListT.SinglyLinkedList":
+                    factory = LinkedListT.SinglyLinkedList::new;
+                    break;
+                case "LinkedListT.DoublyLinkedList":
+                    factory = LinkedListT.DoublyLinkedList::new;
+                    break;
+                case "LinkedListT.Stack":
+                    factory = LinkedListT.Stack::new;
+                    break;
+                default:
+                    throw new IllegalArgumentException("未知链表: " + list);
+            }
+            IntFunction<Object> make = elementType.equals("int") ? Integer::valueOf : i -> "value-" + i;
+            Object[] values = new Object[Math.min(size, 1 << 16)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = make.apply(i);
+            }
+            target = factory.get();
+            return new Subject() {
+                void insertHead(int i) { target.insert(values[i % values.length]); }
+                void insertAt(int pos, int i) { target.insert(pos, values[i % values.length]); }
+                void deleteAt(int pos) { target.delete(pos); }
+                String render() { return target.toString(); }
+                void stream() throws IOException { target.writeTo(DISCARD); }
+                void reverse() { target.reverse(); }
+                void reverseRecursion() { target.reverseRecursion(); }
+            };
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(OPS)
+        public void getNode(Blackhole bh) {
+            for (int i = 0; i < OPS; i++) {
+                bh.consume(target.getNode(1 + (int) ((long) i * 7919 % size)));
+            }
+        }
+
+        @Benchmark
+        public void reverseByStack() {
+            target.reverseByStack();
+        }
+    }
+}
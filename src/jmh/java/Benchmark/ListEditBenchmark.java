@@ -0,0 +1,159 @@
+package Benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.LinkedList;
+import LinkedListT.ListEdit;
+import LinkedListT.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 批量位置编辑：ListEdit.apply() 一次遍历 vs 逐个 insert(pos)/delete(pos)
+ * <p>
+ * 对 size 个元素的链表生成 edits 个编辑（插入与删除各半，删除位置互不相同），位置都指原链表中的位置；
+ * 逐个应用时按位置从大到小调用，结果与 apply() 相同（Trial 开始前校验）。
+ * 插入与删除个数相同，每次调用后链表长度不变，下一次调用重复同一组编辑，无需重建链表。
+ * spread 控制编辑位置的分布：
+ * 1. uniform：位置均匀分布在整个链表
+ * 2. head / tail：位置集中在靠近头部 / 尾部的 spanPercent% 区间内
+ * 对比：
+ * 1. SinglyLinkedList：逐个应用每次从头定位，O(k·n)
+ * 2. DoublyLinkedList：定位从最近的一端或游标出发，降序位置使游标命中，逐个应用也接近一次遍历
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ListEditBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ListEditBenchmark {
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList"})
+    public String list;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"10000"})
+    public int edits;
+
+    @Param({"uniform", "head", "tail"})
+    public String spread;
+
+    @Param({"10"})
+    public int spanPercent;
+
+    private LinkedList<Integer, ?> target;
+    private int[] positions;
+    private boolean[] deletes;
+    /** 逐个应用的顺序：位置从大到小，同一位置先删除，插入按调用顺序逆序 */
+    private int[] sequentialOrder;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Supplier<LinkedList<Integer, ?>> factory;
+        switch (list) {
+            case "SinglyLinkedList":
+                factory = SinglyLinkedList::new;
+                break;
+            case "DoublyLinkedList":
+                factory = DoublyLinkedList::new;
+                break;
+            default:
+                throw new IllegalArgumentException("未知链表: " + list);
+        }
+        int span = spread.equals("uniform") ? size : Math.max(edits, (int) ((long) size * spanPercent / 100));
+        int low = spread.equals("tail") ? size - span + 1 : 1; // 位置区间 [low, low + span - 1]
+        Random random = new Random(42);
+        positions = new int[edits];
+        deletes = new boolean[edits];
+        boolean[] deleted = new boolean[size + 2];
+        for (int i = 0; i < edits; i++) {
+            deletes[i] = (i & 1) == 1;
+            int pos;
+            do {
+                pos = low + random.nextInt(span);
+            } while (deletes[i] && deleted[pos]);
+            if (deletes[i]) {
+                deleted[pos] = true;
+            }
+            positions[i] = pos;
+        }
+        long[] order = new long[edits];
+        for (int i = 0; i < edits; i++) {
+            order[i] = ((long) positions[i] << 32) | ((deletes[i] ? 1L : 0L) << 31) | i;
+        }
+        Arrays.sort(order);
+        sequentialOrder = new int[edits];
+        for (int j = 0; j < edits; j++) {
+            sequentialOrder[j] = (int) (order[edits - 1 - j] & Integer.MAX_VALUE);
+        }
+
+        LinkedList<Integer, ?> batch = filled(factory);
+        applyBatch(batch);
+        LinkedList<Integer, ?> sequential = filled(factory);
+        applySequential(sequential);
+        if (!Arrays.equals(batch.toArray(), sequential.toArray())) {
+            throw new IllegalStateException(list + " 批量结果与逐个应用不一致");
+        }
+        target = filled(factory);
+    }
+
+    private LinkedList<Integer, ?> filled(Supplier<LinkedList<Integer, ?>> factory) {
+        LinkedList<Integer, ?> l = factory.get();
+        for (int i = 0; i < size; i++) {
+            l.addLast(i);
+        }
+        return l;
+    }
+
+    private void applyBatch(LinkedList<Integer, ?> l) {
+        ListEdit<Integer, ?> edit = l.edit();
+        for (int i = 0; i < edits; i++) {
+            if (deletes[i]) {
+                edit.delete(positions[i]);
+            } else {
+                edit.insert(positions[i], -i);
+            }
+        }
+        edit.apply();
+    }
+
+    private void applySequential(LinkedList<Integer, ?> l) {
+        for (int i : sequentialOrder) {
+            if (deletes[i]) {
+                l.delete(positions[i]);
+            } else {
+                l.insert(positions[i], -i);
+            }
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer, ?> apply() {
+        applyBatch(target);
+        return target;
+    }
+
+    @Benchmark
+    public LinkedList<Integer, ?> sequential() {
+        applySequential(target);
+        return target;
+    }
+}
@@ -0,0 +1,83 @@
+package Benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.MappedLinkedList;
+import LinkedListT.OffHeapCodec;
+import LinkedListT.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 重新打开耗时基准：MappedLinkedList 的启动时间应与链表长度无关
+ * <p>
+ * 每个长度先以非刷盘模式批量构建文件；reopen 重新打开并读取首尾元素（关闭在调用结束后进行，不计时），
+ * 与逐个 addLast 重建同等长度的 SinglyLinkedList（rebuildHeap）对比。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=MappedLinkedListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedLinkedListBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Path path;
+    private MappedLinkedList<Long> opened;
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        path = Files.createTempFile("mapped-list-bench", ".dat");
+        try (MappedLinkedList<Long> list = MappedLinkedList.open(path, OffHeapCodec.LONG, false)) {
+            for (long i = 0; i < size; i++) {
+                list.addLast(i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeOpened() throws IOException {
+        if (opened != null) {
+            opened.close();
+            opened = null;
+        }
+    }
+
+    @Benchmark
+    public long reopen() throws IOException {
+        opened = MappedLinkedList.open(path, OffHeapCodec.LONG, false);
+        return opened.get(1) + opened.peekLast();
+    }
+
+    @Benchmark
+    public SinglyLinkedList<Long> rebuildHeap() {
+        SinglyLinkedList<Long> rebuilt = new SinglyLinkedList<>();
+        for (long i = 0; i < size; i++) {
+            rebuilt.addLast(i);
+        }
+        return rebuilt;
+    }
+}
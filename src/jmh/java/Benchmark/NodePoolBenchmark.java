@@ -0,0 +1,121 @@
+package Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.DoublyNode;
+import LinkedListT.LinkedList;
+import LinkedListT.NodePool;
+import LinkedListT.SinglyLinkedList;
+import LinkedListT.SinglyNode;
+import LinkedListT.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 节点池基准：高频增删（churn）下开启 / 关闭节点池的耗时、分配与 GC 对比
+ * <p>
+ * 场景：
+ * 1. stack：Stack 连续 push BURST 个元素再全部 pop
+ * 2. queue：SinglyLinkedList addLast BURST 个元素再从头部 delete(1)
+ * 3. deque：DoublyLinkedList addLast BURST 个元素再 removeLast
+ * 每个场景先放入 RESIDENT 个常驻元素，模拟长期存在的队列内容。
+ * 模式：off（不复用）/ per-list（链表独占的有界池）/ thread-local（线程本地池）。
+ * 元素使用缓存的 Integer，排除装箱分配；每次调用执行 2 * BURST 次增删，结果按单次操作给出。
+ * gc.alloc.rate.norm 为每次操作的分配字节数，gc.count / gc.time 为 GC 次数与总耗时。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=NodePoolBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+    private static final int RESIDENT = 100_000;
+    private static final int BURST = 1000;
+
+    @Param({"off", "per-list", "thread-local"})
+    public String pool;
+
+    private Stack<Integer> stack;
+    private SinglyLinkedList<Integer> queue;
+    private DoublyLinkedList<Integer> deque;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stack = new Stack<>();
+        queue = new SinglyLinkedList<>();
+        deque = new DoublyLinkedList<>();
+        if (pool.equals("per-list")) {
+            stack.enableNodePool(2 * BURST);
+            queue.enableNodePool(2 * BURST);
+            deque.enableNodePool(2 * BURST);
+        } else if (pool.equals("thread-local")) {
+            NodePool<Integer, SinglyNode<Integer>> sharedSingly = NodePool.threadLocal(2 * BURST);
+            NodePool<Integer, DoublyNode<Integer>> sharedDoubly = NodePool.threadLocal(2 * BURST);
+            stack.setNodePool(sharedSingly);
+            queue.setNodePool(sharedSingly);
+            deque.setNodePool(sharedDoubly);
+        }
+        fill(stack);
+        fill(queue);
+        fill(deque);
+    }
+
+    private static void fill(LinkedList<Integer, ?> list) {
+        List<Integer> values = new ArrayList<>(RESIDENT);
+        for (int i = 0; i < RESIDENT; i++) {
+            values.add(i & 127);
+        }
+        list.addAll(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BURST)
+    public void stack() {
+        for (int i = 0; i < BURST; i++) {
+            stack.push(i & 127);
+        }
+        for (int i = 0; i < BURST; i++) {
+            stack.pop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BURST)
+    public void queue() {
+        for (int i = 0; i < BURST; i++) {
+            queue.addLast(i & 127);
+        }
+        for (int i = 0; i < BURST; i++) {
+            queue.delete(1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BURST)
+    public void deque() {
+        for (int i = 0; i < BURST; i++) {
+            deque.addLast(i & 127);
+        }
+        for (int i = 0; i < BURST; i++) {
+            deque.removeLast();
+        }
+    }
+}
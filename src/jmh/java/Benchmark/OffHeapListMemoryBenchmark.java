@@ -0,0 +1,120 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.OffHeapCodec;
+import LinkedListT.OffHeapDoublyLinkedList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 堆外链表的内存占用与构造耗时：size 个 long 元素的堆内 / 堆外字节数
+ * <p>
+ * 对比：
+ * 1. DoublyLinkedList&lt;Long&gt;：每个元素一个 DoublyNode 对象加一个 Long 对象，全部在堆上
+ * 2. OffHeapDoublyLinkedList&lt;Long&gt;：节点存放在直接内存中（每段 2^20 个节点），堆上只有段数组
+ * build 每次调用构造 size 个元素的链表（堆外链表构造完立即 close() 释放直接内存），
+ * gc.alloc.rate.norm 为构造时的堆分配（堆外链表只有写入前的临时装箱）；
+ * Trial 开始前另构造一个链表并保持引用，GC 前后堆占用差值除以 size 作为辅助计数器 heapBytesPerElement 输出，
+ * offHeapBytes() 除以 size 作为 offHeapBytesPerElement 输出。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=OffHeapListMemoryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OffHeapListMemoryBenchmark {
+
+    private static final int SEGMENT_SHIFT = 20;
+
+    private static volatile Object sink;
+
+    @Param({"DoublyLinkedList", "OffHeapDoublyLinkedList"})
+    public String list;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private double heap;
+    private double offHeap;
+
+    /** 常驻内存的辅助计数器 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /** GC 后保留 size 个元素时每个元素的堆占用（字节） */
+        public double heapBytesPerElement;
+        /** 每个元素占用的直接内存（字节，按已分配的段计算） */
+        public double offHeapBytesPerElement;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        long before = usedHeap();
+        if ("OffHeapDoublyLinkedList".equals(list)) {
+            try (OffHeapDoublyLinkedList<Long> l = buildOffHeap()) {
+                sink = l;
+                long after = usedHeap();
+                heap = (double) (after - before) / size;
+                offHeap = (double) l.offHeapBytes() / size;
+            }
+        } else {
+            sink = buildOnHeap();
+            long after = usedHeap();
+            heap = (double) (after - before) / size;
+            offHeap = 0;
+        }
+        sink = null;
+    }
+
+    @Benchmark
+    public Object build(Footprint footprint) {
+        footprint.heapBytesPerElement = heap;
+        footprint.offHeapBytesPerElement = offHeap;
+        if ("OffHeapDoublyLinkedList".equals(list)) {
+            try (OffHeapDoublyLinkedList<Long> l = buildOffHeap()) {
+                return l.offHeapBytes();
+            }
+        }
+        return buildOnHeap();
+    }
+
+    private DoublyLinkedList<Long> buildOnHeap() {
+        DoublyLinkedList<Long> l = new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            l.addLast((long) i);
+        }
+        return l;
+    }
+
+    private OffHeapDoublyLinkedList<Long> buildOffHeap() {
+        OffHeapDoublyLinkedList<Long> l = new OffHeapDoublyLinkedList<>(OffHeapCodec.LONG, SEGMENT_SHIFT);
+        for (int i = 0; i < size; i++) {
+            l.addLast((long) i);
+        }
+        return l;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,126 @@
+package Benchmark;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.DoublyNode;
+import LinkedListT.ParallelListOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 并行排序 / 归约的线程数扩展性
+ * <p>
+ * 对 size 个随机元素的 DoublyLinkedList（默认 200 万）比较：
+ * 1. threads = 0：顺序基线，list.sort(cmp)、for-each 累加
+ * 2. threads &gt; 0：ParallelListOps.sort / reduce 在该线程数的 ForkJoinPool 上执行
+ * sort 每次调用结束后（不计时）按原始随机序列重新写入节点数据（不重新分配节点），各配置输入相同。
+ * 加速比受机器核数限制，也受分段遍历与顶层合并两段 O(n) 串行部分限制。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=ParallelListBenchmark
+ * （5000 万个元素：-Djmh.args="-p size=50000000 -jvmArgs -Xmx4g"）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelListBenchmark {
+
+    private static final Comparator<Integer> CMP = Comparator.naturalOrder();
+
+    @Param({"2000000"})
+    public int size;
+
+    /** ForkJoinPool 的线程数，0 表示顺序基线 */
+    @Param({"0", "1", "2", "4", "8", "16"})
+    public int threads;
+
+    private Integer[] values;
+    private DoublyLinkedList<Integer> list;
+    private ForkJoinPool pool;
+    private boolean sorted;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        list = new DoublyLinkedList<>();
+        list.addAll(Arrays.asList(values));
+        if (threads > 0) {
+            pool = new ForkJoinPool(threads);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /** 按原始随机序列重新写入数据 */
+    @TearDown(Level.Invocation)
+    public void refill() {
+        if (!sorted) {
+            return;
+        }
+        int i = 0;
+        for (DoublyNode<Integer> node = list.getNode(1); node != null; node = node.next) {
+            node.data = values[i++];
+        }
+        sorted = false;
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> sort() {
+        sorted = true;
+        if (pool == null) {
+            list.sort(CMP);
+        } else {
+            ParallelListOps.sort(list, CMP, pool);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long reduce() {
+        if (pool != null) {
+            return ParallelListOps.reduce(list, 0L, (acc, v) -> acc + mix(v), Long::sum, pool);
+        }
+        long sum = 0;
+        for (int v : list) {
+            sum += mix(v);
+        }
+        return sum;
+    }
+
+    /** 每个元素的归约工作量：若干次整数混合运算 */
+    private static long mix(int v) {
+        long x = v;
+        for (int i = 0; i < 8; i++) {
+            x ^= x >>> 17;
+            x *= 0x9E3779B97F4A7C15L;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,155 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import LinkedListT.PersistentList;
+import LinkedListT.SinglyLinkedList;
+import LinkedListT.VersionedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 并发写入下的读吞吐：VersionedList 快照 vs 加锁复制 SinglyLinkedList
+ * <p>
+ * 同一组内 1 个写线程持续在头部交替 push / pop（长度在 n 附近波动），READERS 个读线程持续完整遍历并求和：
+ * 1. lockedCopy：读者持锁复制整个 SinglyLinkedList（addAll），释放锁后遍历副本；写者持同一把锁修改
+ * 2. versioned：读者一次 volatile 读取拿到快照后直接遍历；写者构造新版本后 CAS 发布
+ * 结果中 readWrite:read 为每毫秒完整读取次数（所有读线程合计），readWrite:write 为每毫秒写入次数。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=PersistentListBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentListBenchmark {
+
+    private static final int READERS = 3;
+
+    /** 一种读写方案 */
+    private interface Scheme {
+        /** 一次完整读取，返回元素之和 */
+        long read();
+
+        /** 一次写入（第 i 次） */
+        void write(int i);
+    }
+
+    @Param({"lockedCopy", "versioned"})
+    public String scheme;
+
+    @Param({"10000"})
+    public int n;
+
+    private Scheme target;
+    private int writes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (scheme) {
+            case "lockedCopy":
+                target = lockedCopy(n);
+                break;
+            case "versioned":
+                target = versioned(n);
+                break;
+            default:
+                throw new IllegalArgumentException("未知方案: " + scheme);
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(READERS)
+    public long read() {
+        return target.read();
+    }
+
+    /** 组内只有一个写线程，writes 无需同步 */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void write() {
+        target.write(writes++);
+    }
+
+    private static Scheme lockedCopy(int n) {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            list.insert(i & 127);
+        }
+        ReentrantLock lock = new ReentrantLock();
+        return new Scheme() {
+            @Override
+            public long read() {
+                SinglyLinkedList<Integer> copy = new SinglyLinkedList<>();
+                lock.lock();
+                try {
+                    copy.addAll(list);
+                } finally {
+                    lock.unlock();
+                }
+                long sum = 0;
+                for (int v : copy) {
+                    sum += v;
+                }
+                return sum;
+            }
+
+            @Override
+            public void write(int i) {
+                lock.lock();
+                try {
+                    if ((i & 1) == 0) {
+                        list.insert(i & 127);
+                    } else {
+                        list.delete(1);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        };
+    }
+
+    private static Scheme versioned(int n) {
+        PersistentList<Integer> initial = PersistentList.empty();
+        for (int i = 0; i < n; i++) {
+            initial = initial.push(i & 127);
+        }
+        VersionedList<Integer> list = new VersionedList<>(initial);
+        return new Scheme() {
+            @Override
+            public long read() {
+                long sum = 0;
+                for (int v : list.snapshot()) {
+                    sum += v;
+                }
+                return sum;
+            }
+
+            @Override
+            public void write(int i) {
+                if ((i & 1) == 0) {
+                    list.push(i & 127);
+                } else {
+                    list.pop();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import LinkedListH.DoublyLinkedList;
+import LinkedListH.IntDoublyLinkedList;
+import LinkedListH.IntXorLinkedList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 原始类型链表的内存占用与构造耗时：每个元素占用的堆字节数
+ * <p>
+ * 对比：
+ * 1. DoublyLinkedList：每个元素一个 DoublyNode 对象（对象头 + data + next + prev）
+ * 2. IntDoublyLinkedList：data[] + next[] + prev[] 三个 int 数组
+ * 3. IntXorLinkedList：data[] + 异或链接数组，两个 int 数组
+ * build 每次调用构造 size 个元素的链表（数组链表按 size 预留容量，不含扩容余量），
+ * gc.alloc.rate.norm 除以 size 即构造时每个元素的分配字节数；
+ * Trial 开始前另构造一个链表并保持引用，GC 前后堆占用差值除以 size 作为辅助计数器 residentBytesPerElement 输出。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=PrimitiveListMemoryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PrimitiveListMemoryBenchmark {
+
+    private static volatile Object sink;
+
+    @Param({"DoublyLinkedList", "IntDoublyLinkedList", "IntXorLinkedList"})
+    public String list;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private IntFunction<Object> build;
+    private double resident;
+
+    /** 常驻内存的辅助计数器 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /** GC 后保留 size 个元素时每个元素的堆占用（字节） */
+        public double residentBytesPerElement;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        switch (list) {
+            case "DoublyLinkedList":
+                build = count -> {
+                    DoublyLinkedList l = new DoublyLinkedList();
+                    for (int i = 0; i < count; i++) {
+                        l.insert(i);
+                    }
+                    return l;
+                };
+                break;
+            case "IntDoublyLinkedList":
+                build = count -> {
+                    IntDoublyLinkedList l = new IntDoublyLinkedList(count);
+                    for (int i = 0; i < count; i++) {
+                        l.insertAtTail(i);
+                    }
+                    return l;
+                };
+                break;
+            case "IntXorLinkedList":
+                build = count -> {
+                    IntXorLinkedList l = new IntXorLinkedList(count);
+                    for (int i = 0; i < count; i++) {
+                        l.insertAtTail(i);
+                    }
+                    return l;
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("未知链表: " + list);
+        }
+        long before = usedHeap();
+        sink = build.apply(size);
+        long after = usedHeap();
+        sink = null;
+        resident = (double) (after - before) / size;
+    }
+
+    @Benchmark
+    public Object build(Footprint footprint) {
+        footprint.residentBytesPerElement = resident;
+        return build.apply(size);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,115 @@
+package Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.LinkedList;
+import LinkedListT.SinglyLinkedList;
+import LinkedListT.SkipLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 位置操作基准测试：SkipLinkedList vs SinglyLinkedList vs DoublyLinkedList
+ * <p>
+ * 每种链表先用 addLast 构建 size 个元素，再在随机位置执行 getNode / insert(pos) / delete(pos)。
+ * 插入 / 删除每次调用执行 OPS 次，调用结束后（不计时）在随机位置撤销，链表长度保持为 size。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=SkipLinkedListBenchmark
+ * （千万规模：-Djmh.args="-p size=10000000"，单链表较慢）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkipLinkedListBenchmark {
+
+    static final int OPS = 100;
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList", "SkipLinkedList"})
+    public String list;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private LinkedList<Integer, ?> target;
+    /** 预先生成的随机数，避免在计时区内调用 Random */
+    private final int[] randoms = new Random(42).ints(1 << 16, 0, Integer.MAX_VALUE).toArray();
+    private int cursor;
+    /** 本次调用插入（正数）或删除（负数）的元素个数，调用结束后撤销 */
+    private int pending;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (list) {
+            case "SinglyLinkedList":
+                target = new SinglyLinkedList<Integer>();
+                break;
+            case "DoublyLinkedList":
+                target = new DoublyLinkedList<Integer>();
+                break;
+            default:
+                target = new SkipLinkedList<Integer>(new Random(42));
+                break;
+        }
+        for (int i = 0; i < size; i++) {
+            target.addLast(i);
+        }
+    }
+
+    /** 返回 [1, bound] 内的随机位置 */
+    private int randomPosition(int bound) {
+        return 1 + randoms[cursor++ & (randoms.length - 1)] % bound;
+    }
+
+    @TearDown(Level.Invocation)
+    public void restore() {
+        for (; pending > 0; pending--) {
+            target.delete(randomPosition(target.size()));
+        }
+        for (; pending < 0; pending++) {
+            target.insert(randomPosition(target.size() + 1), pending);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void getNode(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            bh.consume(target.getNode(randomPosition(size)).data);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void insert() {
+        for (int i = 0; i < OPS; i++) {
+            target.insert(randomPosition(target.size() + 1), i);
+        }
+        pending = OPS;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void delete() {
+        for (int i = 0; i < OPS; i++) {
+            target.delete(randomPosition(target.size()));
+        }
+        pending = -OPS;
+    }
+}
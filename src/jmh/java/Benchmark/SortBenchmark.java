@@ -0,0 +1,110 @@
+package Benchmark;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.LinkedList;
+import LinkedListT.Node;
+import LinkedListT.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 链表原地归并排序 vs 复制到数组排序再重建
+ * <p>
+ * 对 SinglyLinkedList / DoublyLinkedList 比较：
+ * 1. sort：sort(cmp)，自底向上归并，只重新链接节点
+ * 2. copySort：toArray -> Arrays.sort -> 新建链表 addAll（原先的做法，内存翻倍）
+ * 输入分布：random（随机）、nearlySorted（1% 位置随机交换）、sorted（已有序）、reversed（逆序）。
+ * 链表只在 Trial 开始时构造一次；每次调用结束后（不计时）沿当前节点顺序按原输入改写 data，
+ * 恢复输入而不重新分配节点，因此 gc.alloc.rate.norm 只包含排序本身每次的分配字节数。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=SortBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    private static final Comparator<Integer> CMP = Comparator.naturalOrder();
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList"})
+    public String list;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"random", "nearlySorted", "sorted", "reversed"})
+    public String input;
+
+    private Integer[] values;
+    private LinkedList<Integer, ?> target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = input.equals("random") ? random.nextInt() : input.equals("reversed") ? size - i : i;
+        }
+        if (input.equals("nearlySorted")) {
+            for (int k = 0; k < size / 100; k++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                Integer t = values[i];
+                values[i] = values[j];
+                values[j] = t;
+            }
+        }
+        target = create();
+        target.addAll(Arrays.asList(values));
+    }
+
+    @TearDown(Level.Invocation)
+    public void restore() {
+        restore(target, values);
+    }
+
+    private static <T extends Node<Integer, T>> void restore(LinkedList<Integer, T> list, Integer[] values) {
+        int i = 0;
+        for (T node = list.getNode(1); node != null; node = node.next) {
+            node.data = values[i++];
+        }
+    }
+
+    private LinkedList<Integer, ?> create() {
+        return list.equals("SinglyLinkedList") ? new SinglyLinkedList<>() : new DoublyLinkedList<>();
+    }
+
+    @Benchmark
+    public LinkedList<Integer, ?> sort() {
+        target.sort(CMP);
+        return target;
+    }
+
+    @Benchmark
+    public LinkedList<Integer, ?> copySort() {
+        Integer[] array = target.toArray(new Integer[0]);
+        Arrays.sort(array, CMP);
+        LinkedList<Integer, ?> rebuilt = create();
+        rebuilt.addAll(Arrays.asList(array));
+        return rebuilt;
+    }
+}
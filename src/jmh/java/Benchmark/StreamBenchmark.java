@@ -0,0 +1,147 @@
+package Benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.SinglyLinkedList;
+import LinkedListT.SkipLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 顺序流 vs 并行流基准：SinglyLinkedList / DoublyLinkedList / SkipLinkedList，
+ * 以 java.util.LinkedList 与 ArrayList 作为对照
+ * <p>
+ * 负载为 map -> filter -> reduce：每个元素做 work 次整数混合运算后按奇偶过滤再求和。
+ * sequential / parallel 的耗时之比即加速比，上限取决于可用核数；链表的拆分需要沿链表顺序复制批次，
+ * 每个元素的计算越轻，拆分所占比例越高，加速比越低。Setup 中校验并行结果与顺序结果一致。
+ * <p>
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=StreamBenchmark
+ * （1000 万个元素：-Djmh.args="-p size=10000000 -jvmArgs -Xmx3g"）
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    /** 同一份数据的顺序流与并行流 */
+    private interface Source {
+        Stream<Integer> sequential();
+
+        Stream<Integer> parallel();
+    }
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList", "SkipLinkedList", "java.util.LinkedList", "java.util.ArrayList"})
+    public String list;
+
+    @Param({"1000000"})
+    public int size;
+
+    /** 每个元素的混合运算次数 */
+    @Param({"16"})
+    public int work;
+
+    private Source source;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (list) {
+            case "SinglyLinkedList": {
+                SinglyLinkedList<Integer> l = new SinglyLinkedList<>();
+                for (int i = 0; i < size; i++) {
+                    l.addLast(i);
+                }
+                source = new Source() {
+                    public Stream<Integer> sequential() { return l.stream(); }
+                    public Stream<Integer> parallel() { return l.parallelStream(); }
+                };
+                break;
+            }
+            case "DoublyLinkedList": {
+                DoublyLinkedList<Integer> l = new DoublyLinkedList<>();
+                for (int i = 0; i < size; i++) {
+                    l.addLast(i);
+                }
+                source = new Source() {
+                    public Stream<Integer> sequential() { return l.stream(); }
+                    public Stream<Integer> parallel() { return l.parallelStream(); }
+                };
+                break;
+            }
+            case "SkipLinkedList": {
+                SkipLinkedList<Integer> l = new SkipLinkedList<>();
+                for (int i = 0; i < size; i++) {
+                    l.addLast(i);
+                }
+                source = new Source() {
+                    public Stream<Integer> sequential() { return l.stream(); }
+                    public Stream<Integer> parallel() { return l.parallelStream(); }
+                };
+                break;
+            }
+            case "java.util.LinkedList":
+                source = fill(new java.util.LinkedList<>());
+                break;
+            case "java.util.ArrayList":
+                source = fill(new ArrayList<>(size));
+                break;
+            default:
+                throw new IllegalArgumentException("未知链表: " + list);
+        }
+        long expected = workload(source.sequential(), work);
+        long actual = workload(source.parallel(), work);
+        if (actual != expected) {
+            throw new IllegalStateException(list + " 并行结果不一致: " + actual + " / " + expected);
+        }
+    }
+
+    private Source fill(Collection<Integer> collection) {
+        for (int i = 0; i < size; i++) {
+            collection.add(i);
+        }
+        return new Source() {
+            public Stream<Integer> sequential() { return collection.stream(); }
+            public Stream<Integer> parallel() { return collection.parallelStream(); }
+        };
+    }
+
+    @Benchmark
+    public long sequential() {
+        return workload(source.sequential(), work);
+    }
+
+    @Benchmark
+    public long parallel() {
+        return workload(source.parallel(), work);
+    }
+
+    private static long workload(Stream<Integer> stream, int work) {
+        return stream.mapToLong(v -> mix(v, work)).filter(x -> (x & 1) == 0).sum();
+    }
+
+    /** 若干轮整数混合运算，模拟每个元素的计算量 */
+    private static long mix(long x, int work) {
+        for (int i = 0; i < work; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        return x;
+    }
+}
@@ -0,0 +1,125 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import LinkedListT.DoublyLinkedList;
+import LinkedListT.LinkedList;
+import LinkedListT.SinglyLinkedList;
+import LinkedListT.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 内存占用与遍历吞吐基准：UnrolledLinkedList vs SinglyLinkedList vs DoublyLinkedList
+ * <p>
+ * 所有链表共享同一组预先装箱的 Integer，build 的分配字节数只包含链表结构自身的开销：
+ * -prof gc 的 gc.alloc.rate.norm 除以 size 即每个元素的字节数。
+ * traverse 通过各链表的 forEach 顺序求和（对象节点链表经迭代器，展开链表逐块读取数组）。
+ * 用法：mvn -Pjmh -DskipTests verify -Djmh.benchmarks=UnrolledLinkedListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class UnrolledLinkedListBenchmark {
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList", "UnrolledLinkedList"})
+    public String list;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"32"})
+    public int chunkSize;
+
+    private Integer[] values;
+    private SinglyLinkedList<Integer> singly;
+    private DoublyLinkedList<Integer> doubly;
+    private UnrolledLinkedList<Integer> unrolled;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        switch (list) {
+            case "SinglyLinkedList":
+                singly = buildSingly();
+                break;
+            case "DoublyLinkedList":
+                doubly = buildDoubly();
+                break;
+            default:
+                unrolled = buildUnrolled();
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object build() {
+        switch (list) {
+            case "SinglyLinkedList":
+                return buildSingly();
+            case "DoublyLinkedList":
+                return buildDoubly();
+            default:
+                return buildUnrolled();
+        }
+    }
+
+    @Benchmark
+    public long traverse() {
+        if (singly != null) {
+            return traverse(singly);
+        }
+        if (doubly != null) {
+            return traverse(doubly);
+        }
+        long[] sum = {0};
+        unrolled.forEach(v -> sum[0] += v);
+        return sum[0];
+    }
+
+    private static long traverse(LinkedList<Integer, ?> list) {
+        long[] sum = {0};
+        list.forEach(v -> sum[0] += v);
+        return sum[0];
+    }
+
+    private SinglyLinkedList<Integer> buildSingly() {
+        SinglyLinkedList<Integer> l = new SinglyLinkedList<>();
+        for (Integer v : values) {
+            l.addLast(v);
+        }
+        return l;
+    }
+
+    private DoublyLinkedList<Integer> buildDoubly() {
+        DoublyLinkedList<Integer> l = new DoublyLinkedList<>();
+        for (Integer v : values) {
+            l.addLast(v);
+        }
+        return l;
+    }
+
+    private UnrolledLinkedList<Integer> buildUnrolled() {
+        UnrolledLinkedList<Integer> l = new UnrolledLinkedList<>(chunkSize);
+        for (Integer v : values) {
+            l.addLast(v);
+        }
+        return l;
+    }
+}
@@ -1,5 +1,9 @@
 package LinkedListH;
 
+import LinkedListT.ListWriter;
+
+import java.io.IOException;
+
 class DoublyNode extends Node{
     DoublyNode prev;
     public DoublyNode(int data) {
@@ -55,14 +59,59 @@ public class DoublyLinkedList extends LinkedList {
         }
     }
 
-    public void reversePrint() {
-        DoublyNode newNode = (DoublyNode) head;
-        while (newNode.next != null) {
-            newNode = (DoublyNode) newNode.next;
+    @Override
+    protected void writeReversed(Node first, ListWriter w) throws IOException { // 找到末节点后沿 prev 回到 first，不修改链表
+        if (first == null) {
+            return;
         }
-        while (newNode != null) {
-            System.out.print(newNode.data + " ");
-            newNode = newNode.prev;
+        DoublyNode current = (DoublyNode) first;
+        while (current.next != null) {
+            current = (DoublyNode) current.next;
+        }
+        while (current != null && w.element(current.data)) {
+            if (current == first) {
+                break;
+            }
+            current = current.prev;
+        }
+    }
+
+    @Override
+    public void reverse() { // 逐个交换 prev/next，父类实现只改 next 会使 prev 失效
+        reverseRecursionHelper(head);
+    }
+
+    @Override
+    public void reverseRecursionHelper(Node p) { // 无递归，O(1) 空间
+        DoublyNode current = (DoublyNode) p;
+        DoublyNode last = null;
+        while (current != null) {
+            DoublyNode next = (DoublyNode) current.next;
+            current.next = current.prev;
+            current.prev = next;
+            last = current;
+            current = next;
+        }
+        head = last;
+    }
+
+    @Override
+    public void reverse(int from, int to) {
+        super.reverse(from, to);
+        fixPrev();
+    }
+
+    @Override
+    public void reverseKGroup(int k) {
+        super.reverseKGroup(k);
+        fixPrev();
+    }
+
+    private void fixPrev() { // 按 next 链重建 prev 指针
+        DoublyNode prev = null;
+        for (Node current = head; current != null; current = current.next) {
+            ((DoublyNode) current).prev = prev;
+            prev = (DoublyNode) current;
         }
     }
 
@@ -78,6 +127,11 @@ public class DoublyLinkedList extends LinkedList {
         myList.insert(4,4);
         System.out.println(myList);
         myList.reversePrint();
-
+        myList.reverse();
+        System.out.println(myList);
+        myList.reverse(2, 5);
+        myList.reverseKGroup(3);
+        System.out.println(myList);
+        myList.reversePrint();
     }
 }
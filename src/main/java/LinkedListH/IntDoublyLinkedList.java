@@ -0,0 +1,160 @@
+package LinkedListH;
+
+import LinkedListT.ListWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * int 双向链表（数组实现）
+ * <p>
+ * 在 IntLinkedList 的基础上增加 prev[] 数组。
+ * 由于空闲链表通过 data[] 串联，next[] / prev[] 只保存有效节点的链接，
+ * 因此反转只需交换两个数组的引用以及头尾下标，时间复杂度 O(1)。
+ */
+public class IntDoublyLinkedList extends IntLinkedList {
+
+    protected int[] prev;
+
+    public IntDoublyLinkedList() {
+        this(16);
+    }
+
+    public IntDoublyLinkedList(int initialCapacity) {
+        super(initialCapacity);
+        prev = new int[data.length];
+    }
+
+    @Override
+    protected int allocate(int value) {
+        int node = super.allocate(value);
+        prev[node] = NIL;
+        return node;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        super.grow(capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    /** 从较近的一端查找第 pos 个节点 */
+    @Override
+    protected int nodeAt(int pos) {
+        if (pos < 1 || pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos - 1 <= size - pos) {
+            int current = head;
+            for (int i = 1; i < pos; i++) {
+                current = next[current];
+            }
+            return current;
+        }
+        int current = tail;
+        for (int i = size; i > pos; i--) {
+            current = prev[current];
+        }
+        return current;
+    }
+
+    @Override
+    public void insert(int data) {
+        int newNode = allocate(data);
+        if (head == NIL) {
+            tail = newNode;
+        } else {
+            next[newNode] = head;
+            prev[head] = newNode;
+        }
+        head = newNode;
+        size++;
+    }
+
+    @Override
+    public void insertAtTail(int data) {
+        if (tail == NIL) {
+            insert(data);
+            return;
+        }
+        int newNode = allocate(data);
+        next[tail] = newNode;
+        prev[newNode] = tail;
+        tail = newNode;
+        size++;
+    }
+
+    @Override
+    public void insert(int pos, int data) {
+        if (pos == 1) {
+            insert(data);
+            return;
+        }
+        int prevNode = nodeAt(pos - 1);
+        int newNode = allocate(data);
+        int nextNode = next[prevNode];
+        if (nextNode != NIL) {
+            prev[nextNode] = newNode;
+        } else {
+            tail = newNode;
+        }
+        next[newNode] = nextNode;
+        prev[newNode] = prevNode;
+        next[prevNode] = newNode;
+        size++;
+    }
+
+    @Override
+    public void delete(int pos) {
+        int removed = nodeAt(pos);
+        int prevNode = prev[removed];
+        int nextNode = next[removed];
+        if (prevNode != NIL) {
+            next[prevNode] = nextNode;
+        } else {
+            head = nextNode;
+        }
+        if (nextNode != NIL) {
+            prev[nextNode] = prevNode;
+        } else {
+            tail = prevNode;
+        }
+        release(removed);
+        size--;
+    }
+
+    /** 交换 next/prev 数组与头尾下标即完成反转，O(1) */
+    @Override
+    public void reverse() {
+        int[] temp = next;
+        next = prev;
+        prev = temp;
+
+        int t = head;
+        head = tail;
+        tail = t;
+    }
+
+    /** 从尾部沿 prev 反向写入，不修改链表 */
+    @Override
+    protected void writeElementsReversed(ListWriter w) throws IOException {
+        for (int current = tail; current != NIL; current = prev[current]) {
+            if (!w.element(data[current])) break;
+        }
+    }
+
+    public static void main(String[] args) {
+        IntDoublyLinkedList myList = new IntDoublyLinkedList();
+        myList.insert(1);
+        myList.insert(2);
+        myList.insert(3);
+        myList.insert(4);
+        myList.insert(5);
+        myList.insertAtTail(6);
+        myList.insert(3, 3);
+        myList.insert(4, 4);
+        System.out.println(myList);
+        myList.reversePrint();
+        myList.delete(5);
+        myList.reverse();
+        System.out.println(myList);
+    }
+}
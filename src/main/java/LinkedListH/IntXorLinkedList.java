@@ -0,0 +1,208 @@
+package LinkedListH;
+
+import LinkedListT.ListWriter;
+
+import java.io.IOException;
+import java.util.function.IntConsumer;
+
+/**
+ * int 异或双向链表（数组实现，每个元素只保存一个链接）
+ * <p>
+ * 在 IntLinkedList 的基础上复用 next[] 数组，但 next[i] 保存的是前驱与后继下标的异或值
+ * prev ^ next（两端的空指针同样用 NIL 参与异或）。已知一个相邻节点即可求出另一个：
+ * 从 head 出发时前驱为 NIL，后继 = next[current] ^ prev，反向遍历同理。
+ * 1. 每个元素 8 字节（data + 异或链接），IntDoublyLinkedList 为 12 字节，
+ *    对象节点的 LinkedListH.DoublyLinkedList 每个节点约 24 字节
+ * 2. 双向遍历：任意一端出发都只需要"上一个节点"这一个额外变量
+ * 3. 位置访问从较近的一端出发，同时得到目标节点的前驱与后继，插入删除 O(1) 改写相邻链接
+ * 4. 反转只交换头尾下标，O(1)：异或链接对两个方向是对称的
+ * 代价是无法从单个下标出发遍历（必须同时知道一个相邻节点），也不能保存指向中间节点的游标。
+ */
+public class IntXorLinkedList extends IntLinkedList {
+
+    /** 最近一次 nodeAt 找到的节点的前驱与后继下标 */
+    private int foundPrev;
+    private int foundNext;
+
+    public IntXorLinkedList() {
+        this(16);
+    }
+
+    public IntXorLinkedList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * 从较近的一端查找第 pos 个节点，同时记录其前驱 foundPrev 与后继 foundNext
+     * 时间复杂度：O(min(pos, n-pos))
+     */
+    @Override
+    protected int nodeAt(int pos) {
+        if (pos < 1 || pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos - 1 <= size - pos) {
+            int prev = NIL;
+            int current = head;
+            for (int i = 1; i < pos; i++) {
+                int following = next[current] ^ prev;
+                prev = current;
+                current = following;
+            }
+            foundPrev = prev;
+            foundNext = next[current] ^ prev;
+            return current;
+        }
+        int following = NIL;
+        int current = tail;
+        for (int i = size; i > pos; i--) {
+            int prev = next[current] ^ following;
+            following = current;
+            current = prev;
+        }
+        foundNext = following;
+        foundPrev = next[current] ^ following;
+        return current;
+    }
+
+    @Override
+    public void insert(int data) {
+        int newNode = allocate(data);
+        next[newNode] = NIL ^ head;
+        if (head == NIL) {
+            tail = newNode;
+        } else {
+            next[head] ^= NIL ^ newNode; // 原头节点的前驱由 NIL 换为新节点
+        }
+        head = newNode;
+        size++;
+    }
+
+    @Override
+    public void insertAtTail(int data) {
+        int newNode = allocate(data);
+        next[newNode] = tail ^ NIL;
+        if (tail == NIL) {
+            head = newNode;
+        } else {
+            next[tail] ^= NIL ^ newNode; // 原尾节点的后继由 NIL 换为新节点
+        }
+        tail = newNode;
+        size++;
+    }
+
+    /**
+     * 在位置 pos 插入（pos=1 为头部，pos=size+1 为尾部）
+     * 时间复杂度：O(min(pos, n-pos)) —— 定位后 O(1) 改写两个相邻链接
+     */
+    @Override
+    public void insert(int pos, int data) {
+        if (pos == 1) {
+            insert(data);
+            return;
+        }
+        if (pos == size + 1) {
+            insertAtTail(data);
+            return;
+        }
+        int nextNode = nodeAt(pos);
+        int prevNode = foundPrev;
+        int newNode = allocate(data);
+        next[newNode] = prevNode ^ nextNode;
+        next[prevNode] ^= nextNode ^ newNode; // 前驱的后继由 nextNode 换为新节点
+        next[nextNode] ^= prevNode ^ newNode; // 后继的前驱由 prevNode 换为新节点
+        size++;
+    }
+
+    /**
+     * 删除位置 pos 的节点
+     * 时间复杂度：O(min(pos, n-pos))
+     */
+    @Override
+    public void delete(int pos) {
+        int removed = nodeAt(pos);
+        int prevNode = foundPrev;
+        int nextNode = foundNext;
+        if (prevNode == NIL) {
+            head = nextNode;
+        } else {
+            next[prevNode] ^= removed ^ nextNode;
+        }
+        if (nextNode == NIL) {
+            tail = prevNode;
+        } else {
+            next[nextNode] ^= removed ^ prevNode;
+        }
+        release(removed);
+        size--;
+    }
+
+    /** 交换头尾下标即完成反转，O(1) */
+    @Override
+    public void reverse() {
+        int t = head;
+        head = tail;
+        tail = t;
+    }
+
+    /** 从头到尾依次处理每个元素 */
+    public void forEach(IntConsumer action) {
+        int prev = NIL;
+        for (int current = head; current != NIL; ) {
+            action.accept(data[current]);
+            int following = next[current] ^ prev;
+            prev = current;
+            current = following;
+        }
+    }
+
+    /** 从尾到头依次处理每个元素 */
+    public void forEachDescending(IntConsumer action) {
+        int following = NIL;
+        for (int current = tail; current != NIL; ) {
+            action.accept(data[current]);
+            int prev = next[current] ^ following;
+            following = current;
+            current = prev;
+        }
+    }
+
+    /** 异或链接需要同时记住上一个节点，不能使用父类按 next[] 遍历的实现 */
+    @Override
+    protected void writeElements(ListWriter w) throws IOException {
+        int prev = NIL;
+        for (int current = head; current != NIL; ) {
+            if (!w.element(data[current])) break;
+            int following = next[current] ^ prev;
+            prev = current;
+            current = following;
+        }
+    }
+
+    /** 从尾部反向写入，不修改链表 */
+    @Override
+    protected void writeElementsReversed(ListWriter w) throws IOException {
+        int following = NIL;
+        for (int current = tail; current != NIL; ) {
+            if (!w.element(data[current])) break;
+            int prev = next[current] ^ following;
+            following = current;
+            current = prev;
+        }
+    }
+
+    public static void main(String[] args) {
+        IntXorLinkedList myList = new IntXorLinkedList();
+        myList.insert(1);
+        myList.insert(2);
+        myList.insert(3);
+        myList.insert(4);
+        myList.insert(5);
+        myList.insertAtTail(6);
+        myList.insert(3, 3);
+        myList.insert(4, 4);
+        System.out.println(myList);
+        myList.reversePrint();
+        myList.delete(5);
+        myList.reverse();
+        System.out.println(myList + " (get(2)=" + myList.get(2) + ")");
+    }
+}
@@ -1,5 +1,11 @@
 package LinkedListH;
 
+import LinkedListT.ListWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+
 class Node {
     int data;
     Node next;
@@ -62,39 +68,187 @@ public class LinkedList {
         reverseRecursionHelper(head);
     }
 
-    public void reverseRecursionHelper(Node p) {
-        if ( p == null || p.next == null ) {
-            head = p;
-            return;
+    public void reverseRecursionHelper(Node p) { // 原为非尾递归（先递归到末尾，回溯时翻转指针，栈深度 n），改写为等价的循环，长链表不会栈溢出，O(1) 空间
+        Node prev = null;
+        while (p != null) {
+            Node next = p.next;
+            p.next = prev;
+            prev = p;
+            p = next;
         }
-        reverseRecursionHelper(p.next);
-        p.next.next = p;
-        p.next = null;
+        head = prev;
     }
 
     public void reversePrint() {
-        reversePrintHelper(head);
+        reversePrint(Integer.MAX_VALUE);
+    }
+
+    public void reversePrint(int limit) { // 逆序打印最后 limit 个元素，经 ListWriter 批量写入 System.out
+        try {
+            writeReverseTo(System.out, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // PrintStream 不会抛出 IOException
+        }
         System.out.println();
     }
 
-    public void reversePrintHelper(Node p) {
-        if (p == null) {
-            return;
+    public void reversePrintHelper(Node p) { // 逆序打印从 p 开始的部分（无递归，O(1) 空间）
+        ListWriter w = ListWriter.acquire().begin(System.out, Integer.MAX_VALUE);
+        try {
+            writeReversed(p, w);
+            w.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            w.release();
+        }
+    }
+
+    // ----------------- 流式输出 -----------------
+
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    public void writeTo(Appendable out, int limit) throws IOException { // 最多写 limit 个元素，超出部分写 " ..."
+        write(ListWriter.acquire().begin(out, limit), false);
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, Integer.MAX_VALUE);
+    }
+
+    public void writeTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), false);
+    }
+
+    public void writeReverseTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), true);
+    }
+
+    public void writeReverseTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), true);
+    }
+
+    private void write(ListWriter w, boolean reversed) throws IOException {
+        try {
+            if (reversed) {
+                writeReversed(head, w);
+            } else {
+                for (Node current = head; current != null; current = current.next) {
+                    if (!w.element(current.data)) break;
+                }
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    protected void writeReversed(Node first, ListWriter w) throws IOException { // 先反转 next 链，写完（或写出异常）后反转回来
+        Node last = reverseChain(first);
+        try {
+            for (Node current = last; current != null; current = current.next) {
+                if (!w.element(current.data)) break;
+            }
+        } finally {
+            reverseChain(last);
+        }
+    }
+
+    private static Node reverseChain(Node first) { // 只反转 next 链，返回新的首节点
+        Node prev = null;
+        while (first != null) {
+            Node next = first.next;
+            first.next = prev;
+            prev = first;
+            first = next;
+        }
+        return prev;
+    }
+
+    public void reverse(int from, int to) { // 原地反转第 from 到第 to 个节点（从1开始，包含两端）
+        if (from < 1 || from > to) {
+            throw new IndexOutOfBoundsException("区间 [" + from + ", " + to + "] 无效");
+        }
+        Node before = null; // 第 from-1 个
+        Node first = head;
+        for (int i = 1; i < from && first != null; i++) {
+            before = first;
+            first = first.next;
+        }
+        Node end = first; // 先确认第 to 个存在，越界时链表保持不变
+        for (int i = from; i < to && end != null; i++) {
+            end = end.next;
+        }
+        if (end == null) {
+            throw new IndexOutOfBoundsException("区间 [" + from + ", " + to + "] 无效");
+        }
+
+        Node after = end.next;
+        Node prev = after; // 区间反转后原首节点接到区间后的第一个节点
+        Node current = first;
+        while (current != after) {
+            Node next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
+        }
+        if (before == null) {
+            head = prev;
+        } else {
+            before.next = prev;
+        }
+    }
+
+    public void reverseKGroup(int k) { // 每 k 个一组原地反转，末尾不足 k 个保持原顺序
+        if (k < 1) {
+            throw new IllegalArgumentException("分组大小必须≥1");
+        }
+        Node before = null; // 上一组反转后的尾节点
+        Node groupStart = head;
+        while (true) {
+            Node probe = groupStart;
+            int count = 0;
+            while (probe != null && count < k) {
+                probe = probe.next;
+                count++;
+            }
+            if (count < k) {
+                break;
+            }
+            Node prev = probe; // probe 为下一组首节点
+            Node current = groupStart;
+            while (current != probe) {
+                Node next = current.next;
+                current.next = prev;
+                prev = current;
+                current = next;
+            }
+            if (before == null) {
+                head = prev;
+            } else {
+                before.next = prev;
+            }
+            before = groupStart;
+            groupStart = probe;
         }
-        reversePrintHelper((p.next));
-        System.out.print(p.data + " ");
     }
 
 
     @Override
     public String toString() {
-        Node current = head; // 临时节点遍历得到当前尾节点，不直接用head是不想失去头节点的引用
-        String ret = "";
-        while (current != null) {
-            ret = ret + current.data + " ";
-            current = current.next;
+        return toString(Integer.MAX_VALUE);
+    }
+
+    public String toString(int limit) { // 原实现在循环中拼接 String，长度 n 时为 O(n^2)
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
         }
-        return ret;
+        return sb.toString();
     }
 
     public static void main(String[] args)
@@ -117,6 +271,13 @@ public class LinkedList {
         list.reversePrint();
         list.reverseRecursion();
         System.out.println(list);
+        list.insert(1, 7);
+        list.reverse(2, 4);
+        System.out.println(list);
+        list.reverseKGroup(2);
+        System.out.println(list);
+        System.out.println(list.toString(2));
+        list.reversePrint(3);
 
 
 
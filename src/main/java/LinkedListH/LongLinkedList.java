@@ -0,0 +1,303 @@
+package LinkedListH;
+
+import LinkedListT.ListWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * long 单链表（数组实现，无装箱、无逐节点对象分配）
+ * <p>
+ * 结构与 IntLinkedList 相同，仅数据域为 long：
+ * 节点用下标表示，data[i] / next[i] 为第 i 个槽位的数据与后继下标，NIL 表示空指针。
+ * 删除的槽位放入空闲链表（借用 data[i] 保存下一个空闲槽位），插入时优先复用，
+ * 因此容量预留后 insert / delete 不产生任何对象分配。
+ */
+public class LongLinkedList {
+
+    protected static final int NIL = -1;
+    /** 槽位数上限（与 ArrayList 相同，为数组对象头预留余量） */
+    protected static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    protected long[] data;
+    protected int[] next;
+
+    protected int head = NIL;
+    protected int tail = NIL;
+    protected int size;
+
+    /** 空闲链表头（通过 data[] 串联） */
+    protected int free = NIL;
+    /** 已使用过的槽位数（高水位） */
+    protected int used;
+
+    public LongLinkedList() {
+        this(16);
+    }
+
+    public LongLinkedList(int initialCapacity) {
+        data = new long[Math.max(initialCapacity, 1)];
+        next = new int[data.length];
+    }
+
+    // ----------------- 槽位管理 -----------------
+
+    /** 分配一个槽位：优先复用空闲链表，否则使用新槽位（必要时扩容） */
+    protected int allocate(long value) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = (int) data[node];
+        } else {
+            if (used == data.length) {
+                grow(nextCapacity());
+            }
+            node = used++;
+        }
+        data[node] = value;
+        next[node] = NIL;
+        return node;
+    }
+
+    /** 释放槽位，放回空闲链表 */
+    protected void release(int node) {
+        data[node] = free;
+        next[node] = NIL;
+        free = node;
+    }
+
+    /**
+     * 翻倍后的容量，不超过 MAX_CAPACITY（直接乘2在容量达到 2^30 时会溢出为负数）
+     * @throws IllegalStateException 槽位已达上限时抛出
+     */
+    private int nextCapacity() {
+        if (data.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("元素数超过容量上限 " + MAX_CAPACITY);
+        }
+        return (int) Math.min(2L * data.length, MAX_CAPACITY);
+    }
+
+    /** 扩容所有并行数组 */
+    protected void grow(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    /** 预留容量，之后 size ≤ capacity 范围内的插入不再扩容 */
+    public void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            grow(capacity);
+        }
+    }
+
+    /** 第 pos 个节点的下标（从1开始） */
+    protected int nodeAt(int pos) {
+        if (pos < 1 || pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos == size) return tail;
+        int current = head;
+        for (int i = 1; i < pos; i++) {
+            current = next[current];
+        }
+        return current;
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    public void insert(long data) {
+        int newNode = allocate(data);
+        next[newNode] = head;
+        head = newNode;
+        if (tail == NIL) {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    public void insert(int pos, long data) {
+        if (pos == 1) {
+            insert(data);
+            return;
+        }
+        int prevNode = nodeAt(pos - 1); // 找到第pos-1个
+        int newNode = allocate(data);
+        next[newNode] = next[prevNode];
+        next[prevNode] = newNode;
+        if (prevNode == tail) {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    public void insertAtTail(long data) {
+        if (tail == NIL) {
+            insert(data);
+            return;
+        }
+        int newNode = allocate(data);
+        next[tail] = newNode;
+        tail = newNode;
+        size++;
+    }
+
+    public void delete(int pos) {
+        int removed;
+        if (pos == 1) {
+            if (head == NIL) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+            removed = head;
+            head = next[removed];
+            if (head == NIL) {
+                tail = NIL;
+            }
+        } else {
+            int prevNode = nodeAt(pos - 1);
+            removed = next[prevNode];
+            if (removed == NIL) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+            next[prevNode] = next[removed];
+            if (removed == tail) {
+                tail = prevNode;
+            }
+        }
+        release(removed);
+        size--;
+    }
+
+    public long get(int pos) {
+        return data[nodeAt(pos)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reverse() {
+        int prev = NIL;
+        int current = head;
+        tail = head;
+        while (current != NIL) {
+            int following = next[current];
+            next[current] = prev;
+            prev = current;
+            current = following;
+        }
+        head = prev;
+    }
+
+    /** 逆序打印全部元素，经 ListWriter 缓冲后批量写入 System.out */
+    public void reversePrint() {
+        reversePrint(Integer.MAX_VALUE);
+    }
+
+    /** 逆序打印最后 limit 个元素，超出部分以 " ..." 代替 */
+    public void reversePrint(int limit) {
+        try {
+            writeReverseTo(System.out, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // PrintStream 不会抛出 IOException
+        }
+        System.out.println();
+    }
+
+    // ----------------- 流式输出 -----------------
+
+    /** 按顺序将全部元素写入 out（空格分隔），经 ListWriter 缓冲后批量追加 */
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按顺序写入前 limit 个元素，超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     * 空间复杂度：O(1) —— 复用线程缓存的 ListWriter 缓冲区，数字直接写字节
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), false);
+    }
+
+    /** 按顺序将全部元素以 UTF-8 字节写入 channel */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, Integer.MAX_VALUE);
+    }
+
+    public void writeTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), false);
+    }
+
+    /** 逆序写入最后 limit 个元素（从尾到头） */
+    public void writeReverseTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), true);
+    }
+
+    public void writeReverseTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), true);
+    }
+
+    private void write(ListWriter w, boolean reversed) throws IOException {
+        try {
+            if (reversed) {
+                writeElementsReversed(w);
+            } else {
+                writeElements(w);
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    /** 从头到尾写入元素，达到长度上限时停止 */
+    protected void writeElements(ListWriter w) throws IOException {
+        for (int current = head; current != NIL; current = next[current]) {
+            if (!w.element(data[current])) break;
+        }
+    }
+
+    /**
+     * 从尾到头写入元素：原地反转 -> 顺序写入 -> 再反转回来（写出异常时同样恢复）
+     * 不使用递归或辅助栈，额外空间 O(1)
+     */
+    protected void writeElementsReversed(ListWriter w) throws IOException {
+        reverse();
+        try {
+            writeElements(w);
+        } finally {
+            reverse();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /** 前 limit 个元素（空格分隔，无末尾空格），超出部分以 " ..." 代替 */
+    public String toString(int limit) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        LongLinkedList list = new LongLinkedList();
+        list.insert(1, 4L << 40);
+        list.insert(2, 5);
+        list.insert(1, 3);
+        list.insert(2, 9);
+
+        System.out.println(list);
+
+        list.delete(2);
+
+        System.out.println(list);
+
+        list.reverse();
+
+        System.out.println(list);
+        list.reversePrint();
+    }
+}
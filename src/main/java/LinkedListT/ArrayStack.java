@@ -0,0 +1,216 @@
+package LinkedListT;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * 栈 / 双端队列实现（基于可扩容的环形数组）
+ * @param <E> 数据类型
+ * <p>
+ * 特性：
+ * 1. 元素连续存放在数组中，push/pop 只移动下标，不分配节点，
+ *    每个元素只占一个引用槽位（Stack 每个元素需要一个 SinglyNode）
+ * 2. 环形存储：栈顶下标 top 向低位增长，栈底一侧可通过 addLast/removeLast 操作，
+ *    两端均为 O(1)，可作为双端队列使用
+ * 3. 容量不足时扩容为 1.5 倍，摊还 O(1)；trimToSize 将容量收缩到当前元素个数
+ * 4. 出栈的槽位立即置 null，不会持有已出栈的对象
+ */
+public class ArrayStack<E> implements StackOps<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final Object[] EMPTY = {};
+
+    private Object[] elements;
+    /** 栈顶元素下标（size 为 0 时无意义） */
+    private int top;
+    private int size;
+
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayStack(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("容量必须≥0");
+        elements = capacity == 0 ? EMPTY : new Object[capacity];
+    }
+
+    /**
+     * 入栈
+     * 时间复杂度：摊还 O(1)
+     */
+    @Override
+    public void push(E data) {
+        if (size == elements.length) grow(size + 1);
+        if (--top < 0) top = elements.length - 1;
+        elements[top] = data;
+        size++;
+    }
+
+    /**
+     * 批量入栈：已知元素个数时先一次性扩容，再逐个写入
+     * 时间复杂度：O(m)
+     */
+    @Override
+    public void pushAll(Iterable<? extends E> values) {
+        if (values instanceof Collection) {
+            ensureCapacity(size + ((Collection<?>) values).size());
+        }
+        for (E value : values) {
+            push(value);
+        }
+    }
+
+    public void pushAll(E[] values) {
+        ensureCapacity(size + values.length);
+        for (E value : values) {
+            push(value);
+        }
+    }
+
+    /**
+     * 出栈并返回栈顶元素
+     * 时间复杂度：O(1)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pop() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        E data = (E) elements[top];
+        elements[top] = null;
+        if (++top == elements.length) top = 0;
+        size--;
+        return data;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        return (E) elements[top];
+    }
+
+    // ----------------- 栈底一侧（双端队列） -----------------
+
+    /** 在栈底追加元素，时间复杂度：摊还 O(1) */
+    public void addLast(E data) {
+        if (size == elements.length) grow(size + 1);
+        elements[index(size)] = data;
+        size++;
+    }
+
+    /** 移除并返回栈底元素，时间复杂度：O(1) */
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        int last = index(size - 1);
+        E data = (E) elements[last];
+        elements[last] = null;
+        size--;
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekLast() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        return (E) elements[index(size - 1)];
+    }
+
+    /**
+     * 按栈顶到栈底的顺序获取第 pos 个元素（从1开始）
+     * 时间复杂度：O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过栈长度");
+        return (E) elements[index(pos - 1)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[index(i)] = null;
+        }
+        top = 0;
+        size = 0;
+    }
+
+    // ----------------- 容量管理 -----------------
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    /** 预留至少 minCapacity 个槽位 */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) grow(minCapacity);
+    }
+
+    /** 将容量收缩到当前元素个数，释放多余的数组空间 */
+    public void trimToSize() {
+        if (size < elements.length) resize(size);
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("栈容量超出 int 范围");
+        int newCapacity = elements.length + (elements.length >> 1);
+        if (newCapacity - minCapacity < 0) newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        if (newCapacity < 0) newCapacity = Integer.MAX_VALUE - 8;
+        resize(newCapacity);
+    }
+
+    /** 按栈顶到栈底的顺序搬到新数组的开头，top 归零 */
+    private void resize(int capacity) {
+        Object[] copy = capacity == 0 ? EMPTY : new Object[capacity];
+        int first = Math.min(size, elements.length - top);
+        System.arraycopy(elements, top, copy, 0, first);
+        System.arraycopy(elements, 0, copy, first, size - first);
+        elements = copy;
+        top = 0;
+    }
+
+    /** 第 offset 个元素（栈顶为0）在数组中的下标 */
+    private int index(int offset) {
+        int i = top + offset;
+        return i >= elements.length ? i - elements.length : i;
+    }
+
+    /** 按栈顶到栈底的顺序输出 */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(elements[index(i)]);
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        ArrayStack<Integer> myStack = new ArrayStack<>(2);
+        myStack.push(1);
+        myStack.push(2);
+        myStack.push(3);
+        System.out.println(myStack + " (容量 " + myStack.capacity() + ")");
+        System.out.println(myStack.pop() + " " + myStack.peek());
+
+        myStack.addLast(0);
+        System.out.println(myStack + " 栈底 " + myStack.peekLast());
+        myStack.pushAll(Arrays.asList(7, 8, 9));
+        myStack.trimToSize();
+        System.out.println(myStack + " (容量 " + myStack.capacity() + ")");
+        while (!myStack.isEmpty()) {
+            System.out.print(myStack.removeLast() + " ");
+        }
+        System.out.println();
+    }
+}
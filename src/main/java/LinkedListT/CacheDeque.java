@@ -0,0 +1,89 @@
+package LinkedListT;
+
+/**
+ * 淘汰策略使用的侵入式双向链表：节点本身即链表元素，不额外分配包装节点
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * <p>
+ * 头部为最久未访问一端，尾部为最近访问一端；
+ * 同一节点同一时刻只能属于一个 CacheDeque。所有操作 O(1)，不是线程安全的。
+ */
+public class CacheDeque<K, V> {
+    private CacheNode<K, V> head;
+    private CacheNode<K, V> tail;
+    private int size;
+
+    /** 头节点（最久未访问），为空时返回 null */
+    public CacheNode<K, V> first() {
+        return head;
+    }
+
+    /** 尾节点（最近访问），为空时返回 null */
+    public CacheNode<K, V> last() {
+        return tail;
+    }
+
+    /** 下一个更近访问的节点 */
+    @SuppressWarnings("unchecked")
+    public CacheNode<K, V> next(CacheNode<K, V> node) {
+        return (CacheNode<K, V>) node.next;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /** 接到尾部 */
+    public void linkLast(CacheNode<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+    }
+
+    /** 从链表中摘除 */
+    @SuppressWarnings("unchecked")
+    public void unlink(CacheNode<K, V> node) {
+        CacheNode<K, V> prev = (CacheNode<K, V>) node.prev;
+        CacheNode<K, V> next = (CacheNode<K, V>) node.next;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /** 移到尾部（标记为最近访问） */
+    public void moveToLast(CacheNode<K, V> node) {
+        if (node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+
+    /** 删除并返回头节点，为空时返回 null */
+    public CacheNode<K, V> pollFirst() {
+        CacheNode<K, V> first = head;
+        if (first != null) {
+            unlink(first);
+        }
+        return first;
+    }
+}
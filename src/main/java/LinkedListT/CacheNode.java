@@ -0,0 +1,33 @@
+package LinkedListT;
+
+/**
+ * 缓存条目节点（DoublyNode 的扩展）
+ * @param <K> 键类型
+ * @param <V> 值类型（存放在 data 中）
+ * <p>
+ * 特性：
+ * 1. 节点同时是缓存条目与淘汰策略链表中的元素，策略移动节点只改 prev/next，O(1)
+ * 2. prev/next 的静态类型为 DoublyNode<V>，同一策略链表中的节点都是 CacheNode，
+ *    由 CacheDeque 负责转换
+ * 3. region 与 policyData 由淘汰策略使用（所在区域、所在频率桶等），缓存本身不读取
+ * 所有字段只在所属分段的锁内读写。
+ */
+public class CacheNode<K, V> extends DoublyNode<V> {
+    /** 键 */
+    public final K key;
+    /** 键的扰动哈希值（分段选择与频率统计共用） */
+    public final int hash;
+    /** 条目权重（按条目计数时为 1） */
+    public int weight;
+    /** 策略使用：节点所在区域 */
+    public int region;
+    /** 策略使用：附加数据 */
+    public Object policyData;
+
+    public CacheNode(K key, int hash, V value, int weight) {
+        super(value);
+        this.key = key;
+        this.hash = hash;
+        this.weight = weight;
+    }
+}
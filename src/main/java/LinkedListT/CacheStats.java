@@ -0,0 +1,53 @@
+package LinkedListT;
+
+/**
+ * 缓存统计快照（不可变）
+ * 由 ConcurrentCache.stats() 生成，各计数在并发访问下分别读取，彼此之间不保证同一时刻一致。
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long evictionWeight;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /** 命中率，没有请求时为 1 */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /** 因容量不足被淘汰的条目数（不含显式删除与替换） */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /** 被淘汰条目的权重之和 */
+    public long evictionWeight() {
+        return evictionWeight;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.4f, evictions=%d, evictionWeight=%d",
+                hitCount, missCount, hitRate(), evictionCount, evictionWeight);
+    }
+}
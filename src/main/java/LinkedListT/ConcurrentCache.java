@@ -0,0 +1,328 @@
+package LinkedListT;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 线程安全的有界缓存（分段锁 + 可插拔淘汰策略）
+ * @param <K> 键类型（不允许 null）
+ * @param <V> 值类型（不允许 null）
+ * <p>
+ * 特性：
+ * 1. 条目即 CacheNode（DoublyNode 的扩展），淘汰策略直接在节点上调整顺序，
+ *    get / put / remove / 淘汰均为 O(1) 期望 —— 不存在"先按位置查找再 delete(pos)"的 O(n) 路径
+ * 2. 容量按权重计：默认每个条目权重为 1（按条目数限制），也可以传入 weigher 按字节数等限制
+ * 3. 键按哈希分到 2 的幂个分段，每个分段有独立的锁、哈希表、淘汰策略实例与权重预算；
+ *    不同分段的读写互不阻塞，访问分布越分散，可并行的线程越多
+ * 4. 淘汰策略通过 EvictionPolicy.Factory 指定：LRU、LFU、W-TinyLFU 或自定义实现
+ * 5. 命中 / 未命中 / 淘汰计数使用 LongAdder，多线程累加不争用同一缓存行
+ * 淘汰顺序在分段内精确、在全局近似：每个分段只在自己的预算内淘汰。
+ */
+public class ConcurrentCache<K, V> {
+    /** 每个分段至少分到的权重，容量过小时减少分段数 */
+    private static final int MIN_SEGMENT_WEIGHT = 16;
+
+    /** 一个分段：lock 保护其中全部字段以及所属节点 */
+    private static final class Segment<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final HashMap<K, CacheNode<K, V>> map = new HashMap<>();
+        final EvictionPolicy<K, V> policy;
+        final long maximumWeight;
+        long weight;
+
+        Segment(EvictionPolicy<K, V> policy, long maximumWeight) {
+            this.policy = policy;
+            this.maximumWeight = maximumWeight;
+        }
+
+        void lock() {
+            lock.lock();
+        }
+
+        void unlock() {
+            lock.unlock();
+        }
+    }
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long maximumWeight;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+
+    /** 按条目数限制容量的 LRU 缓存 */
+    public ConcurrentCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.lru());
+    }
+
+    /** 按条目数限制容量 */
+    public ConcurrentCache(long maximumSize, EvictionPolicy.Factory<K, V> policy) {
+        this(maximumSize, (key, value) -> 1, policy, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maximumWeight 权重上限（所有条目权重之和）
+     * @param weigher 条目权重，必须≥0，条目写入时计算一次
+     * @param policy 淘汰策略，每个分段调用一次 create
+     * @param concurrencyLevel 预计并发访问的线程数，分段数取不小于它的 2 的幂
+     * @throws IllegalArgumentException 容量小于0或并发级别小于1时抛出
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentCache(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher,
+                           EvictionPolicy.Factory<K, V> policy, int concurrencyLevel) {
+        if (maximumWeight < 0) throw new IllegalArgumentException("容量必须≥0");
+        if (concurrencyLevel < 1) throw new IllegalArgumentException("并发级别必须≥1");
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+
+        int count = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        count = Math.min(count, 1 << 16);
+        while (count > 1 && maximumWeight / count < MIN_SEGMENT_WEIGHT) {
+            count >>>= 1;
+        }
+        segments = (Segment<K, V>[]) new Segment[count];
+        segmentMask = count - 1;
+        long base = maximumWeight / count;
+        long remainder = maximumWeight % count;
+        for (int i = 0; i < count; i++) {
+            long budget = base + (i < remainder ? 1 : 0); // 各分段预算之和恰为 maximumWeight
+            segments[i] = new Segment<>(policy.create(budget), budget);
+        }
+    }
+
+    // ----------------- 读取 -----------------
+
+    /**
+     * 读取缓存值，命中时通知淘汰策略
+     * @return 缓存值，不存在时返回 null
+     * 时间复杂度：O(1) 期望
+     */
+    public V get(Object key) {
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            CacheNode<K, V> node = segment.map.get(key);
+            if (node == null) {
+                segment.policy.onMiss(hash);
+                misses.increment();
+                return null;
+            }
+            segment.policy.onAccess(node);
+            hits.increment();
+            return node.data;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * 读取缓存值，未命中时用 loader 计算并写入
+     * loader 在分段锁内执行：同一个键只会计算一次，但计算期间同一分段的其他访问会等待，
+     * loader 不应访问本缓存。loader 返回 null 时不写入。
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            CacheNode<K, V> node = segment.map.get(key);
+            if (node != null) {
+                segment.policy.onAccess(node);
+                hits.increment();
+                return node.data;
+            }
+            segment.policy.onMiss(hash);
+            misses.increment();
+            V value = loader.apply(key);
+            if (value != null) {
+                insert(segment, key, hash, value);
+            }
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** 是否包含 key（不计入统计，不影响淘汰顺序） */
+    public boolean containsKey(Object key) {
+        Segment<K, V> segment = segmentFor(spread(key.hashCode()));
+        segment.lock();
+        try {
+            return segment.map.containsKey(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    // ----------------- 写入与删除 -----------------
+
+    /**
+     * 写入（替换已有值），超出容量时按淘汰策略淘汰
+     * @return 原值，不存在时返回 null
+     * @throws IllegalArgumentException weigher 返回负数时抛出
+     * 时间复杂度：O(1) 期望（每次淘汰 O(1)）
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            return insert(segment, key, hash, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** 在分段锁内写入并淘汰超出预算的条目 */
+    private V insert(Segment<K, V> segment, K key, int hash, V value) {
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) throw new IllegalArgumentException("权重必须≥0");
+        CacheNode<K, V> node = segment.map.get(key);
+        V previous = null;
+        if (node == null) {
+            node = new CacheNode<>(key, hash, value, weight);
+            segment.map.put(key, node);
+            segment.weight += weight;
+            segment.policy.onInsert(node);
+        } else {
+            previous = node.data;
+            int oldWeight = node.weight;
+            node.data = value;
+            node.weight = weight;
+            segment.weight += weight - oldWeight;
+            segment.policy.onUpdate(node, oldWeight);
+        }
+        while (segment.weight > segment.maximumWeight) {
+            CacheNode<K, V> victim = segment.policy.evict();
+            if (victim == null) break;
+            segment.map.remove(victim.key);
+            segment.weight -= victim.weight;
+            evictions.increment();
+            evictedWeight.add(victim.weight);
+            victim.data = null;
+        }
+        return previous;
+    }
+
+    /**
+     * 删除条目
+     * @return 原值，不存在时返回 null
+     */
+    public V remove(Object key) {
+        Segment<K, V> segment = segmentFor(spread(key.hashCode()));
+        segment.lock();
+        try {
+            CacheNode<K, V> node = segment.map.remove(key);
+            if (node == null) return null;
+            segment.policy.onRemove(node);
+            segment.weight -= node.weight;
+            V value = node.data;
+            node.data = null;
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** 清空全部条目（逐个通知淘汰策略，不计入淘汰统计） */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                for (CacheNode<K, V> node : segment.map.values()) {
+                    segment.policy.onRemove(node);
+                    node.data = null;
+                }
+                segment.map.clear();
+                segment.weight = 0;
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    // ----------------- 容量与统计 -----------------
+
+    /** 条目个数（逐段加锁累加，并发修改时为近似值） */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return size;
+    }
+
+    /** 当前权重之和（并发修改时为近似值） */
+    public long weightedSize() {
+        long weight = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                weight += segment.weight;
+            } finally {
+                segment.unlock();
+            }
+        }
+        return weight;
+    }
+
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /** 分段数 */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    /** 命中 / 未命中 / 淘汰计数的快照 */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), evictedWeight.sum());
+    }
+
+    // ----------------- 分段选择 -----------------
+
+    /** 扰动哈希值：乘黄金分割常数后高位充分混合，分段取高位，频率统计用全部位 */
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[(hash >>> 16) & segmentMask];
+    }
+
+    public static void main(String[] args) {
+        ConcurrentCache<String, Integer> lru = new ConcurrentCache<>(3, EvictionPolicy.lru());
+        lru.put("a", 1);
+        lru.put("b", 2);
+        lru.put("c", 3);
+        lru.get("a");
+        lru.put("d", 4); // 淘汰最久未访问的 b
+        System.out.println("LRU: a=" + lru.get("a") + " b=" + lru.get("b") + " | " + lru.stats());
+
+        // 按字符串长度计权重，容量 10
+        ConcurrentCache<String, String> weighted = new ConcurrentCache<>(10,
+                (key, value) -> value.length(), EvictionPolicy.lfu(), 1);
+        weighted.put("x", "xxxx");
+        weighted.put("y", "yyyy");
+        weighted.get("x");
+        weighted.put("z", "zzzz"); // 总权重 12 > 10，淘汰访问次数最少的 y
+        System.out.println("LFU 权重: " + weighted.weightedSize() + " y=" + weighted.get("y") + " x=" + weighted.get("x"));
+    }
+}
@@ -0,0 +1,269 @@
+package LinkedListT;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 线程安全双端队列（基于 DoublyNode，头尾分锁）
+ * @param <E> 数据类型（不允许 null）
+ * <p>
+ * 特性：
+ * 1. 使用头、尾两个哨兵节点，头端操作持有 headLock，尾端操作持有 tailLock，两端互不阻塞
+ * 2. 头端只写哨兵 next 与首节点 prev，尾端只写哨兵 prev 与尾节点 next；
+ *    元素不少于 3 个时两端访问的字段互不重叠
+ * 3. 决策时读取的元素个数最多比实际多1（另一端正在进行的删除），因此元素少于
+ *    SOLO_THRESHOLD(4) 时同时持有两把锁（固定先头后尾，避免死锁）
+ * 4. 迭代器弱一致：分批在两把锁下复制元素，不抛出 ConcurrentModificationException；
+ *    从头端删除的节点 next 指向自身，它之前的节点也都已删除，迭代器从头重新开始；
+ *    从尾端删除的节点 next 置为 null，它之后的节点也都已删除，迭代器就此结束
+ *    （与 LinkedBlockingDeque 相同，两种情况都不会重复返回元素）
+ */
+public class ConcurrentDeque<E> implements Iterable<E> {
+    /** 元素个数不少于该值时，单端操作只需持有本端的锁 */
+    private static final int SOLO_THRESHOLD = 4;
+    /** 迭代器每次加锁复制的元素个数 */
+    private static final int ITERATOR_BATCH = 64;
+
+    private final DoublyNode<E> headSentinel = new DoublyNode<>(null);
+    private final DoublyNode<E> tailSentinel = new DoublyNode<>(null);
+    private final ReentrantLock headLock = new ReentrantLock();
+    private final ReentrantLock tailLock = new ReentrantLock();
+    private final AtomicInteger count = new AtomicInteger();
+
+    public ConcurrentDeque() {
+        headSentinel.next = tailSentinel;
+        tailSentinel.prev = headSentinel;
+    }
+
+    // ----------------- 加锁协议 -----------------
+
+    /** 头端加锁，元素过少时连同尾锁一起获取；返回是否持有尾锁 */
+    private boolean lockHead() {
+        headLock.lock();
+        if (count.get() < SOLO_THRESHOLD) {
+            tailLock.lock();
+            return true;
+        }
+        return false;
+    }
+
+    /** 尾端加锁，元素过少时按先头后尾的顺序重新获取两把锁；返回是否持有头锁 */
+    private boolean lockTail() {
+        tailLock.lock();
+        if (count.get() >= SOLO_THRESHOLD) {
+            return false;
+        }
+        tailLock.unlock();
+        headLock.lock();
+        tailLock.lock();
+        return true;
+    }
+
+    private void unlockHead(boolean both) {
+        if (both) {
+            tailLock.unlock();
+        }
+        headLock.unlock();
+    }
+
+    private void unlockTail(boolean both) {
+        tailLock.unlock();
+        if (both) {
+            headLock.unlock();
+        }
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    /** 头部插入，O(1) */
+    public void offerFirst(E data) {
+        DoublyNode<E> newNode = new DoublyNode<>(Objects.requireNonNull(data));
+        boolean both = lockHead();
+        try {
+            DoublyNode<E> first = headSentinel.next;
+            newNode.prev = headSentinel;
+            newNode.next = first;
+            first.prev = newNode;
+            headSentinel.next = newNode;
+            count.incrementAndGet();
+        } finally {
+            unlockHead(both);
+        }
+    }
+
+    /** 尾部插入，O(1) */
+    public void offerLast(E data) {
+        DoublyNode<E> newNode = new DoublyNode<>(Objects.requireNonNull(data));
+        boolean both = lockTail();
+        try {
+            DoublyNode<E> last = tailSentinel.prev;
+            newNode.next = tailSentinel;
+            newNode.prev = last;
+            last.next = newNode;
+            tailSentinel.prev = newNode;
+            count.incrementAndGet();
+        } finally {
+            unlockTail(both);
+        }
+    }
+
+    /** 删除并返回头部元素，队列为空时返回 null */
+    public E pollFirst() {
+        boolean both = lockHead();
+        try {
+            DoublyNode<E> first = headSentinel.next;
+            if (first == tailSentinel) {
+                return null;
+            }
+            DoublyNode<E> second = first.next;
+            headSentinel.next = second;
+            second.prev = headSentinel;
+            count.decrementAndGet();
+            return unlinked(first, first);
+        } finally {
+            unlockHead(both);
+        }
+    }
+
+    /** 删除并返回尾部元素，队列为空时返回 null */
+    public E pollLast() {
+        boolean both = lockTail();
+        try {
+            DoublyNode<E> last = tailSentinel.prev;
+            if (last == headSentinel) {
+                return null;
+            }
+            DoublyNode<E> secondLast = last.prev;
+            tailSentinel.prev = secondLast;
+            secondLast.next = tailSentinel;
+            count.decrementAndGet();
+            return unlinked(last, null);
+        } finally {
+            unlockTail(both);
+        }
+    }
+
+    /**
+     * 清理已摘除的节点，next 作为删除标记供迭代器识别
+     * @param next 头端删除时传入节点自身（迭代器从头重新开始），尾端删除时传入 null（迭代器结束）
+     */
+    private E unlinked(DoublyNode<E> node, DoublyNode<E> next) {
+        E data = node.data;
+        node.data = null;
+        node.prev = null;
+        node.next = next;
+        return data;
+    }
+
+    /** 查看头部元素，队列为空时返回 null */
+    public E peekFirst() {
+        boolean both = lockHead();
+        try {
+            return headSentinel.next.data; // 空队列时为尾哨兵，data 为 null
+        } finally {
+            unlockHead(both);
+        }
+    }
+
+    /** 查看尾部元素，队列为空时返回 null */
+    public E peekLast() {
+        boolean both = lockTail();
+        try {
+            return tailSentinel.prev.data;
+        } finally {
+            unlockTail(both);
+        }
+    }
+
+    /** 元素个数（并发修改时为近似值） */
+    public int size() {
+        return count.get();
+    }
+
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (E e : this) {
+            sb.append(e).append(" ");
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * 弱一致迭代器：反映迭代开始后的部分修改，不会抛出 ConcurrentModificationException
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Object[] batch = new Object[ITERATOR_BATCH];
+            private int batchSize;
+            private int index;
+            /** 已复制的最后一个节点，null 表示尚未开始 */
+            private DoublyNode<E> last;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (index < batchSize) {
+                    return true;
+                }
+                if (!exhausted) {
+                    fill();
+                }
+                return index < batchSize;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                E value = (E) batch[index];
+                batch[index++] = null;
+                return value;
+            }
+
+            private void fill() {
+                batchSize = 0;
+                index = 0;
+                headLock.lock();
+                tailLock.lock();
+                try {
+                    DoublyNode<E> p;
+                    if (last == null || last.next == last) {
+                        p = headSentinel.next; // 尚未开始，或上次停留的节点已从头端删除：从头开始
+                    } else if (last.next == null) {
+                        p = tailSentinel; // 上次停留的节点已从尾端删除：之后没有剩余元素
+                    } else {
+                        p = last.next;
+                    }
+                    while (p != tailSentinel && batchSize < ITERATOR_BATCH) {
+                        batch[batchSize++] = p.data;
+                        last = p;
+                        p = p.next;
+                    }
+                    exhausted = (p == tailSentinel);
+                } finally {
+                    tailLock.unlock();
+                    headLock.unlock();
+                }
+            }
+        };
+    }
+
+    public static void main(String[] args) {
+        ConcurrentDeque<Integer> myDeque = new ConcurrentDeque<>();
+        myDeque.offerFirst(2);
+        myDeque.offerFirst(1);
+        myDeque.offerLast(3);
+        myDeque.offerLast(4);
+        System.out.println(myDeque);
+        System.out.println(myDeque.pollFirst() + " " + myDeque.pollLast() + " -> " + myDeque);
+    }
+}
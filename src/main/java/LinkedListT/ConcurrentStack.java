@@ -0,0 +1,126 @@
+package LinkedListT;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 无锁并发栈（Treiber 栈 + 消除回退数组）
+ * @param <E> 数据类型（不允许 null）
+ * <p>
+ * 特性：
+ * 1. 栈顶为 AtomicReference，push/pop 通过 CAS 修改，无需加锁
+ * 2. CAS 失败（竞争激烈）时进入消除数组：push 在随机槽位挂出节点并短暂等待，
+ *    pop 在随机槽位取走挂出的节点，二者直接配对完成而不触碰栈顶
+ * 3. pop 直接返回元素，避免 top() + pop() 两步操作之间的竞态
+ */
+public class ConcurrentStack<E> {
+    /** 消除槽位被 pop 取走后的标记 */
+    private static final Object TAKEN = new Object();
+    /** push 在消除槽位中等待配对的自旋次数 */
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final AtomicReference<SinglyNode<E>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Object> elimination;
+
+    public ConcurrentStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /** @param eliminationSlots 消除数组槽位数 */
+    public ConcurrentStack(int eliminationSlots) {
+        if (eliminationSlots < 1) throw new IllegalArgumentException("消除槽位数必须≥1");
+        this.elimination = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * 入栈
+     * 时间复杂度：O(1) 期望（竞争时重试）
+     * @throws NullPointerException 元素为 null 时抛出
+     */
+    public void push(E data) {
+        SinglyNode<E> newNode = new SinglyNode<>(Objects.requireNonNull(data));
+        while (true) {
+            SinglyNode<E> oldTop = top.get();
+            newNode.next = oldTop;
+            if (top.compareAndSet(oldTop, newNode)) {
+                return;
+            }
+            if (eliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 出栈并返回栈顶元素
+     * @return 栈顶元素；栈为空时返回 null
+     */
+    public E pop() {
+        while (true) {
+            SinglyNode<E> oldTop = top.get();
+            if (oldTop == null) {
+                return null;
+            }
+            if (top.compareAndSet(oldTop, oldTop.next)) {
+                return oldTop.data;
+            }
+            E eliminated = eliminatePop();
+            if (eliminated != null) {
+                return eliminated;
+            }
+        }
+    }
+
+    /** 查看栈顶元素（不出栈），栈为空时返回 null */
+    public E peek() {
+        SinglyNode<E> current = top.get();
+        return current == null ? null : current.data;
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    // ----------------- 消除回退 -----------------
+
+    /** 在随机槽位挂出节点等待 pop 配对，配对成功返回 true */
+    private boolean eliminatePush(SinglyNode<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false; // 槽位被占用，回到栈顶重试
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (elimination.get(slot) == TAKEN) {
+                elimination.set(slot, null);
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        if (elimination.compareAndSet(slot, node, null)) {
+            return false; // 超时未配对，撤回节点
+        }
+        elimination.set(slot, null); // 撤回前已被取走
+        return true;
+    }
+
+    /** 从随机槽位取走挂出的节点，成功返回其元素，否则返回 null */
+    @SuppressWarnings("unchecked")
+    private E eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        Object offered = elimination.get(slot);
+        if (offered != null && offered != TAKEN && elimination.compareAndSet(slot, offered, TAKEN)) {
+            return ((SinglyNode<E>) offered).data;
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        ConcurrentStack<Integer> myStack = new ConcurrentStack<>();
+        myStack.push(1);
+        myStack.push(2);
+        myStack.push(3);
+        System.out.println(myStack.pop() + " " + myStack.peek() + " " + myStack.isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+package LinkedListT;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * 直接内存 / 内存映射缓冲区的立即释放工具
+ * <p>
+ * 优先通过 JDK 的 cleaner 立即释放；不可用时什么也不做，交由 GC 回收。
+ */
+final class DirectBuffers {
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method method = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            java.lang.reflect.Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            method = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            method = null;
+        }
+        INVOKE_CLEANER = method;
+        UNSAFE = unsafe;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /** 释放直接缓冲区，调用后不得再访问该缓冲区 */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 释放失败时交由 GC 回收
+        }
+    }
+}
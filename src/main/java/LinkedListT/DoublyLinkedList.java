@@ -1,46 +1,181 @@
 package LinkedListT;
 
+import java.io.IOException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * 双向链表实现类
  * <p>
  * 特性：
  * 1. 需要维护 prev 和 next 指针
  * 2. 所有修改操作必须同时维护双向指针，需要单独实现
+ * 3. 位置访问从头、尾、游标三者中最近的一端出发
+ * 4. 惰性反转模式（setLazyReversal）：反转只翻转方向标志，O(1)；
+ *    节点链保持原物理顺序，逻辑位置 pos 对应物理位置 size+1-pos，
+ *    头部 / 尾部 / 位置插入删除、getNode、迭代、toString、reversePrint 直接按标志换向，
+ *    其余沿 next 遍历的批量操作开始前调用 materialize() 实际重新链接一次
+ * 游标与 finger 相关的位置始终按物理顺序记录。
  */
 public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
 
+    /** 游标（finger）缓存：最近一次位置访问得到的节点，null 表示失效 */
+    private DoublyNode<E> finger;
+    /** 游标节点所在位置（从1开始计数） */
+    private int fingerPos;
+
+    /** 是否启用惰性反转模式 */
+    private boolean lazyReversal;
+    /** 逻辑顺序是否与物理顺序相反（仅惰性反转模式下可能为 true） */
+    private boolean reversed;
+
+    public DoublyLinkedList() {
+    }
+
+    /** 按 values 的迭代顺序一次遍历构造，O(m) */
+    public DoublyLinkedList(Iterable<? extends E> values) {
+        addAll(values);
+    }
+
+    /** 按数组顺序一次遍历构造，O(m) */
+    @SafeVarargs
+    public static <E> DoublyLinkedList<E> fromArray(E... values) {
+        DoublyLinkedList<E> list = new DoublyLinkedList<>();
+        for (E value : values) {
+            list.addLast(value);
+        }
+        return list;
+    }
+
     // ----------------- 核心操作 -----------------
 
-    /** 头部插入新节点（需维护原头节点的 prev）
-     * 时间复杂度：O(1) —— 直接修改头指针
-     * 空间复杂度：O(1) —— 仅创建新节点
+    /**
+     * 获取逻辑位置 pos 的节点（惰性反转后按物理位置 size+1-pos 查找）
+     * 时间复杂度：同 nodeAt
+     */
+    @Override
+    public DoublyNode<E> getNode(int pos) throws IndexOutOfBoundsException {
+        return nodeAt(reversed ? physical(pos) : pos);
+    }
+
+    /**
+     * 逻辑位置 pos 对应的物理位置
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过链表长度时抛出
+     */
+    private int physical(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        return size + 1 - pos;
+    }
+
+    /**
+     * 获取物理位置 pos 的节点（双向查找 + 游标缓存）
+     * 实现策略：
+     * 1. 在头节点、尾节点、游标三个起点中选择距离目标最近的一个
+     * 2. 按方向沿 next 或 prev 移动，结束后更新游标
+     * 时间复杂度：O(min(pos, n-pos, |pos-游标|)) —— 顺序访问 pos, pos+1... 均摊 O(1)
+     * 空间复杂度：O(1) —— 仅使用临时变量
      */
+    private DoublyNode<E> nodeAt(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+
+        DoublyNode<E> current;
+        int currentPos;
+        if (pos - 1 <= size - pos) {
+            current = head;
+            currentPos = 1;
+        } else {
+            current = tail;
+            currentPos = size;
+        }
+        if (finger != null && Math.abs(pos - fingerPos) < Math.abs(pos - currentPos)) {
+            current = finger;
+            currentPos = fingerPos;
+        }
+
+        while (currentPos < pos) {
+            current = current.next;
+            currentPos++;
+        }
+        while (currentPos > pos) {
+            current = current.prev;
+            currentPos--;
+        }
+
+        finger = current;
+        fingerPos = pos;
+        return current;
+    }
+
+    /** 反转后游标节点不变，位置镜像为 size+1-pos */
+    private void mirrorFinger() {
+        if (finger != null) {
+            fingerPos = size + 1 - fingerPos;
+        }
+    }
+
+    /** 头部插入（惰性反转后接在物理尾部），O(1) */
     @Override
     public void insert(E data) {
-        DoublyNode<E> newNode = new DoublyNode<>(data);
+        if (reversed) {
+            linkLast(data);
+        } else {
+            linkFirst(data);
+        }
+    }
+
+    /** 物理头部插入新节点（需维护原头节点的 prev）
+     * 时间复杂度：O(1) —— 直接修改头指针
+     * 空间复杂度：O(1) —— 仅创建新节点
+     */
+    private void linkFirst(E data) {
+        DoublyNode<E> newNode = obtainNode(data);
         // 需要考虑next为null时next的prev没法赋值的问题
         if (head != null) {
             head.prev = newNode; // 原头节点前驱指向新节点
         }
         newNode.next = head; // 新节点后继指向原头节点
         head = newNode;      // 更新头节点
+        if (tail == null) {
+            tail = newNode;  // 空链表插入时头尾相同
+        }
+        size++;
+        modCount++;
+        fingerPos++;         // 原有节点整体后移一位
     }
 
     /**
-     * 指定位置插入新节点
+     * 在逻辑位置 pos 插入（pos=1 为头部，pos=size+1 为尾部）
+     * 惰性反转后新节点接在物理位置 size+1-pos 的节点之后，pos=size+1 时接在物理头部
+     */
+    @Override
+    public void insert(int pos, E data) {
+        if (!reversed) {
+            linkAt(pos, data);
+        } else if (pos == size + 1) {
+            linkFirst(data);
+        } else {
+            linkAt(physical(pos) + 1, data);
+        }
+    }
+
+    /**
+     * 物理位置插入新节点
      * 关键操作：
      * 1. 维护新节点与前后节点的双向指针
      * 2. 处理插入末尾的特殊情况
-     * 时间复杂度：O(n) —— 需找到前驱节点
+     * 时间复杂度：O(min(pos, n-pos)) —— 从较近一端查找前驱节点
      * 空间复杂度：O(1) —— 仅创建新节点
      */
-    @Override
-    public void insert(int pos, E data) {
-        DoublyNode<E> newNode = new DoublyNode<>(data);
+    private void linkAt(int pos, E data) {
         if (pos == 1) {
-            insert(data);
+            linkFirst(data);
         } else {
-            DoublyNode<E> prevNode = getNode(pos - 1);
+            DoublyNode<E> prevNode = nodeAt(pos - 1);
+            DoublyNode<E> newNode = obtainNode(data);
             // 维护新节点指针
             newNode.prev = prevNode;
             newNode.next = prevNode.next;
@@ -53,81 +188,290 @@ public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
 
             // 维护前驱节点指针
             prevNode.next = newNode;
+
+            if (prevNode == tail) {
+                tail = newNode; // 插入到末尾时更新尾指针
+            }
+            size++;
+            modCount++;
+
+            // 游标指向新节点，连续插入 pos, pos+1... 时无需重新查找
+            finger = newNode;
+            fingerPos = pos;
+        }
+    }
+
+    /** 尾部插入（惰性反转后接在物理头部），O(1) */
+    @Override
+    public void addLast(E data) {
+        if (reversed) {
+            linkFirst(data);
+        } else {
+            linkLast(data);
         }
     }
 
     /**
-     * 链表尾部插入新节点
+     * 物理尾部插入新节点
      * 实现策略：
-     * 1. 找到当前尾节点
+     * 1. 直接通过尾指针定位当前尾节点
      * 2. 维护新节点与前驱的双向指针
-     * 时间复杂度：O(n) —— 需遍历到链表末尾
+     * 时间复杂度：O(1) —— 无需遍历
      * 空间复杂度：O(1) —— 仅创建新节点
      */
-    public void insertAtTail(E data) {
-        DoublyNode<E> newNode = new DoublyNode<>(data);
-        if (head == null) {
+    private void linkLast(E data) {
+        DoublyNode<E> newNode = obtainNode(data);
+        if (tail == null) {
             head = newNode;
         } else {
-            DoublyNode<E> current = head;
-            while (current.next != null) {
-                current = current.next;
-            }
-            current.next = newNode;
-            newNode.prev = current;
+            tail.next = newNode;
+            newNode.prev = tail;
         }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    /** 链表尾部插入新节点（等价于 addLast） */
+    public void insertAtTail(E data) {
+        addLast(data);
     }
 
     /**
-     * 删除指定位置节点
+     * 删除并返回尾部元素（利用 prev 指针）
+     * @throws java.util.NoSuchElementException 链表为空时抛出
+     * 时间复杂度：O(1) —— 直接通过尾指针回退
+     */
+    public E removeLast() {
+        if (tail == null) throw new java.util.NoSuchElementException("链表为空");
+        if (reversed) { // 逻辑尾部即物理头部
+            E data = head.data;
+            unlinkAt(1);
+            return data;
+        }
+        DoublyNode<E> last = tail;
+        if (finger == last) {
+            finger = null;
+        }
+        tail = last.prev;
+        if (tail == null) {
+            head = null; // 删除最后一个节点
+        } else {
+            tail.next = null;
+            last.prev = null;
+        }
+        size--;
+        modCount++;
+        E data = last.data;
+        recycle(last);
+        return data;
+    }
+
+    /** 尾部元素（惰性反转后为物理头部），O(1) */
+    @Override
+    public E peekLast() {
+        if (head == null) throw new java.util.NoSuchElementException("链表为空");
+        return reversed ? head.data : tail.data;
+    }
+
+    /** 删除逻辑位置 pos 的节点（惰性反转后删除物理位置 size+1-pos） */
+    @Override
+    public void delete(int pos) {
+        unlinkAt(reversed && pos != size + 1 ? physical(pos) : pos);
+    }
+
+    /**
+     * 删除物理位置节点
      * 关键操作：
      * 1. 维护被删除节点前后节点的指针
      * 2. 处理删除头节点和尾节点的特殊情况
-     * 时间复杂度：O(n) —— 需找到前驱节点
+     * 时间复杂度：O(min(pos, n-pos)) —— 从较近一端查找前驱节点
      * 空间复杂度：O(1) —— 无额外空间使用
      */
-    @Override
-    public void delete(int pos) {
+    private void unlinkAt(int pos) {
+        DoublyNode<E> removed;
         if (pos == 1) {
+            removed = head;
+            if (finger == head) {
+                finger = null;
+            }
+            fingerPos--; // 剩余节点整体前移一位
             if (head.next != null) {
                 head.next.prev = null; // 清除新头节点的前驱
+            } else {
+                tail = null; // 删除最后一个节点
             }
             head = head.next; // 更新头节点
+            size--;
+            modCount++;
         } else {
-            DoublyNode<E> prevNode = getNode(pos - 1);
-            if (prevNode.next != null) {
-                // 维护后继节点的前驱指针
-                if (prevNode.next.next != null) {
-                    prevNode.next.next.prev = prevNode;
-                }
-                // 跳过被删除节点
-                prevNode.next = prevNode.next.next;
+            // nodeAt 执行后游标位于 pos-1，删除 pos 不影响游标
+            DoublyNode<E> prevNode = nodeAt(pos - 1);
+            removed = prevNode.next;
+            if (removed == null) {
+                return;
+            }
+            // 维护后继节点的前驱指针
+            if (removed.next != null) {
+                removed.next.prev = prevNode;
+            } else {
+                tail = prevNode; // 删除的是尾节点
             }
+            // 跳过被删除节点
+            prevNode.next = removed.next;
+            size--;
+            modCount++;
         }
+        recycle(removed);
+    }
+
+    // ----------------- 批量操作 -----------------
+
+    @Override
+    protected DoublyNode<E> newNode(E data) {
+        return new DoublyNode<>(data);
+    }
+
+    @Override
+    protected DoublyLinkedList<E> newEmptyList() {
+        return new DoublyLinkedList<>();
+    }
+
+    @Override
+    protected void setPrev(DoublyNode<E> node, DoublyNode<E> prev) {
+        node.prev = prev;
+    }
+
+    @Override
+    protected boolean hasPrevLinks() {
+        return true;
+    }
+
+    /** 按 next 链顺序重新设置每个节点的 prev，时间复杂度：O(n) */
+    @Override
+    protected void relinkPrev() {
+        DoublyNode<E> prev = null;
+        for (DoublyNode<E> node = head; node != null; node = node.next) {
+            node.prev = prev;
+            prev = node;
+        }
+    }
+
+    /** 批量操作改变了节点位置，游标失效 */
+    @Override
+    protected void afterBulkChange() {
+        finger = null;
+    }
+
+    /** 保留前 pos 个元素，其余节点移入返回的新链表（断开点从较近一端定位） */
+    @Override
+    public DoublyLinkedList<E> split(int pos) {
+        return (DoublyLinkedList<E>) super.split(pos);
     }
 
     // ----------------- 增强功能 -----------------
 
-    /** 反向遍历打印（利用双向特性）
-     * 时间复杂度：O(n) —— 两次遍历（找尾部+反向遍历）
+    /** 顺序写入：惰性反转后从物理尾部沿 prev 遍历 */
+    @Override
+    protected void writeElements(ListWriter w) throws IOException {
+        if (reversed) {
+            writeBackward(w);
+        } else {
+            super.writeElements(w);
+        }
+    }
+
+    /** 逆序写入：惰性反转后从物理头部沿 next 遍历 */
+    @Override
+    protected void writeElementsReversed(ListWriter w) throws IOException {
+        if (reversed) {
+            super.writeElements(w);
+        } else {
+            writeBackward(w);
+        }
+    }
+
+    /** 利用双向特性从物理尾部沿 prev 遍历写入，不修改链表
+     * 安全模式：最多访问 size 个节点
+     * 时间复杂度：O(min(n, limit))
      * 空间复杂度：O(1) —— 仅使用临时变量
      */
+    private void writeBackward(ListWriter w) throws IOException {
+        int remaining = size;
+        for (DoublyNode<E> current = tail; current != null && remaining-- > 0; current = current.prev) {
+            if (!w.element(current.data)) break;
+        }
+    }
+
+    /** 快速失败迭代器：惰性反转后从物理尾部沿 prev 遍历 */
     @Override
-    public void reversePrint() {
-        if (head == null) return;
+    public Iterator<E> iterator() {
+        if (!reversed) return super.iterator();
+        return new Iterator<E>() {
+            private DoublyNode<E> next = tail;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
 
-        // 定位到尾节点
-        DoublyNode<E> current = head;
-        while (current.next != null) {
-            current = current.next;
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (next == null) throw new NoSuchElementException();
+                E data = next.data;
+                next = next.prev;
+                return data;
+            }
+        };
+    }
+
+    // ----------------- 惰性反转 -----------------
+
+    /**
+     * 开启或关闭惰性反转模式
+     * 开启后 reverse() / reverseRecursion() / reverseByStack() 只翻转方向标志，O(1)；
+     * 关闭时若处于反转状态，先 materialize() 实际重新链接
+     */
+    public void setLazyReversal(boolean enabled) {
+        if (!enabled) {
+            materialize();
         }
+        lazyReversal = enabled;
+    }
 
-        // 反向遍历打印
-        while (current != null) {
-            System.out.print(current.data + " ");
-            current = current.prev;
+    public boolean isLazyReversal() {
+        return lazyReversal;
+    }
+
+    /**
+     * 处于反转状态时实际交换全部节点的 prev/next，使物理顺序与逻辑顺序一致
+     * 批量操作（addAll、splice、split、sort、merge、区间反转等）与 Spliterator 开始前自动调用
+     * 时间复杂度：O(n)；未反转时 O(1)
+     */
+    @Override
+    public void materialize() {
+        if (reversed) {
+            reversed = false;
+            reverseLinks();
+        }
+    }
+
+    /** 翻转方向标志：节点不动，逻辑顺序反转 */
+    private void flip() {
+        reversed = !reversed;
+        modCount++;
+    }
+
+    /** 反转链表：惰性反转模式下 O(1) 翻转标志，否则交换全部节点的指针 */
+    @Override
+    public void reverse() {
+        if (lazyReversal) {
+            flip();
+        } else {
+            reverseLinks();
         }
-        System.out.println();
     }
 
     /**
@@ -138,10 +482,12 @@ public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
      * 时间复杂度：O(n) —— 遍历所有节点
      * 空间复杂度：O(1) —— 仅使用临时变量
      */
-    @Override
-    public void reverse() {
+    private void reverseLinks() {
+        modCount++;
         DoublyNode<E> current = head;
         DoublyNode<E> temp = null;
+        tail = head; // 原头节点成为新尾节点
+        mirrorFinger();
 
         while (current != null) {
             // 交换前后指针
@@ -164,60 +510,109 @@ public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
      * 改进点：
      * 1. 递归过程中直接维护 prev 指针
      * 2. 避免后续遍历修正
+     * 3. 尾递归已改写为循环（见 reverseRecursionHelper），长链表不会栈溢出
      */
     @Override
     public void reverseRecursion() {
+        if (lazyReversal) {
+            flip();
+            return;
+        }
+        modCount++;
+        tail = head;
+        mirrorFinger();
         reverseRecursionHelper(head, null);
     }
 
     /*
-     * 时间复杂度：O(n) —— 递归遍历所有节点
-     * 空间复杂度：O(n) —— 递归调用栈深度为n
+     * 尾递归 reverse(current, prev) 改写为循环，参数即循环变量
+     * 时间复杂度：O(n) —— 遍历所有节点
+     * 空间复杂度：O(1) —— 无递归调用栈
      */
     private void reverseRecursionHelper(DoublyNode<E> current, DoublyNode<E> prev) {
-        if (current == null) {
-            head = prev; // 终止条件：到达末尾，更新头节点
-            return;
+        while (current != null) {
+            DoublyNode<E> next = current.next;
+            current.next = prev; // 反转后继指针
+            current.prev = next; // 反转前驱指针（指向原下一个节点）
+            prev = current;
+            current = next;      // 进入"下一层"
         }
-        DoublyNode<E> next = current.next;
-        current.next = prev; // 反转后继指针
-        current.prev = next; // 反转前驱指针（指向原下一个节点）
-        reverseRecursionHelper(next, current); // 递归处理下一个节点
+        head = prev; // 终止条件：到达末尾，更新头节点
     }
 
+    /**
+     * 利用栈反转（以节点自身为链式栈）
+     * 依次弹出原链表节点并压入由 next 串联的栈，同时维护 prev
+     * 时间复杂度：O(n) —— 遍历所有节点
+     * 空间复杂度：O(1) —— 栈由节点自身的指针构成
+     */
     @Override
     public void reverseByStack() {
-        if (head == null) {
+        if (lazyReversal) {
+            flip();
             return;
         }
-
-        java.util.Stack<DoublyNode<E>> stack = new java.util.Stack<>();
+        modCount++;
+        DoublyNode<E> stack = null; // 栈顶
         DoublyNode<E> current = head;
+        tail = head;
+        mirrorFinger();
 
-        // 将所有节点压入栈
         while (current != null) {
-            stack.push(current);
+            DoublyNode<E> node = current; // 从原链表弹出
             current = current.next;
+            node.next = stack;            // 压入栈
+            node.prev = null;
+            if (stack != null) {
+                stack.prev = node;
+            }
+            stack = node;
         }
 
-        // 设置新头节点并初始化指针
-        head = stack.peek();
-        head.prev = null; // 新头节点的 prev 必须置空
-        current = head;
+        head = stack;
+    }
 
-        // 重新链接节点
-        stack.pop(); // 弹出已处理的头节点
-        while (!stack.isEmpty()) {
-            current.next = stack.pop();
-            current.next.prev = current; // 关键：设置下一节点的 prev
+    /**
+     * 原地反转区间 [from, to]，并修正区间及其后继节点的 prev
+     * 时间复杂度：O(min(from, n-from) + (to-from)) —— 定位前驱 + 区间内反转
+     * 空间复杂度：O(1)
+     */
+    @Override
+    public void reverse(int from, int to) {
+        materialize(); // 游标按物理位置记录，先使两者一致
+        if (finger != null && fingerPos >= from && fingerPos <= to) {
+            finger = null; // 游标位于区间内，位置已改变
+        }
+        super.reverse(from, to);
+        if (from == to) return;
+
+        DoublyNode<E> prev = (from == 1) ? null : getNode(from - 1);
+        DoublyNode<E> current = (prev == null) ? head : prev.next;
+        for (int i = from; i <= to + 1 && current != null; i++) {
+            current.prev = prev;
+            prev = current;
             current = current.next;
         }
+    }
 
-        current.next = null; // 尾节点的 next 置空
+    /**
+     * 每 k 个节点一组原地反转，随后一次遍历修正全部 prev
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1)
+     */
+    @Override
+    public void reverseKGroup(int k) {
+        super.reverseKGroup(k);
+        finger = null;
+        DoublyNode<E> prev = null;
+        for (DoublyNode<E> current = head; current != null; current = current.next) {
+            current.prev = prev;
+            prev = current;
+        }
     }
 
     public static void main(String[] args) {
-        DoublyLinkedList<Integer> myList = new DoublyLinkedList();
+        DoublyLinkedList<Integer> myList = new DoublyLinkedList<>();
         myList.insert(1);
         myList.insert(2);
         myList.insert(3);
@@ -226,7 +621,7 @@ public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
         System.out.println(myList);
 
         myList.insertAtTail(6);
-        System.out.println(myList);
+        System.out.println(myList + " (size=" + myList.size() + ", last=" + myList.peekLast() + ")");
 
         myList.insert(3,3);
         myList.insert(4,4);
@@ -243,8 +638,34 @@ public class DoublyLinkedList<E> extends LinkedList<E, DoublyNode<E>> {
         System.out.println(myList);
         myList.reverseByStack();
         System.out.println(myList);
+        myList.reverse(2, 5);
+        System.out.println(myList);
+        myList.reverseKGroup(3);
+        System.out.println(myList);
 
+        System.out.println("removeLast=" + myList.removeLast() + ", size=" + myList.size()
+                + ", last=" + myList.peekLast());
 
+        DoublyLinkedList<Integer> other = DoublyLinkedList.fromArray(7, 8, 9);
+        myList.splice(other);
+        DoublyLinkedList<Integer> rest = myList.split(4);
+        System.out.println(myList + " | " + rest + " | " + java.util.Arrays.toString(rest.toArray()));
 
+        myList.splice(rest);
+        myList.sort(null);
+        System.out.println(myList);
+        myList.sort(java.util.Comparator.reverseOrder());
+        myList.reversePrint();
+
+        // 惰性反转：reverse() 只翻转标志，插入删除按反转后的顺序生效
+        myList.setLazyReversal(true);
+        myList.reverse();
+        myList.insert(0);
+        myList.insertAtTail(10);
+        myList.delete(2);
+        System.out.println(myList + " (getNode(2)=" + myList.getNode(2).data + ")");
+        myList.reversePrint();
+        myList.materialize();
+        System.out.println(myList);
     }
 }
\ No newline at end of file
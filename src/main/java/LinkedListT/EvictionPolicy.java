@@ -0,0 +1,57 @@
+package LinkedListT;
+
+/**
+ * 缓存淘汰策略：维护条目的淘汰顺序并选出被淘汰的条目
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * <p>
+ * 每个缓存分段持有一个策略实例，所有回调都在分段锁内调用，实现无需考虑线程安全。
+ * 回调均应为 O(1)：节点本身就是链表元素（CacheNode），调整顺序只需改动相邻指针。
+ * 内置 LRU、LFU 与 W-TinyLFU 三种实现。
+ */
+public interface EvictionPolicy<K, V> {
+
+    /** 新条目已加入缓存 */
+    void onInsert(CacheNode<K, V> node);
+
+    /** 条目被读取命中 */
+    void onAccess(CacheNode<K, V> node);
+
+    /** 已有条目的值被替换（node.weight 已更新为新权重） */
+    default void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        onAccess(node);
+    }
+
+    /** 条目被显式删除（非淘汰） */
+    void onRemove(CacheNode<K, V> node);
+
+    /** 读取未命中（哈希值为 hash 的键不在缓存中） */
+    default void onMiss(int hash) {
+    }
+
+    /**
+     * 选出一个被淘汰的条目并将其从策略结构中移除
+     * @return 被淘汰的节点，没有条目时返回 null
+     */
+    CacheNode<K, V> evict();
+
+    /** 按分段容量创建策略实例 */
+    interface Factory<K, V> {
+        EvictionPolicy<K, V> create(long maximumWeight);
+    }
+
+    /** 最近最少使用 */
+    static <K, V> Factory<K, V> lru() {
+        return maximumWeight -> new LruPolicy<>();
+    }
+
+    /** 最不经常使用（频率相同时淘汰最久未访问的） */
+    static <K, V> Factory<K, V> lfu() {
+        return maximumWeight -> new LfuPolicy<>();
+    }
+
+    /** 窗口 LRU + 频率准入 + 分段 LRU 主区 */
+    static <K, V> Factory<K, V> windowTinyLfu() {
+        return WindowTinyLfuPolicy::new;
+    }
+}
@@ -0,0 +1,80 @@
+package LinkedListT;
+
+/**
+ * 近似访问频率统计（4 位计数器的 Count-Min Sketch），供 W-TinyLFU 准入判断使用
+ * <p>
+ * 特性：
+ * 1. 每个 long 保存 16 个 4 位计数器（上限 15）；一个键在同一个 long 中选 4 个计数器组，
+ *    再用 4 个不同的种子在表中选 4 个 long，频率取 4 个计数器的最小值
+ * 2. 计数器数量与缓存容量同阶：内存约每条目 8 字节，与被统计的键个数无关
+ * 3. 老化：累计增加 10 倍容量次后所有计数器减半，使历史热度随时间衰减
+ * 不是线程安全的（由所属缓存分段的锁保护）。
+ */
+public class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /** @param maximumEntries 预计条目个数（计数器表按其向上取 2 的幂） */
+    public FrequencySketch(long maximumEntries) {
+        int capacity = (int) Math.min(Math.max(maximumEntries, 16), 1 << 26);
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        table = new long[length];
+        mask = length - 1;
+        sampleSize = 10 * capacity;
+    }
+
+    /** 哈希值为 hash 的键的估计频率（0 ~ 15） */
+    public int frequency(int hash) {
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /** 记录一次访问 */
+    public void increment(int hash) {
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /** 第 j 个计数器未饱和时加1 */
+    private boolean incrementAt(int index, int j) {
+        int offset = j << 2;
+        long bit = 0xfL << offset;
+        if ((table[index] & bit) != bit) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    /** 所有计数器减半（老化） */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+}
@@ -0,0 +1,207 @@
+package LinkedListT;
+
+import java.util.NoSuchElementException;
+
+/**
+ * int 专用栈 / 双端队列（基于可扩容的环形 int 数组）
+ * <p>
+ * 特性：
+ * 1. 与 ArrayStack 结构相同，但元素直接存为 int，每个元素只占4字节，push/pop 不装箱
+ * 2. 原始类型接口：push(int) / popInt() / peekInt() / addLast(int) / removeLastInt()
+ * 3. 同时实现 StackOps<Integer>，可与其他栈互换；经由该接口调用时会装箱
+ * 4. 容量不足时扩容为 1.5 倍，摊还 O(1)；trimToSize 将容量收缩到当前元素个数
+ */
+public class IntArrayStack implements StackOps<Integer> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    /** 栈顶元素下标（size 为 0 时无意义） */
+    private int top;
+    private int size;
+
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayStack(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("容量必须≥0");
+        elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    /**
+     * 入栈
+     * 时间复杂度：摊还 O(1)
+     */
+    public void push(int data) {
+        if (size == elements.length) grow(size + 1);
+        if (--top < 0) top = elements.length - 1;
+        elements[top] = data;
+        size++;
+    }
+
+    /**
+     * 批量入栈：先一次性扩容，再逐个写入，最后一个元素位于栈顶
+     * 时间复杂度：O(m)
+     */
+    public void pushAll(int[] values) {
+        ensureCapacity(size + values.length);
+        for (int value : values) {
+            push(value);
+        }
+    }
+
+    /**
+     * 出栈并返回栈顶元素
+     * 时间复杂度：O(1)
+     */
+    public int popInt() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        int data = elements[top];
+        if (++top == elements.length) top = 0;
+        size--;
+        return data;
+    }
+
+    public int peekInt() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        return elements[top];
+    }
+
+    // ----------------- StackOps（装箱） -----------------
+
+    @Override
+    public void push(Integer data) {
+        push(data.intValue());
+    }
+
+    @Override
+    public Integer pop() {
+        return popInt();
+    }
+
+    @Override
+    public Integer peek() {
+        return peekInt();
+    }
+
+    // ----------------- 栈底一侧（双端队列） -----------------
+
+    /** 在栈底追加元素，时间复杂度：摊还 O(1) */
+    public void addLast(int data) {
+        if (size == elements.length) grow(size + 1);
+        elements[index(size)] = data;
+        size++;
+    }
+
+    /** 移除并返回栈底元素，时间复杂度：O(1) */
+    public int removeLastInt() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        return elements[index(--size)];
+    }
+
+    public int peekLastInt() {
+        if (size == 0) throw new NoSuchElementException("栈为空");
+        return elements[index(size - 1)];
+    }
+
+    /**
+     * 按栈顶到栈底的顺序获取第 pos 个元素（从1开始）
+     * 时间复杂度：O(1)
+     */
+    public int get(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过栈长度");
+        return elements[index(pos - 1)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** int 元素不持有引用，清空时无需逐个置零 */
+    public void clear() {
+        top = 0;
+        size = 0;
+    }
+
+    /** 按栈顶到栈底的顺序导出 */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int first = Math.min(size, elements.length - top);
+        System.arraycopy(elements, top, out, 0, first);
+        System.arraycopy(elements, 0, out, first, size - first);
+        return out;
+    }
+
+    // ----------------- 容量管理 -----------------
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    /** 预留至少 minCapacity 个槽位 */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) grow(minCapacity);
+    }
+
+    /** 将容量收缩到当前元素个数，释放多余的数组空间 */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : toArray();
+            top = 0;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) throw new OutOfMemoryError("栈容量超出 int 范围");
+        int newCapacity = elements.length + (elements.length >> 1);
+        if (newCapacity - minCapacity < 0) newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        if (newCapacity < 0) newCapacity = Integer.MAX_VALUE - 8;
+        int[] copy = new int[newCapacity];
+        int first = Math.min(size, elements.length - top);
+        System.arraycopy(elements, top, copy, 0, first);
+        System.arraycopy(elements, 0, copy, first, size - first);
+        elements = copy;
+        top = 0;
+    }
+
+    /** 第 offset 个元素（栈顶为0）在数组中的下标 */
+    private int index(int offset) {
+        int i = top + offset;
+        return i >= elements.length ? i - elements.length : i;
+    }
+
+    /** 按栈顶到栈底的顺序输出 */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(elements[index(i)]);
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        IntArrayStack myStack = new IntArrayStack(2);
+        myStack.pushAll(new int[]{1, 2, 3});
+        System.out.println(myStack + " (容量 " + myStack.capacity() + ")");
+        System.out.println(myStack.popInt() + " " + myStack.peekInt());
+
+        myStack.addLast(0);
+        System.out.println(myStack + " 栈底 " + myStack.peekLastInt());
+        myStack.trimToSize();
+        System.out.println(myStack + " (容量 " + myStack.capacity() + ")");
+
+        StackOps<Integer> ops = myStack; // 经由公共接口使用
+        ops.push(9);
+        System.out.println(ops.pop() + " " + ops.size());
+    }
+}
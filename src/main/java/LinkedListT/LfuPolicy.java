@@ -0,0 +1,108 @@
+package LinkedListT;
+
+/**
+ * LFU 淘汰策略（O(1) 频率桶实现）
+ * <p>
+ * 结构：按访问频率升序排列的桶链表，每个桶是一条 CacheDeque，保存该频率的全部节点；
+ * 节点的 policyData 指向所在的桶。
+ * 1. 插入：放入频率 1 的桶（不存在则在最前面新建）
+ * 2. 命中：移到下一个频率 f+1 的桶（不存在则紧接当前桶新建），当前桶变空时删除
+ * 3. 淘汰：最低频率桶的头节点（同频率中最久未访问的）
+ * 所有操作 O(1)，不需要堆或按频率查表。
+ * 频率不做衰减：曾经很热、现在不再访问的条目会长期占据缓存，访问分布随时间变化时
+ * 应使用 W-TinyLFU。
+ */
+public class LfuPolicy<K, V> implements EvictionPolicy<K, V> {
+
+    /** 频率桶 */
+    private static final class Bucket<K, V> {
+        final int frequency;
+        final CacheDeque<K, V> nodes = new CacheDeque<>();
+        Bucket<K, V> prev;
+        Bucket<K, V> next;
+
+        Bucket(int frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    /** 最低频率的桶 */
+    private Bucket<K, V> lowest;
+
+    @Override
+    public void onInsert(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = lowest;
+        if (bucket == null || bucket.frequency != 1) {
+            bucket = insertAfter(null, 1);
+        }
+        bucket.nodes.linkLast(node);
+        node.policyData = bucket;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onAccess(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = (Bucket<K, V>) node.policyData;
+        if (bucket.frequency == Integer.MAX_VALUE) {
+            bucket.nodes.moveToLast(node);
+            return;
+        }
+        Bucket<K, V> target = bucket.next;
+        if (target == null || target.frequency != bucket.frequency + 1) {
+            target = insertAfter(bucket, bucket.frequency + 1);
+        }
+        bucket.nodes.unlink(node);
+        target.nodes.linkLast(node);
+        node.policyData = target;
+        if (bucket.nodes.isEmpty()) {
+            removeBucket(bucket);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onRemove(CacheNode<K, V> node) {
+        Bucket<K, V> bucket = (Bucket<K, V>) node.policyData;
+        bucket.nodes.unlink(node);
+        node.policyData = null;
+        if (bucket.nodes.isEmpty()) {
+            removeBucket(bucket);
+        }
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        if (lowest == null) return null;
+        CacheNode<K, V> victim = lowest.nodes.first();
+        onRemove(victim);
+        return victim;
+    }
+
+    /** 在 prev 之后新建频率为 frequency 的桶，prev 为 null 时放在最前面 */
+    private Bucket<K, V> insertAfter(Bucket<K, V> prev, int frequency) {
+        Bucket<K, V> bucket = new Bucket<>(frequency);
+        Bucket<K, V> next = (prev == null) ? lowest : prev.next;
+        bucket.prev = prev;
+        bucket.next = next;
+        if (prev == null) {
+            lowest = bucket;
+        } else {
+            prev.next = bucket;
+        }
+        if (next != null) {
+            next.prev = bucket;
+        }
+        return bucket;
+    }
+
+    private void removeBucket(Bucket<K, V> bucket) {
+        if (bucket.prev == null) {
+            lowest = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+}
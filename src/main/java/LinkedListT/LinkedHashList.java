@@ -0,0 +1,415 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * 带哈希索引的双向链表（有序集合）
+ * @param <E> 数据类型（不允许 null，元素互不相同）
+ * <p>
+ * 特性：
+ * 1. 元素按链表顺序排列，节点为 DoublyNode，增删只改动相邻指针
+ * 2. 开放寻址哈希索引（线性探测）从元素直接定位节点：
+ *    contains / remove(E) / moveToFront / moveToBack / insertAfter 均为 O(1) 期望，
+ *    不需要先扫描出位置再按位置删除
+ * 3. 索引由两个并行数组组成：hashes 保存元素哈希值，nodes 保存节点；
+ *    探测时先比较哈希值，命中后才访问节点与元素，减少缓存未命中
+ * 4. 删除使用向后移动（backward-shift），不留墓碑，探测长度不随删除次数退化
+ * 5. 负载因子不超过 1/2，容量为 2 的幂；容量达到上限 2^30 后不再扩容，负载随元素增加，
+ *    至多容纳 2^30 - 1 个元素（至少保留一个空槽，探测才能终止），超出时抛出 IllegalStateException
+ * 6. 已存在的元素再次添加时不做任何修改（返回 false），需要调整位置时使用 moveToFront/moveToBack
+ * 不是线程安全的。
+ */
+public class LinkedHashList<E> implements Iterable<E> {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private DoublyNode<E> head;
+    private DoublyNode<E> tail;
+    private int size;
+    private int modCount;
+
+    /** 索引：nodes[i] 为 null 表示空槽 */
+    private DoublyNode<E>[] nodes;
+    private int[] hashes;
+    private int mask;
+
+    public LinkedHashList() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /** @param expectedSize 预计元素个数，用于一次性分配索引，避免扩容 */
+    public LinkedHashList(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("容量必须≥0");
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /** 按 values 的迭代顺序构造（重复元素只保留第一次出现） */
+    public LinkedHashList(Iterable<? extends E> values) {
+        this();
+        for (E value : values) {
+            addLast(value);
+        }
+    }
+
+    // ----------------- 查询 -----------------
+
+    /** 时间复杂度：O(1) 期望 */
+    public boolean contains(Object value) {
+        return value != null && find(value) >= 0;
+    }
+
+    /**
+     * 元素所在的节点（只读使用，不要修改其 prev/next）
+     * @return 节点，不存在时返回 null
+     */
+    public DoublyNode<E> getNode(E value) {
+        int slot = find(Objects.requireNonNull(value));
+        return slot < 0 ? null : nodes[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public E peekFirst() {
+        if (head == null) throw new NoSuchElementException("链表为空");
+        return head.data;
+    }
+
+    public E peekLast() {
+        if (tail == null) throw new NoSuchElementException("链表为空");
+        return tail.data;
+    }
+
+    // ----------------- 插入 -----------------
+
+    /**
+     * 追加到尾部
+     * @return 是否插入（元素已存在时返回 false，位置不变）
+     * 时间复杂度：O(1) 期望（扩容摊还）
+     */
+    public boolean addLast(E value) {
+        DoublyNode<E> node = index(value);
+        if (node == null) return false;
+        linkAfter(tail, node);
+        return true;
+    }
+
+    /** 插入到头部，元素已存在时返回 false */
+    public boolean addFirst(E value) {
+        DoublyNode<E> node = index(value);
+        if (node == null) return false;
+        linkAfter(null, node);
+        return true;
+    }
+
+    /**
+     * 在 anchor 之后插入 value
+     * @return 是否插入（value 已存在时返回 false）
+     * @throws NoSuchElementException anchor 不存在时抛出
+     * 时间复杂度：O(1) 期望
+     */
+    public boolean insertAfter(E anchor, E value) {
+        DoublyNode<E> anchorNode = requireNode(anchor);
+        DoublyNode<E> node = index(value);
+        if (node == null) return false;
+        linkAfter(anchorNode, node);
+        return true;
+    }
+
+    /** 在 anchor 之前插入 value，语义同 insertAfter */
+    public boolean insertBefore(E anchor, E value) {
+        DoublyNode<E> anchorNode = requireNode(anchor);
+        DoublyNode<E> node = index(value);
+        if (node == null) return false;
+        linkAfter(anchorNode.prev, node);
+        return true;
+    }
+
+    // ----------------- 删除与移动 -----------------
+
+    /**
+     * 删除元素
+     * @return 是否删除（元素不存在时返回 false）
+     * 时间复杂度：O(1) 期望
+     */
+    public boolean remove(Object value) {
+        if (value == null) return false;
+        int slot = find(value);
+        if (slot < 0) return false;
+        DoublyNode<E> node = nodes[slot];
+        removeSlot(slot);
+        unlink(node);
+        node.data = null;
+        return true;
+    }
+
+    public E removeFirst() {
+        E value = peekFirst();
+        remove(value);
+        return value;
+    }
+
+    public E removeLast() {
+        E value = peekLast();
+        remove(value);
+        return value;
+    }
+
+    /**
+     * 将已有元素移动到头部
+     * @throws NoSuchElementException 元素不存在时抛出
+     * 时间复杂度：O(1) 期望
+     */
+    public void moveToFront(E value) {
+        DoublyNode<E> node = requireNode(value);
+        if (node == head) return;
+        unlink(node);
+        linkAfter(null, node);
+    }
+
+    /** 将已有元素移动到尾部，元素不存在时抛出 NoSuchElementException */
+    public void moveToBack(E value) {
+        DoublyNode<E> node = requireNode(value);
+        if (node == tail) return;
+        unlink(node);
+        linkAfter(tail, node);
+    }
+
+    public void clear() {
+        for (DoublyNode<E> node = head; node != null; ) {
+            DoublyNode<E> next = node.next;
+            node.data = null;
+            node.prev = null;
+            node.next = null;
+            node = next;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        allocate(MIN_CAPACITY);
+    }
+
+    // ----------------- 链表指针维护 -----------------
+
+    /** 将 node 接在 prev 之后，prev 为 null 时接在头部 */
+    private void linkAfter(DoublyNode<E> prev, DoublyNode<E> node) {
+        DoublyNode<E> next = (prev == null) ? head : prev.next;
+        node.prev = prev;
+        node.next = next;
+        if (prev == null) {
+            head = node;
+        } else {
+            prev.next = node;
+        }
+        if (next == null) {
+            tail = node;
+        } else {
+            next.prev = node;
+        }
+        size++;
+        modCount++;
+    }
+
+    private void unlink(DoublyNode<E> node) {
+        DoublyNode<E> prev = node.prev;
+        DoublyNode<E> next = node.next;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+        modCount++;
+    }
+
+    private DoublyNode<E> requireNode(E value) {
+        DoublyNode<E> node = getNode(value);
+        if (node == null) throw new NoSuchElementException("元素 " + value + " 不存在");
+        return node;
+    }
+
+    // ----------------- 开放寻址索引 -----------------
+
+    /**
+     * 扰动哈希值：先乘黄金分割常数打散，再让低位受高位影响
+     * 线性探测对连续的哈希值（如连续的 Integer）很敏感：不打散时它们占据一段连续槽位，
+     * 删除时的向后移动要扫描到整段末尾，退化为 O(n)
+     */
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** @return 元素所在槽位，不存在时返回 -1 */
+    private int find(Object value) {
+        int hash = spread(value.hashCode());
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            DoublyNode<E> node = nodes[i];
+            if (node == null) return -1;
+            if (hashes[i] == hash && value.equals(node.data)) return i;
+        }
+    }
+
+    /**
+     * 为新元素创建节点并登记到索引
+     * @return 新节点，元素已存在时返回 null
+     */
+    private DoublyNode<E> index(E value) {
+        int hash = spread(Objects.requireNonNull(value).hashCode());
+        int i = hash & mask;
+        for (DoublyNode<E> node; (node = nodes[i]) != null; i = (i + 1) & mask) {
+            if (hashes[i] == hash && value.equals(node.data)) return null;
+        }
+        if (nodes.length == MAX_CAPACITY && size + 1 >= MAX_CAPACITY) {
+            throw new IllegalStateException("元素数超过索引容量上限 " + (MAX_CAPACITY - 1));
+        }
+        DoublyNode<E> node = new DoublyNode<>(value);
+        nodes[i] = node;
+        hashes[i] = hash;
+        // 插入后负载超过 1/2 时扩容（size 在链接时才加1），容量已达上限时不再扩容
+        if (nodes.length < MAX_CAPACITY && (size + 1) * 2 > nodes.length) {
+            resize(nodes.length * 2);
+        }
+        return node;
+    }
+
+    /**
+     * 删除槽位 slot：向后移动同一探测序列中的后续元素填补空位，不留墓碑
+     * 槽位 j 的元素可以移到空位 hole，当且仅当 hole 位于其理想位置与 j 之间（循环意义下）
+     */
+    private void removeSlot(int slot) {
+        int hole = slot;
+        for (int j = (hole + 1) & mask; nodes[j] != null; j = (j + 1) & mask) {
+            int home = hashes[j] & mask;
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                nodes[hole] = nodes[j];
+                hashes[hole] = hashes[j];
+                hole = j;
+            }
+        }
+        nodes[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        DoublyNode<E>[] oldNodes = nodes;
+        int[] oldHashes = hashes;
+        allocate(capacity);
+        for (int i = 0; i < oldNodes.length; i++) {
+            if (oldNodes[i] == null) continue;
+            int j = oldHashes[i] & mask;
+            while (nodes[j] != null) {
+                j = (j + 1) & mask;
+            }
+            nodes[j] = oldNodes[i];
+            hashes[j] = oldHashes[i];
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void allocate(int capacity) {
+        nodes = (DoublyNode<E>[]) new DoublyNode[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /** 能以不超过 1/2 的负载容纳 expectedSize 个元素的最小 2 的幂 */
+    private static int tableSizeFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, 2L * expectedSize + 2);
+        if (needed > MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    // ----------------- 遍历与输出 -----------------
+
+    /** 快速失败迭代器，支持 remove() */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private DoublyNode<E> next = head;
+            private E last;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (next == null) throw new NoSuchElementException();
+                last = next.data;
+                next = next.next;
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                LinkedHashList.this.remove(last);
+                last = null;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    /** 按顺序写入前 limit 个元素（空格分隔），超出部分以 " ..." 代替 */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        ListWriter w = ListWriter.acquire().begin(out, limit);
+        try {
+            for (DoublyNode<E> node = head; node != null; node = node.next) {
+                if (!w.element(node.data)) break;
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    public String toString(int limit) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    public static void main(String[] args) {
+        LinkedHashList<String> list = new LinkedHashList<>();
+        for (String s : new String[]{"a", "b", "c", "d"}) {
+            list.addLast(s);
+        }
+        System.out.println(list + " (重复添加 a：" + list.addLast("a") + ")");
+        list.moveToFront("c");
+        list.moveToBack("a");
+        list.insertAfter("c", "x");
+        list.remove("b");
+        System.out.println(list + " contains b=" + list.contains("b") + ", size=" + list.size());
+    }
+}
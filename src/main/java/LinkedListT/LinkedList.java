@@ -1,5 +1,19 @@
 package LinkedListT;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * 链表抽象基类（支持泛型）
  * @param <E> 数据泛型类型
@@ -8,11 +22,19 @@ package LinkedListT;
  * 核心职责：
  * 1. 定义链表通用操作方法
  * 2. 通过泛型支持不同类型链表的实现
- * 3. 提供基础方法实现（如打印、节点查找等）
+ * 3. 提供基础方法实现（如打印、节点查找、迭代与流等）
  */
-public abstract class LinkedList<E, T extends Node<E, T>> {
+public abstract class LinkedList<E, T extends Node<E, T>> implements Iterable<E> {
     /** 链表头节点引用 */
     protected T head;
+    /** 链表尾节点引用（所有修改操作负责维护，支持 O(1) 尾部访问） */
+    protected T tail;
+    /** 链表元素个数（所有修改操作负责维护） */
+    protected int size;
+    /** 结构性修改次数（插入、删除、反转均加1），供迭代器与 Spliterator 快速失败检测 */
+    protected int modCount;
+    /** 节点池，null 表示不复用节点（默认） */
+    protected NodePool<E, T> pool;
 
     // ----------------- 通用方法 -----------------
 
@@ -24,13 +46,106 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
      */
     @Override
     public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /**
+     * 获取链表前 limit 个元素的字符串表示，超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     * 空间复杂度：O(输出长度) —— 不再先拼接整个链表
+     */
+    public String toString(int limit) {
         StringBuilder sb = new StringBuilder();
-        T current = head;
-        while (current != null) {
-            sb.append(current.data).append(" ");
-            current = current.next;
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    // ----------------- 流式输出 -----------------
+
+    /** 按顺序将全部元素写入 out（空格分隔），经 ListWriter 缓冲后批量追加 */
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按顺序写入前 limit 个元素，超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     * 空间复杂度：O(1) —— 复用线程缓存的 ListWriter 缓冲区
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), false);
+    }
+
+    /** 按顺序将全部元素以 UTF-8 字节写入 channel */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, Integer.MAX_VALUE);
+    }
+
+    public void writeTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), false);
+    }
+
+    /** 逆序写入最后 limit 个元素（从尾到头） */
+    public void writeReverseTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), true);
+    }
+
+    public void writeReverseTo(WritableByteChannel channel, int limit) throws IOException {
+        write(ListWriter.acquire().begin(channel, limit), true);
+    }
+
+    private void write(ListWriter w, boolean reversed) throws IOException {
+        try {
+            if (reversed) {
+                writeElementsReversed(w);
+            } else {
+                writeElements(w);
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    /**
+     * 顺序遍历写入元素，达到长度上限即停止
+     * 安全模式：最多访问 size 个节点，链被外部破坏（成环或比 size 更长）时也不会死循环
+     */
+    protected void writeElements(ListWriter w) throws IOException {
+        int remaining = size;
+        for (T node = head; node != null && remaining-- > 0; node = node.next) {
+            if (!w.element(node.data)) break;
+        }
+    }
+
+    /**
+     * 逆序遍历写入元素
+     * 实现策略：原地反转 next 链 -> 顺序写入 -> 再反转回来（写出异常时同样恢复），
+     * 输出期间链表结构被临时修改，不能与其他读操作并发
+     * 安全模式：只反转前 size 个节点，之后的部分（损坏的链上可能存在）在恢复时原样接回
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1)
+     */
+    protected void writeElementsReversed(ListWriter w) throws IOException {
+        if (head == null) return;
+        T first = head;
+        T rest = first;
+        for (int i = 0; i < size && rest != null; i++) {
+            rest = rest.next;
+        }
+        T last = reverseChain(first, rest);
+        try {
+            for (T node = last; node != null; node = node.next) {
+                if (!w.element(node.data)) break;
+            }
+        } finally {
+            reverseChain(last, null);
+            last.next = rest; // last 恢复为区间末节点，接回区间之后的部分
         }
-        return sb.toString().trim(); // 去除末尾空格
     }
 
     /**
@@ -44,6 +159,8 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
      */
     public T getNode(int pos) throws IndexOutOfBoundsException {
         if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos == size) return tail; // 尾节点直接返回，尾部插入无需遍历
 
         T current = head;
         for (int i = 1; i < pos && current != null; i++) {
@@ -56,6 +173,24 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
         return current;
     }
 
+    /**
+     * 获取链表长度
+     * 时间复杂度：O(1) —— 直接读取计数器
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取尾部元素
+     * @throws java.util.NoSuchElementException 链表为空时抛出
+     * 时间复杂度：O(1) —— 直接读取尾指针
+     */
+    public E peekLast() {
+        if (tail == null) throw new java.util.NoSuchElementException("链表为空");
+        return tail.data;
+    }
+
     // ----------------- 抽象方法（需子类实现） -----------------
 
     /** 在链表头部插入数据 */
@@ -70,22 +205,560 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
     /** 删除指定位置节点 */
     public abstract void delete(int pos);
 
+    /** 在链表尾部插入数据（借助尾指针，O(1)） */
+    public abstract void addLast(E data);
+
+    /** 创建与本链表同类型的节点（批量操作使用） */
+    protected abstract T newNode(E data);
+
+    /** 创建与本链表同类型的空链表（split 使用） */
+    protected abstract LinkedList<E, T> newEmptyList();
+
+    // ----------------- 节点复用 -----------------
+
+    /**
+     * 设置节点池：删除的节点归还到池中，插入时优先从池中取出，降低高频增删下的分配与 GC 压力
+     * 不支持节点复用的链表（supportsNodePool() 为 false）忽略该设置，照常新建节点
+     * @param pool 节点池，传入 null 关闭复用；多个链表共享时应使用 NodePool.threadLocal
+     */
+    public void setNodePool(NodePool<E, T> pool) {
+        this.pool = supportsNodePool() ? pool : null;
+    }
+
+    /** 是否支持节点复用，节点结构各不相同的子类（如跳表的随机层数）覆盖为 false */
+    public boolean supportsNodePool() {
+        return true;
+    }
+
+    /** 开启独占的有界节点池 */
+    public void enableNodePool(int capacity) {
+        setNodePool(new NodePool<>(capacity));
+    }
+
+    /** 获取节点：优先复用池中的节点，否则新建 */
+    protected T obtainNode(E data) {
+        T node = (pool == null) ? null : pool.poll();
+        if (node == null) {
+            return newNode(data);
+        }
+        node.data = data;
+        return node;
+    }
+
+    /**
+     * 回收已从链表摘除的节点：清空 prev 后交给节点池（data/next 由池清空）
+     * 调用方不得再使用该节点
+     */
+    protected void recycle(T node) {
+        if (pool != null) {
+            setPrev(node, null);
+            pool.release(node);
+        }
+    }
+
+    // ----------------- 批量操作钩子（子类按需覆盖） -----------------
+
+    /** 设置节点的前驱指针，单链表无 prev，默认不做任何事 */
+    protected void setPrev(T node, T prev) {
+    }
+
+    /** next 链被整体重排（合并、排序）后恢复 prev 指针，单链表无 prev，默认不做任何事 */
+    protected void relinkPrev() {
+    }
+
+    /** 节点是否维护 prev 指针（为 true 时 setPrev 有实际作用），默认 false */
+    protected boolean hasPrevLinks() {
+        return false;
+    }
+
+    /** 批量操作直接改写 head/tail/next 之后调用，供子类重建附加结构（游标、索引等） */
+    protected void afterBulkChange() {
+    }
+
+    /**
+     * 使节点链的物理顺序（head 沿 next 到 tail）与逻辑顺序一致
+     * 支持惰性反转的子类（DoublyLinkedList）在反转标志置位时实际重新链接，其余情况两者始终一致，不做任何事；
+     * 直接沿 head/next 遍历或改写节点链的批量操作在开始前调用
+     */
+    public void materialize() {
+    }
+
+    // ----------------- 批量操作 -----------------
+
+    /** 将 values 按顺序追加到尾部，等价于 addAll(size + 1, values) */
+    public void addAll(Iterable<? extends E> values) {
+        addAll(size + 1, values);
+    }
+
+    /**
+     * 将 values 按顺序插入到位置 pos（pos=1 为头部，pos=size+1 为尾部）
+     * 实现策略：先把新元素串成一条独立的节点链，再一次性接入 pos-1 与 pos 之间
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过 size+1 时抛出
+     * 时间复杂度：O(m + pos) —— m 为新元素个数，定位一次前驱
+     * 空间复杂度：O(m) —— 仅新节点
+     */
+    public void addAll(int pos, Iterable<? extends E> values) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size + 1) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        materialize();
+
+        T first = null;
+        T last = null;
+        int count = 0;
+        for (E value : values) { // values 可以是本链表自身：接入前不修改链表
+            T node = obtainNode(value);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+                setPrev(node, last);
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) return;
+
+        T before = (pos == 1) ? null : getNode(pos - 1);
+        T after = (before == null) ? head : before.next;
+        last.next = after;
+        if (after == null) {
+            tail = last;
+        } else {
+            setPrev(after, last);
+        }
+        if (before == null) {
+            head = first;
+        } else {
+            before.next = first;
+        }
+        setPrev(first, before);
+        size += count;
+        modCount++;
+        afterBulkChange();
+    }
+
+    /**
+     * 将 other 的全部节点 O(1) 接到本链表尾部，other 随后变为空链表（节点不复制）
+     * @throws IllegalArgumentException other 为本链表自身时抛出
+     */
+    public void splice(LinkedList<E, T> other) {
+        if (other == this) throw new IllegalArgumentException("不能拼接自身");
+        if (other.head == null) return;
+        materialize();
+        other.materialize();
+        if (tail == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            setPrev(other.head, tail);
+        }
+        tail = other.tail;
+        size += other.size;
+        modCount++;
+        other.detachAll();
+        afterBulkChange();
+    }
+
+    /** 将 other 的全部节点 O(1) 接到本链表头部，other 随后变为空链表（节点不复制） */
+    public void spliceFirst(LinkedList<E, T> other) {
+        if (other == this) throw new IllegalArgumentException("不能拼接自身");
+        if (other.head == null) return;
+        materialize();
+        other.materialize();
+        if (head == null) {
+            tail = other.tail;
+        } else {
+            other.tail.next = head;
+            setPrev(head, other.tail);
+        }
+        head = other.head;
+        size += other.size;
+        modCount++;
+        other.detachAll();
+        afterBulkChange();
+    }
+
+    /** 清空链表引用（节点已转移给其他链表） */
+    private void detachAll() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        afterBulkChange();
+    }
+
+    /**
+     * 在位置 pos 之后断开：本链表保留前 pos 个元素，其余节点原样移入返回的新链表（不复制）
+     * @param pos 保留的元素个数（0 ≤ pos ≤ size）
+     * @throws IndexOutOfBoundsException pos 越界时抛出
+     * 时间复杂度：O(pos) —— 定位断开点（双向链表等子类可更快）
+     * 空间复杂度：O(1)
+     */
+    public LinkedList<E, T> split(int pos) {
+        if (pos < 0 || pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        LinkedList<E, T> rest = newEmptyList();
+        if (pos == size) return rest;
+        materialize();
+
+        T last = (pos == 0) ? null : getNode(pos);
+        T first = (last == null) ? head : last.next;
+        rest.head = first;
+        rest.tail = tail;
+        rest.size = size - pos;
+        setPrev(first, null);
+        rest.afterBulkChange();
+
+        if (last == null) {
+            head = null;
+        } else {
+            last.next = null;
+        }
+        tail = last;
+        size = pos;
+        modCount++;
+        afterBulkChange();
+        return rest;
+    }
+
+    /**
+     * 创建批量位置编辑：收集插入 / 删除后由 apply() 一次遍历应用（位置语义见 ListEdit）
+     * k 次编辑总计 O(k log k + n)，逐个调用 insert(pos)/delete(pos) 为 O(k·n)
+     */
+    public ListEdit<E, T> edit() {
+        return new ListEdit<>(this);
+    }
+
+    /**
+     * 按顺序复制全部元素到新数组
+     * 时间复杂度：O(n)
+     */
+    public Object[] toArray() {
+        materialize();
+        Object[] result = new Object[size];
+        int i = 0;
+        for (T node = head; node != null; node = node.next) {
+            result[i++] = node.data;
+        }
+        return result;
+    }
+
+    /**
+     * 按顺序复制全部元素到 a；a 长度不足时创建同类型的新数组，
+     * 长度有余时 a[size] 置为 null（与 Collection.toArray(T[]) 约定一致）
+     * 时间复杂度：O(n)
+     */
+    public <A> A[] toArray(A[] a) {
+        materialize();
+        if (a.length < size) {
+            a = Arrays.copyOf(a, size);
+        }
+        Object[] result = a;
+        int i = 0;
+        for (T node = head; node != null; node = node.next) {
+            result[i++] = node.data;
+        }
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    // ----------------- 单遍算法（基于 NodeChains） -----------------
+
+    /**
+     * 中间节点（偶数个元素时为第 size/2 个）
+     * @throws NoSuchElementException 链表为空时抛出
+     * 时间复杂度：O(n) —— 快慢指针一次遍历
+     */
+    public T middle() {
+        if (head == null) throw new NoSuchElementException("链表为空");
+        materialize();
+        return NodeChains.middle(head);
+    }
+
+    /**
+     * 倒数第 n 个节点（n=1 为尾节点）
+     * @throws IllegalArgumentException 当 n 小于1时抛出
+     * @throws IndexOutOfBoundsException 当 n 超过链表长度时抛出
+     * 时间复杂度：O(n) —— 间隔指针一次遍历
+     */
+    public T getNodeFromEnd(int n) {
+        materialize();
+        return NodeChains.nthFromEnd(head, n);
+    }
+
+    /**
+     * 将有序链表 other 稳定合并进本链表（两者均须按 cmp 有序），other 随后变为空链表
+     * 实现策略：NodeChains.merge 原地改写 next 指针，不复制节点
+     * @param cmp 比较器，为 null 时按自然顺序（元素须实现 Comparable），与 sort 一致
+     * @throws IllegalArgumentException other 为本链表自身时抛出
+     * 时间复杂度：O(m + n)
+     * 空间复杂度：O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public void merge(LinkedList<E, T> other, Comparator<? super E> cmp) {
+        if (other == this) throw new IllegalArgumentException("不能合并自身");
+        if (cmp == null) {
+            cmp = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        if (other.head == null) return;
+        materialize();
+        other.materialize();
+        T otherTail = other.tail;
+        head = NodeChains.merge(head, other.head, cmp);
+        if (tail == null || tail.next != null) {
+            tail = otherTail; // 最后一个节点来自 other
+        }
+        size += other.size;
+        modCount++;
+        other.detachAll();
+        relinkPrev();
+        afterBulkChange();
+    }
+
+    /**
+     * 与 other 的第一个公共节点（两个链表共享尾部节点时），不相交时返回 null
+     * 时间复杂度：O(m + n)
+     */
+    public T intersection(LinkedList<E, T> other) {
+        materialize();
+        other.materialize();
+        return NodeChains.intersection(head, other.head);
+    }
+
+    /** 链中是否存在环（Floyd），正常维护的链表始终返回 false */
+    public boolean hasCycle() {
+        return NodeChains.hasCycle(head);
+    }
+
+    /**
+     * 实际遍历计数节点个数（安全模式的 size）：带环检测，不依赖 size 计数器
+     * @throws IllegalStateException 链中存在环时抛出
+     * 时间复杂度：O(n)
+     */
+    public int countNodes() {
+        return NodeChains.length(head);
+    }
+
+    /**
+     * 校验链表结构：无环、实际节点数等于 size、tail 为最后一个节点
+     * @throws IllegalStateException 结构被破坏时抛出，说明具体原因
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1)
+     */
+    public void checkIntegrity() {
+        int count = NodeChains.length(head);
+        if (count != size) {
+            throw new IllegalStateException("节点数 " + count + " 与 size " + size + " 不一致");
+        }
+        if (size > 0 && (tail == null || tail.next != null || NodeChains.nthFromEnd(head, 1) != tail)) {
+            throw new IllegalStateException("tail 不是最后一个节点");
+        }
+        if (size == 0 && tail != null) {
+            throw new IllegalStateException("空链表的 tail 不为 null");
+        }
+    }
+
+    // ----------------- 排序 -----------------
+
+    /**
+     * 稳定的原地归并排序（自底向上，无递归），只重新链接已有节点，不复制元素
+     * 实现策略（二进制计数器式归并，与 libstdc++ list::sort 同类，见 NodeChains.sort）：
+     * 1. 从头依次切下自然有序段作为叶子：不降序段原样切下，严格降序段原地反转后切下
+     * 2. 第 i 层最多暂存一个由 2^i 个叶子合并成的有序段；新段逐层与已有段合并后进位，
+     *    刚访问过的节点立即参与下一次合并，比逐轮扫描整条链的缓存局部性好得多
+     * 3. 最后由低到高合并各层剩余的有序段
+     * 合并前若前段末尾不大于后段开头则直接拼接（反之整体前置），相等元素保持原有先后顺序
+     * 双向链表在最后统一修复 prev 指针；多核并行版本见 ParallelListOps.sort
+     * @param cmp 比较器，为 null 时按自然顺序（元素须实现 Comparable）
+     * 时间复杂度：O(n log n)；已有序或严格降序时 O(n)，r 个自然有序段时 O(n log r)
+     * 空间复杂度：O(1) —— 固定个数的槽位暂存各层有序段的首尾节点
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> cmp) {
+        if (cmp == null) {
+            cmp = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        if (size < 2) return;
+        materialize();
+        modCount++;
+
+        Object[] last = new Object[1];
+        head = NodeChains.sort(head, cmp, last);
+        tail = (T) last[0];
+        relinkPrev();
+        afterBulkChange();
+    }
+
+    // ----------------- 迭代与流 -----------------
+
+    /**
+     * 快速失败迭代器：创建后链表发生结构性修改时，next() 抛出 ConcurrentModificationException
+     * 时间复杂度：整体遍历 O(n)，每步 O(1)
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private T next = head;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (next == null) throw new NoSuchElementException();
+                E data = next.data;
+                next = next.next;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * 可拆分迭代器（ORDERED | SIZED | SUBSIZED），延迟绑定：首次使用时才读取 head/size
+     * 拆分策略：链表无法随机访问，每次拆分沿链表向前跳过一批节点并复制到数组，
+     * 数组部分交给其他线程处理，批大小按 BATCH_UNIT 递增，使拆分开销与处理并行进行
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator();
+    }
+
+    /** 顺序流 */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /** 并行流（基于 NodeSpliterator 分批拆分） */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private final class NodeSpliterator implements Spliterator<E> {
+        /** 批大小增量 */
+        private static final int BATCH_UNIT = 1 << 10;
+        /** 单批最大元素个数 */
+        private static final int MAX_BATCH = 1 << 25;
+
+        private T current;
+        /** 剩余元素个数，-1 表示尚未绑定 */
+        private int est = -1;
+        private int expectedModCount;
+        /** 上一批的大小 */
+        private int batch;
+
+        private int getEst() {
+            if (est < 0) {
+                materialize();
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return est;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int s = getEst();
+            if (s <= 1 || current == null) {
+                return null;
+            }
+            int n = Math.min(batch + BATCH_UNIT, Math.min(s, MAX_BATCH));
+            Object[] a = new Object[n];
+            int j = 0;
+            T p = current;
+            do {
+                a[j++] = p.data;
+                p = p.next;
+            } while (p != null && j < n);
+            current = p;
+            batch = j;
+            est = s - j;
+            return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (getEst() > 0 && current != null) {
+                E data = current.data;
+                current = current.next;
+                est--;
+                action.accept(data);
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            int n = getEst();
+            T p = current;
+            current = null;
+            est = 0;
+            for (; p != null && n > 0; n--) {
+                E data = p.data;
+                p = p.next;
+                action.accept(data);
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     // ----------------- 通用功能 -----------------
 
-    /** 递归逆序打印链表元素 */
+    /**
+     * 逆序打印链表元素（无递归）
+     * 实现策略：基于 writeReverseTo 批量写入 System.out，不再逐节点调用 print
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1) —— 不使用递归栈或辅助栈
+     */
     public void reversePrint() {
-        reversePrintHelper(head);
+        reversePrint(Integer.MAX_VALUE);
+    }
+
+    /** 逆序打印最后 limit 个元素，超出部分以 " ..." 代替 */
+    public void reversePrint(int limit) {
+        try {
+            writeReverseTo(System.out, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // PrintStream 不会抛出 IOException
+        }
         System.out.println();
     }
 
-    /** 递归逆序打印辅助方法
-     * 时间复杂度：O(n) —— 递归遍历所有节点
-     * 空间复杂度：O(n) —— 递归调用栈深度为n
+    /**
+     * 仅反转从 first 开始、到 end（不含）为止的 next 链，不修改 head/tail 等状态
+     * 反转后原首节点的 next 为 null
+     * @return 反转后的首节点（原末节点）
      */
-    private void reversePrintHelper(T node) {
-        if (node == null) return;
-        reversePrintHelper(node.next); // 先递归到末尾
-        System.out.print(node.data + " "); // 回溯时打印
+    private T reverseChain(T first, T end) {
+        T prev = null;
+        T current = first;
+        while (current != end) {
+            T next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
+        }
+        return prev;
     }
 
     /** 迭代反转链表
@@ -93,6 +766,8 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
      * 空间复杂度：O(1) —— 仅使用几个临时变量
      */
     public void reverse() {
+        modCount++;
+        tail = head; // 原头节点成为新尾节点
         T prev = null;
         T current = head;
         T next = null;
@@ -107,52 +782,125 @@ public abstract class LinkedList<E, T extends Node<E, T>> {
 
     /** 递归反转链表入口方法 */
     public void reverseRecursion() {
+        modCount++;
+        tail = head;
         reverseRecursionHelper(head);
     }
 
-    /** 递归反转核心逻辑
-     * 时间复杂度：O(n) —— 递归遍历所有节点
-     * 空间复杂度：O(n) —— 递归调用栈深度为n
+    /** 递归反转核心逻辑（已消除递归）
+     * 原递归先递归到末节点，回溯时执行 current.next.next = current（非尾递归，递归调用之后还有工作，
+     * 栈深度为 n，长链表栈溢出）；改写为从头到尾逐个翻转 next 的循环，结果相同
+     * 时间复杂度：O(n) —— 遍历所有节点
+     * 空间复杂度：O(1) —— 无递归调用栈
      * */
     protected void reverseRecursionHelper(T current) {
-        if (current == null || current.next == null) {
-            head = current; // 终止条件：到达末尾
-            return;
+        T prev = null;
+        while (current != null) {
+            T next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
         }
-        reverseRecursionHelper(current.next);
-        current.next.next = current; // 反转指针
-        current.next = null; // 断开原指针
+        head = prev; // 终止条件：到达末尾
     }
 
-    /** 利用栈反转
+    /** 利用栈反转（以节点自身为链式栈）
+     * 依次从原链表弹出节点并压入由 next 串联的栈，出栈顺序即反转顺序；
+     * 不再复制节点引用到 java.util.Stack
      * 时间复杂度：O(n) —— 遍历所有节点
-     * 空间复杂度：O(n) —— 递归调用栈深度为n
+     * 空间复杂度：O(1) —— 栈由节点自身的 next 指针构成
      * */
     public void reverseByStack() {
-        if (head == null) {
-            return;
-        }
-
-        java.util.Stack<T> stack = new java.util.Stack<>();
+        modCount++;
+        T stack = null; // 栈顶
         T current = head;
+        tail = head;
 
-        // 将所有节点压入栈
         while (current != null) {
-            stack.push(current);
+            T node = current;      // 从原链表弹出
             current = current.next;
+            node.next = stack;     // 压入栈
+            stack = node;
         }
 
-        // 设置新头节点并初始化指针
-        head = stack.peek();
-        current = head;
+        head = stack;
+    }
 
-        // 重新链接节点
-        stack.pop(); // 弹出已处理的头节点
-        while (!stack.isEmpty()) {
-            current.next = stack.pop();
-            current = current.next;
+    /**
+     * 原地反转区间 [from, to] 内的节点
+     * @param from 起始位置（从1开始计数）
+     * @param to 结束位置（包含）
+     * @throws IndexOutOfBoundsException 区间无效时抛出
+     * 时间复杂度：O(to) —— 定位前驱 + 区间内反转
+     * 空间复杂度：O(1)
+     */
+    public void reverse(int from, int to) {
+        if (from < 1 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("区间 [" + from + ", " + to + "] 无效");
         }
+        if (from == to) return;
+        materialize();
+        modCount++;
+
+        T before = (from == 1) ? null : getNode(from - 1);
+        T first = (before == null) ? head : before.next;
 
-        current.next = null; // 尾节点的 next 置空
+        T prev = null;
+        T current = first;
+        for (int i = from; i <= to; i++) {
+            T next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
+        }
+        // prev 为区间新首节点，first 为区间新尾节点，current 为区间后的第一个节点
+        first.next = current;
+        if (before == null) {
+            head = prev;
+        } else {
+            before.next = prev;
+        }
+        if (current == null) {
+            tail = first;
+        }
+    }
+
+    /**
+     * 每 k 个节点一组原地反转，末尾不足 k 个的节点保持原顺序
+     * @throws IllegalArgumentException k 小于1时抛出
+     * 时间复杂度：O(n) —— 单次遍历
+     * 空间复杂度：O(1)
+     */
+    public void reverseKGroup(int k) {
+        if (k < 1) throw new IllegalArgumentException("分组大小必须≥1");
+        if (k == 1) return;
+        materialize();
+        modCount++;
+
+        T before = null;        // 上一组反转后的尾节点
+        T groupStart = head;
+        int remaining = size;
+        while (remaining >= k) {
+            T prev = null;
+            T current = groupStart;
+            for (int i = 0; i < k; i++) {
+                T next = current.next;
+                current.next = prev;
+                prev = current;
+                current = next;
+            }
+            groupStart.next = current; // 组内原首节点成为组尾，接上下一组
+            if (before == null) {
+                head = prev;
+            } else {
+                before.next = prev;
+            }
+            before = groupStart;
+            groupStart = current;
+            remaining -= k;
+        }
+        if (groupStart == null) {
+            tail = before; // 所有节点恰好分完，最后一组的组尾即链表尾
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package LinkedListT;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
+/**
+ * 批量位置编辑：收集若干插入 / 删除，一次遍历全部应用
+ * @param <E> 数据类型
+ * @param <T> 节点类型
+ * <p>
+ * 位置语义：所有位置都指创建编辑（或上一次 apply）时链表中的原始位置，互不影响
+ * 1. insert(pos, v)：插入到原第 pos 个元素之前（pos=size+1 为尾部）；
+ *    同一位置的多次插入按调用顺序排列
+ * 2. delete(pos)：删除原第 pos 个元素，同一位置只能删除一次；
+ *    在被删除的位置插入时，新元素出现在其原来所在的位置
+ * 应用过程：按 (位置, 调用顺序) 排序后，用 getNode 定位最小编辑位置的前驱，再一次遍历到最大的编辑位置，
+ * 到达各位置时就地接入或摘除节点。getNode 的定位代价由链表决定：单向链表从头出发，
+ * 双向链表从头、尾、游标中最近的一个出发，编辑集中在尾部时不必从头遍历。
+ * 等价于按位置从大到小逐个调用 delete(pos) 与 insert(pos, v)（同一位置先删除，插入按调用顺序逆序），
+ * 但不需要每次重新定位。双向链表上编辑很少、或位置彼此相距很远时，逐个调用的代价与批量相当。
+ * <p>
+ * 用法：
+ * <pre>
+ * list.edit().insert(3, x).delete(5).insert(8, y).apply();
+ * </pre>
+ * 时间复杂度：O(k log k + d + (q - p)) —— k 为编辑个数，p / q 为最小 / 最大编辑位置（≤ n+1），
+ *           d 为 getNode(p-1) 的定位代价（单向链表为 p，双向链表不超过 min(p, n-p)）
+ * 空间复杂度：O(k)
+ */
+public final class ListEdit<E, T extends Node<E, T>> {
+    private final LinkedList<E, T> list;
+    /** 创建编辑时的链表长度与修改次数，apply 时校验链表未被其他操作修改 */
+    private int baseSize;
+    private int expectedModCount;
+
+    /** 第 i 个编辑：positions[i] 为位置，values[i] 为插入的元素，deletes[i] 表示是否删除 */
+    private int[] positions = new int[8];
+    private Object[] values = new Object[8];
+    private boolean[] deletes = new boolean[8];
+    private int count;
+
+    ListEdit(LinkedList<E, T> list) {
+        this.list = list;
+        reset();
+    }
+
+    /**
+     * 在原第 pos 个元素之前插入 value
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过原长度+1时抛出
+     */
+    public ListEdit<E, T> insert(int pos, E value) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > baseSize + 1) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        add(pos, value, false);
+        return this;
+    }
+
+    /**
+     * 删除原第 pos 个元素
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过原长度时抛出
+     */
+    public ListEdit<E, T> delete(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > baseSize) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        add(pos, null, true);
+        return this;
+    }
+
+    /** 尚未应用的编辑个数 */
+    public int pending() {
+        return count;
+    }
+
+    private void add(int pos, Object value, boolean delete) {
+        if (count == positions.length) {
+            int capacity = count * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            values = Arrays.copyOf(values, capacity);
+            deletes = Arrays.copyOf(deletes, capacity);
+        }
+        positions[count] = pos;
+        values[count] = value;
+        deletes[count] = delete;
+        count++;
+    }
+
+    /**
+     * 一次遍历应用全部编辑，之后编辑器清空并以链表的新状态为基准，可以继续使用
+     * @throws ConcurrentModificationException 创建编辑后链表被其他操作修改时抛出（位置已失效）
+     * @throws IllegalArgumentException 同一位置被删除两次时抛出（链表保持不变）
+     */
+    @SuppressWarnings("unchecked")
+    public void apply() {
+        if (list.modCount != expectedModCount) throw new ConcurrentModificationException();
+        if (count == 0) return;
+
+        // 排序键：高 32 位为位置，低 32 位为调用顺序 —— 同一位置按调用顺序，排序结果稳定
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) positions[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        int lastDeleted = 0;
+        for (long key : order) { // 修改链表前先校验，失败时链表保持不变
+            int i = (int) key;
+            if (deletes[i]) {
+                if (positions[i] == lastDeleted) {
+                    throw new IllegalArgumentException("位置 " + positions[i] + " 重复删除");
+                }
+                lastDeleted = positions[i];
+            }
+        }
+
+        list.materialize();
+        int first = positions[(int) order[0]];
+        T prev = first == 1 ? null : list.getNode(first - 1);
+        T current = prev == null ? list.head : prev.next;
+        int currentPos = first; // current 在原链表中的位置，current 为 null 时为 baseSize+1
+        for (long key : order) {
+            int i = (int) key;
+            int pos = positions[i];
+            while (currentPos < pos) {
+                prev = current;
+                current = current.next;
+                currentPos++;
+            }
+            if (deletes[i]) {
+                T removed = current;
+                current = current.next;
+                currentPos++;
+                if (prev == null) {
+                    list.head = current;
+                } else {
+                    prev.next = current;
+                }
+                if (current == null) {
+                    list.tail = prev;
+                } else {
+                    list.setPrev(current, prev);
+                }
+                list.recycle(removed);
+                list.size--;
+            } else {
+                T node = list.obtainNode((E) values[i]);
+                node.next = current;
+                list.setPrev(node, prev);
+                if (prev == null) {
+                    list.head = node;
+                } else {
+                    prev.next = node;
+                }
+                if (current == null) {
+                    list.tail = node;
+                } else {
+                    list.setPrev(current, node);
+                }
+                prev = node;
+                list.size++;
+            }
+        }
+        list.modCount++;
+        list.afterBulkChange();
+        reset();
+    }
+
+    /** 丢弃尚未应用的编辑，并以链表的当前状态为基准 */
+    public void reset() {
+        Arrays.fill(values, 0, count, null);
+        count = 0;
+        baseSize = list.size;
+        expectedModCount = list.modCount;
+    }
+}
@@ -0,0 +1,261 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 链表元素的流式输出器
+ * <p>
+ * 特性：
+ * 1. 元素直接编码为 UTF-8 字节写入固定大小的缓冲区，缓冲区满时批量写出，
+ *    输出大小与链表长度无关，不构造整段字符串
+ * 2. int / long 及其包装类型直接写数字字节，不经过 String
+ * 3. 写出目标为 WritableByteChannel 时直接写字节；为 Appendable 时经可复用的
+ *    CharBuffer 解码后追加（每个码点写入前预留4字节，批次边界不会切开多字节字符）；
+ *    为 PrintStream 且本批只含 ASCII 字符时直接写字节（PrintStream.append 会为每批复制出
+ *    一个 String 再编码，reversePrint 等输出到 System.out 时分配量与链表长度成正比）
+ * 4. 每个线程缓存一个实例（acquire/release），同一线程嵌套使用时临时新建，互不干扰
+ * <p>
+ * 用法：
+ * <pre>
+ * ListWriter w = ListWriter.acquire().begin(out, limit);
+ * try {
+ *     for (...) { if (!w.element(x)) break; }
+ *     w.finish();
+ * } finally {
+ *     w.release();
+ * }
+ * </pre>
+ */
+public final class ListWriter {
+    /** 默认缓冲区大小（字节） */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** 超过长度上限时追加的省略标记（一个元素都未写出时省略前导空格） */
+    private static final byte[] ELLIPSIS = {' ', '.', '.', '.'};
+
+    private static final ThreadLocal<ListWriter> LOCAL = ThreadLocal.withInitial(ListWriter::new);
+
+    private final byte[] bytes;
+    private final ByteBuffer byteView;
+    private int pos;
+    /** 当前批次是否只含 ASCII 字节 */
+    private boolean ascii = true;
+
+    /** Appendable 目标使用的解码器与字符缓冲区（首次使用时创建，之后复用） */
+    private CharsetDecoder decoder;
+    private CharBuffer chars;
+
+    private WritableByteChannel channel;
+    private Appendable appendable;
+    private int limit;
+    private int count;
+    private boolean truncated;
+    private boolean inUse;
+
+    public ListWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ListWriter(int capacity) {
+        if (capacity < 16) throw new IllegalArgumentException("缓冲区大小必须≥16");
+        bytes = new byte[capacity];
+        byteView = ByteBuffer.wrap(bytes);
+    }
+
+    /** 获取当前线程缓存的实例；该实例正在使用（嵌套输出）时返回新实例 */
+    public static ListWriter acquire() {
+        ListWriter w = LOCAL.get();
+        if (w.inUse) {
+            w = new ListWriter();
+        }
+        w.inUse = true;
+        return w;
+    }
+
+    /** 归还实例并断开与写出目标的关联 */
+    public void release() {
+        channel = null;
+        appendable = null;
+        pos = 0;
+        ascii = true;
+        inUse = false;
+    }
+
+    /**
+     * 开始一次输出
+     * @param limit 最多输出的元素个数，超出部分以 " ..." 代替（limit 为0且有元素时只输出 "..."）
+     * @throws IllegalArgumentException limit 小于0时抛出
+     */
+    public ListWriter begin(WritableByteChannel channel, int limit) {
+        reset(limit);
+        this.channel = channel;
+        return this;
+    }
+
+    public ListWriter begin(Appendable appendable, int limit) {
+        reset(limit);
+        this.appendable = appendable;
+        if (decoder == null) {
+            decoder = StandardCharsets.UTF_8.newDecoder();
+            chars = CharBuffer.allocate(bytes.length);
+        }
+        return this;
+    }
+
+    private void reset(int limit) {
+        if (limit < 0) {
+            release(); // begin 失败时调用方不会进入 try/finally，这里直接归还
+            throw new IllegalArgumentException("长度上限必须≥0");
+        }
+        this.limit = limit;
+        this.count = 0;
+        this.truncated = false;
+        this.pos = 0;
+        this.ascii = true;
+    }
+
+    // ----------------- 写入元素 -----------------
+
+    /**
+     * 写入一个元素（元素之间以空格分隔）
+     * @return 是否还可以继续写入；达到长度上限后返回 false，调用方应停止遍历
+     */
+    public boolean element(Object value) throws IOException {
+        if (!separator()) return false;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else {
+            writeString(String.valueOf(value));
+        }
+        return true;
+    }
+
+    public boolean element(int value) throws IOException {
+        if (!separator()) return false;
+        writeLong(value);
+        return true;
+    }
+
+    public boolean element(long value) throws IOException {
+        if (!separator()) return false;
+        writeLong(value);
+        return true;
+    }
+
+    /** 写入分隔符并计数；超过上限时写入一次省略标记 */
+    private boolean separator() throws IOException {
+        if (count >= limit) {
+            if (!truncated) {
+                truncated = true;
+                int skip = count == 0 ? 1 : 0;
+                ensure(ELLIPSIS.length);
+                System.arraycopy(ELLIPSIS, skip, bytes, pos, ELLIPSIS.length - skip);
+                pos += ELLIPSIS.length - skip;
+            }
+            return false;
+        }
+        if (count++ > 0) {
+            ensure(1);
+            bytes[pos++] = ' ';
+        }
+        return true;
+    }
+
+    /** 十进制写入：先计算位数，再由低位到高位直接填入缓冲区，不分配临时对象 */
+    private void writeLong(long value) throws IOException {
+        ensure(20);
+        if (value == Long.MIN_VALUE) {
+            writeString("-9223372036854775808");
+            return;
+        }
+        if (value < 0) {
+            bytes[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        pos = end;
+    }
+
+    /** 按 UTF-8 编码写入字符串 */
+    private void writeString(String s) throws IOException {
+        int n = s.length();
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ensure(1);
+                bytes[pos++] = (byte) c;
+                continue;
+            }
+            ensure(4);
+            ascii = false;
+            if (c < 0x800) {
+                bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                bytes[pos++] = (byte) (0xF0 | (cp >> 18));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                bytes[pos++] = '?'; // 孤立代理项，与 String.getBytes 的替换行为一致
+            } else {
+                bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    // ----------------- 批量写出 -----------------
+
+    private void ensure(int n) throws IOException {
+        if (pos + n > bytes.length) {
+            drain();
+        }
+    }
+
+    /** 写出剩余内容，结束本次输出 */
+    public void finish() throws IOException {
+        drain();
+    }
+
+    private void drain() throws IOException {
+        if (pos == 0) return;
+        byteView.clear().limit(pos);
+        if (channel != null) {
+            while (byteView.hasRemaining()) {
+                channel.write(byteView);
+            }
+        } else if (ascii && appendable instanceof PrintStream) {
+            ((PrintStream) appendable).write(bytes, 0, pos); // ASCII 在 PrintStream 可能使用的字符集中编码相同
+        } else {
+            chars.clear();
+            decoder.reset();
+            CoderResult result = decoder.decode(byteView, chars, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            chars.flip();
+            appendable.append(chars);
+        }
+        pos = 0;
+        ascii = true;
+    }
+}
@@ -0,0 +1,29 @@
+package LinkedListT;
+
+/**
+ * LRU 淘汰策略：一条按访问时间排序的 CacheDeque
+ * 命中时移到尾部，淘汰头部。所有操作 O(1)。
+ */
+public class LruPolicy<K, V> implements EvictionPolicy<K, V> {
+    private final CacheDeque<K, V> order = new CacheDeque<>();
+
+    @Override
+    public void onInsert(CacheNode<K, V> node) {
+        order.linkLast(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        order.moveToLast(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        order.unlink(node);
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        return order.pollFirst();
+    }
+}
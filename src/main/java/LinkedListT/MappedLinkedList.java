@@ -0,0 +1,375 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * 内存映射持久化单链表（定长元素）
+ * <p>
+ * 特性：
+ * 1. 节点存放在内存映射文件中，重新打开时只需映射文件并读取头部，无需反序列化，耗时与长度无关
+ * 2. 文件布局：[文件头 4KB][节点段0][节点段1]...，节点布局为 [next(4B)][数据(width B)]
+ * 3. 文件头包含两个提交记录槽（A/B），每次提交写入非当前槽并递增序号，带 CRC 校验
+ * 4. 提交顺序：先写新节点并刷盘，再写提交记录并刷盘；崩溃时最多丢失未提交的那次操作
+ * <p>
+ * 崩溃恢复：打开时选择校验通过且序号最大的提交记录。尾插会先修改已提交尾节点的 next，
+ * 若提交记录未落盘，该 next 指向未提交节点，因此恢复时将已提交尾节点的 next 重置为 NIL。
+ */
+public class MappedLinkedList<E> implements Iterable<E>, AutoCloseable {
+    private static final int NIL = -1;
+    private static final long MAGIC = 0x4C4C4D4150504544L; // "LLMAPPED"
+    private static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 4096;
+    /** 两个提交记录槽在文件头中的偏移（包内可见，测试据此构造损坏的提交记录） */
+    static final int SLOT_A = 64;
+    static final int SLOT_B = 128;
+    /** 提交记录：seq(8) head(4) tail(4) size(4) used(4) crc(8) */
+    static final int SLOT_BYTES = 32;
+    private static final int SLOT_CRC = 24;
+
+    /** 每段 2^16 个节点 */
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final OffHeapCodec<E> codec;
+    private final int stride;
+    private final FileChannel channel;
+    /** 每次提交是否刷盘（关闭后可批量写入，由 flush/close 统一刷盘） */
+    private final boolean durable;
+
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[4];
+    private int segmentCount;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+    private int used;
+    private long seq;
+    /** 当前有效提交记录所在槽 */
+    private int activeSlot;
+    private boolean closed;
+
+    private MappedLinkedList(OffHeapCodec<E> codec, FileChannel channel, boolean durable) throws IOException {
+        this.codec = codec;
+        this.stride = Integer.BYTES + codec.width();
+        this.channel = channel;
+        this.durable = durable;
+        this.header = map(0, HEADER_BYTES);
+    }
+
+    /**
+     * 打开（不存在则创建）持久化链表，每次提交都刷盘
+     * @param path 数据文件
+     * @param codec 元素编解码器，必须与创建时的元素宽度一致
+     * @throws IOException 文件损坏或格式不匹配时抛出
+     */
+    public static <E> MappedLinkedList<E> open(Path path, OffHeapCodec<E> codec) throws IOException {
+        return open(path, codec, true);
+    }
+
+    /**
+     * 打开（不存在则创建）持久化链表
+     * @param durable 为 false 时提交不刷盘，适合批量导入，最后调用 flush() 或 close()
+     * @throws IllegalArgumentException 元素过宽，一段节点超出单个 ByteBuffer 的容量时抛出
+     */
+    public static <E> MappedLinkedList<E> open(Path path, OffHeapCodec<E> codec, boolean durable) throws IOException {
+        if (((long) (Integer.BYTES + codec.width()) << SEGMENT_SHIFT) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("段大小超出单个 ByteBuffer 的容量");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            MappedLinkedList<E> list = new MappedLinkedList<>(codec, channel, durable);
+            if (created) {
+                list.format();
+            } else {
+                list.recover();
+            }
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer map(long position, int length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /** 初始化新文件：写入文件头与空链表的提交记录 */
+    private void format() {
+        header.putLong(0, MAGIC);
+        header.putInt(8, VERSION);
+        header.putInt(12, codec.width());
+        activeSlot = SLOT_B; // 首次提交写入槽 A
+        commit();
+        header.force();
+    }
+
+    /** 读取最新有效提交记录，映射已有节点段，并修复未提交的尾部链接 */
+    private void recover() throws IOException {
+        if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+            throw new IOException("不是有效的链表文件");
+        }
+        if (header.getInt(12) != codec.width()) {
+            throw new IOException("元素宽度不匹配：文件为 " + header.getInt(12) + "，期望 " + codec.width());
+        }
+
+        boolean validA = slotValid(SLOT_A);
+        boolean validB = slotValid(SLOT_B);
+        if (!validA && !validB) throw new IOException("提交记录均已损坏");
+        if (validA && validB) {
+            activeSlot = header.getLong(SLOT_A) >= header.getLong(SLOT_B) ? SLOT_A : SLOT_B;
+        } else {
+            activeSlot = validA ? SLOT_A : SLOT_B;
+        }
+
+        seq = header.getLong(activeSlot);
+        head = header.getInt(activeSlot + 8);
+        tail = header.getInt(activeSlot + 12);
+        size = header.getInt(activeSlot + 16);
+        used = header.getInt(activeSlot + 20);
+
+        while ((long) segmentCount << SEGMENT_SHIFT < used) {
+            addSegment();
+        }
+        if (tail != NIL) {
+            setNext(tail, NIL);
+        }
+    }
+
+    private boolean slotValid(int slot) {
+        return header.getLong(slot + SLOT_CRC) == crc(slot) && header.getLong(slot) > 0;
+    }
+
+    private long crc(int slot) {
+        CRC32 crc = new CRC32();
+        ByteBuffer view = header.duplicate();
+        view.position(slot).limit(slot + SLOT_CRC);
+        crc.update(view);
+        return crc.getValue();
+    }
+
+    /** 将当前状态写入非活动槽，刷盘后成为新的活动槽 */
+    private void commit() {
+        int slot = activeSlot == SLOT_A ? SLOT_B : SLOT_A;
+        header.putLong(slot, ++seq);
+        header.putInt(slot + 8, head);
+        header.putInt(slot + 12, tail);
+        header.putInt(slot + 16, size);
+        header.putInt(slot + 20, used);
+        header.putLong(slot + SLOT_CRC, crc(slot));
+        if (durable) {
+            header.force(slot, SLOT_BYTES);
+        }
+        activeSlot = slot;
+    }
+
+    // ----------------- 节点存取 -----------------
+
+    private MappedByteBuffer segment(int node) {
+        return segments[node >>> SEGMENT_SHIFT];
+    }
+
+    private int offset(int node) {
+        return (node & SEGMENT_MASK) * stride;
+    }
+
+    private int next(int node) {
+        return segment(node).getInt(offset(node));
+    }
+
+    private void setNext(int node, int value) {
+        segment(node).putInt(offset(node), value);
+    }
+
+    private E read(int node) {
+        return codec.read(segment(node), offset(node) + Integer.BYTES);
+    }
+
+    private void addSegment() throws IOException {
+        if ((long) (segmentCount + 1) << SEGMENT_SHIFT > Integer.MAX_VALUE) {
+            throw new IllegalStateException("节点数超过上限 " + Integer.MAX_VALUE);
+        }
+        if (segmentCount == segments.length) {
+            segments = java.util.Arrays.copyOf(segments, segments.length * 2);
+        }
+        long position = HEADER_BYTES + ((long) segmentCount << SEGMENT_SHIFT) * stride;
+        segments[segmentCount++] = map(position, stride << SEGMENT_SHIFT);
+    }
+
+    /** 在高水位之后写入新节点（尚未被任何提交记录引用） */
+    private int writeNode(E value, int nextNode) {
+        ensureOpen();
+        try {
+            if (used == segmentCount << SEGMENT_SHIFT) {
+                addSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int node = used++;
+        codec.write(segment(node), offset(node) + Integer.BYTES, value);
+        setNext(node, nextNode);
+        return node;
+    }
+
+    private void forceNode(int node) {
+        if (durable) {
+            segment(node).force(offset(node), stride);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("链表已关闭");
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    /**
+     * 头部插入并提交
+     * 时间复杂度：O(1)
+     */
+    public void insert(E data) {
+        int newNode = writeNode(data, head);
+        forceNode(newNode);
+        head = newNode;
+        if (tail == NIL) {
+            tail = newNode;
+        }
+        size++;
+        commit();
+    }
+
+    /**
+     * 尾部插入并提交
+     * 时间复杂度：O(1)
+     */
+    public void addLast(E data) {
+        if (tail == NIL) {
+            insert(data);
+            return;
+        }
+        int newNode = writeNode(data, NIL);
+        forceNode(newNode);
+        setNext(tail, newNode); // 修改已提交的尾节点；提交前崩溃会在恢复时被重置
+        forceNode(tail);
+        tail = newNode;
+        size++;
+        commit();
+    }
+
+    /**
+     * 获取指定位置的元素
+     * 时间复杂度：O(n)
+     */
+    public E get(int pos) {
+        ensureOpen();
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos == size) return read(tail);
+        int current = head;
+        for (int i = 1; i < pos; i++) {
+            current = next(current);
+        }
+        return read(current);
+    }
+
+    /** 获取尾部元素，O(1) */
+    public E peekLast() {
+        ensureOpen();
+        if (tail == NIL) throw new NoSuchElementException("链表为空");
+        return read(tail);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 将所有映射内容刷盘 */
+    public void flush() {
+        ensureOpen();
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i].force();
+        }
+        header.force();
+    }
+
+    @Override
+    public String toString() {
+        ensureOpen();
+        StringBuilder sb = new StringBuilder();
+        for (int current = head; current != NIL; current = next(current)) {
+            sb.append(read(current)).append(" ");
+        }
+        return sb.toString().trim();
+    }
+
+    /** 顺序迭代器（迭代期间不得修改链表） */
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<E>() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public E next() {
+                ensureOpen(); // close() 之后映射已解除，不能再读取
+                if (current == NIL) throw new NoSuchElementException();
+                E value = read(current);
+                current = MappedLinkedList.this.next(current);
+                return value;
+            }
+        };
+    }
+
+    /** 刷盘并解除映射、关闭文件 */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        flush();
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+            segments[i] = null;
+        }
+        DirectBuffers.free(header);
+        channel.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = java.nio.file.Files.createTempFile("mapped-list", ".dat");
+        try (MappedLinkedList<Integer> myList = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            myList.insert(1);
+            myList.insert(2);
+            myList.insert(3);
+            myList.addLast(4);
+            myList.addLast(5);
+            System.out.println(myList);
+        }
+
+        try (MappedLinkedList<Integer> reopened = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            System.out.println(reopened + " (size=" + reopened.size() + ", last=" + reopened.peekLast() + ")");
+        }
+        java.nio.file.Files.delete(path);
+    }
+}
@@ -0,0 +1,348 @@
+package LinkedListT;
+
+import java.util.Comparator;
+
+/**
+ * 直接作用于 Node 节点链（由 next 串联，以 null 结尾或含环）的单遍算法
+ * <p>
+ * 所有方法只使用 O(1) 额外空间，时间复杂度为链长的线性：
+ * 1. 环检测：Floyd（快慢指针）与 Brent（倍增）两种实现，给出入环节点与环长
+ * 2. length：带环检测的计数，在损坏的链上抛出异常而不是死循环
+ * 3. middle / nthFromEnd：快慢指针与间隔指针，一次遍历
+ * 4. merge：稳定合并两条有序链，只改写 next 指针，不分配节点
+ * 5. intersection：双指针交换起点，求两条无环链的第一个公共节点
+ * 6. sort：稳定的自底向上归并排序，只重新链接节点
+ * 只维护 next 指针；双向链表的 prev 需由调用方（如 LinkedList.relinkPrev）修复。
+ */
+public final class NodeChains {
+
+    private NodeChains() {
+    }
+
+    // ----------------- 环检测 -----------------
+
+    /**
+     * Floyd 环检测：慢指针每次一步，快指针每次两步，有环时必然相遇
+     * 时间复杂度：O(μ + λ) —— μ 为入环前的节点数，λ 为环长
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> boolean hasCycle(T head) {
+        return meetingPoint(head) != null;
+    }
+
+    /**
+     * Floyd 求入环节点：相遇后一个指针回到起点，两者同速前进，再次相遇处即入环节点
+     * （相遇时慢指针走了 k 步、快指针 2k 步，k 是 λ 的倍数，故从起点与相遇点各走 μ 步会在入环处会合）
+     * @return 入环节点，无环时返回 null
+     * 时间复杂度：O(μ + λ)
+     */
+    public static <T extends Node<?, T>> T cycleStart(T head) {
+        T meet = meetingPoint(head);
+        if (meet == null) return null;
+        T a = head;
+        T b = meet;
+        while (a != b) {
+            a = a.next;
+            b = b.next;
+        }
+        return a;
+    }
+
+    /** 快慢指针的相遇节点，无环时返回 null */
+    private static <T extends Node<?, T>> T meetingPoint(T head) {
+        T slow = head;
+        T fast = head;
+        while (fast != null && fast.next != null) {
+            slow = slow.next;
+            fast = fast.next.next;
+            if (slow == fast) return slow;
+        }
+        return null;
+    }
+
+    /**
+     * Brent 求环长：tortoise 停在 2 的幂次位置等待，hare 逐步前进，
+     * 与 tortoise 相遇时走过的步数即环长；每个节点只访问一次 next，比 Floyd 少约一半指针读取
+     * @return 环长 λ，无环时返回 0
+     * 时间复杂度：O(μ + λ)
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> int cycleLength(T head) {
+        if (head == null) return 0;
+        int power = 1;
+        int lambda = 1;
+        T tortoise = head;
+        T hare = head.next;
+        while (hare != tortoise) {
+            if (hare == null) return 0;
+            if (power == lambda) { // 进入下一个 2 的幂次区间，tortoise 跳到 hare 处
+                tortoise = hare;
+                power <<= 1;
+                lambda = 0;
+            }
+            hare = hare.next;
+            lambda++;
+        }
+        return lambda;
+    }
+
+    /**
+     * Brent 求入环节点：先求环长 λ，再让一个指针先走 λ 步，两者同速前进的会合处即入环节点
+     * @return 入环节点，无环时返回 null
+     * 时间复杂度：O(μ + λ)
+     */
+    public static <T extends Node<?, T>> T cycleStartBrent(T head) {
+        int lambda = cycleLength(head);
+        if (lambda == 0) return null;
+        T lead = head;
+        for (int i = 0; i < lambda; i++) {
+            lead = lead.next;
+        }
+        T trail = head;
+        while (trail != lead) {
+            trail = trail.next;
+            lead = lead.next;
+        }
+        return trail;
+    }
+
+    /**
+     * 带环检测的链长计数（Brent 倍增，计数与检测在同一次遍历中完成）
+     * @throws IllegalStateException 链中存在环时抛出（附带入环位置与环长）
+     * 时间复杂度：O(n)，有环时 O(μ + λ)
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> int length(T head) {
+        if (head == null) return 0;
+        int count = 1;
+        int power = 1;
+        int lambda = 1;
+        T tortoise = head;
+        for (T hare = head.next; hare != null; hare = hare.next) {
+            if (hare == tortoise) {
+                throw new IllegalStateException("链表存在环：入环位置 " + position(head, cycleStartBrent(head))
+                        + "，环长 " + cycleLength(head));
+            }
+            if (power == lambda) {
+                tortoise = hare;
+                power <<= 1;
+                lambda = 0;
+            }
+            lambda++;
+            count++;
+        }
+        return count;
+    }
+
+    /** target 在链中的位置（从1开始），target 必须可由 head 到达 */
+    private static <T extends Node<?, T>> int position(T head, T target) {
+        int pos = 1;
+        for (T node = head; node != target; node = node.next) {
+            pos++;
+        }
+        return pos;
+    }
+
+    // ----------------- 定位 -----------------
+
+    /**
+     * 中间节点：快指针每次两步，慢指针每次一步
+     * 节点数为偶数时返回前半部分的最后一个节点（第 n/2 个），便于从此处拆分为两半
+     * @return 中间节点，空链返回 null
+     * 时间复杂度：O(n) —— 一次遍历（快指针走完全程）
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> T middle(T head) {
+        if (head == null) return null;
+        T slow = head;
+        T fast = head.next;
+        while (fast != null && fast.next != null) {
+            slow = slow.next;
+            fast = fast.next.next;
+        }
+        return slow;
+    }
+
+    /**
+     * 倒数第 n 个节点：先让 lead 走 n 步，再与 trail 同速前进，lead 到达末尾时 trail 即为所求
+     * @throws IllegalArgumentException n 小于1时抛出
+     * @throws IndexOutOfBoundsException n 超过链长时抛出
+     * 时间复杂度：O(len) —— 一次遍历，无需预先知道链长
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> T nthFromEnd(T head, int n) {
+        if (n < 1) throw new IllegalArgumentException("位置必须≥1");
+        T lead = head;
+        for (int i = 0; i < n; i++) {
+            if (lead == null) throw new IndexOutOfBoundsException("位置 " + n + " 超过链表长度");
+            lead = lead.next;
+        }
+        T trail = head;
+        while (lead != null) {
+            lead = lead.next;
+            trail = trail.next;
+        }
+        return trail;
+    }
+
+    // ----------------- 合并与相交 -----------------
+
+    /**
+     * 稳定合并两条按 cmp 有序的链（相等元素 a 链在前），只改写 next 指针
+     * @return 合并后的首节点
+     * 时间复杂度：O(m + n)
+     * 空间复杂度：O(1) —— 不创建节点（也不需要哨兵节点）
+     */
+    public static <E, T extends Node<E, T>> T merge(T a, T b, Comparator<? super E> cmp) {
+        if (a == null) return b;
+        if (b == null) return a;
+        T head;
+        if (cmp.compare(b.data, a.data) < 0) {
+            head = b;
+            b = b.next;
+        } else {
+            head = a;
+            a = a.next;
+        }
+        T last = head;
+        while (a != null && b != null) {
+            if (cmp.compare(b.data, a.data) < 0) {
+                last.next = b;
+                last = b;
+                b = b.next;
+            } else {
+                last.next = a;
+                last = a;
+                a = a.next;
+            }
+        }
+        last.next = (a != null) ? a : b; // 剩余部分整体接上
+        return head;
+    }
+
+    /**
+     * 两条无环链的第一个公共节点
+     * 实现策略：两个指针分别从 a、b 出发，走到末尾后换到另一条链的起点继续；
+     * 两者走过的总长度均为 lenA + lenB，因此会同时到达交点（不相交时同时到达 null）
+     * @return 第一个公共节点，不相交时返回 null
+     * 时间复杂度：O(m + n)
+     * 空间复杂度：O(1)
+     */
+    public static <T extends Node<?, T>> T intersection(T a, T b) {
+        if (a == null || b == null) return null;
+        T p = a;
+        T q = b;
+        while (p != q) {
+            p = (p == null) ? b : p.next;
+            q = (q == null) ? a : q.next;
+        }
+        return p;
+    }
+
+    // ----------------- 排序 -----------------
+
+    /** 待合并有序段的层数上限：第 i 层约含 2^i 个有序段，链长不超过 2^31 */
+    private static final int SORT_LEVELS = 32;
+
+    /**
+     * 稳定排序一条以 null 结尾的链（二进制计数器式自底向上归并，无递归）
+     * 实现策略：
+     * 1. 从头依次切下自然有序段作为叶子：不降序段原样切下，严格降序段原地反转后切下
+     * 2. 第 i 层最多暂存一个由 2^i 个叶子合并成的有序段；新段逐层与已有段合并后进位
+     * 3. 最后由低到高合并各层剩余的有序段
+     * @return 排序后的首节点
+     * 时间复杂度：O(n log n)；已有序或严格降序时 O(n)，r 个自然有序段时 O(n log r)
+     * 空间复杂度：O(1) —— 固定 SORT_LEVELS 个槽位暂存各层有序段的首尾节点
+     */
+    public static <E, T extends Node<E, T>> T sort(T head, Comparator<? super E> cmp) {
+        return sort(head, cmp, new Object[1]);
+    }
+
+    /** 同 sort(head, cmp)，并将排序后的末节点写入 last[0] */
+    @SuppressWarnings("unchecked")
+    static <E, T extends Node<E, T>> T sort(T head, Comparator<? super E> cmp, Object[] last) {
+        if (head == null || head.next == null) {
+            last[0] = head;
+            return head;
+        }
+        Object[] heads = new Object[SORT_LEVELS];
+        Object[] tails = new Object[SORT_LEVELS];
+        int levels = 0;
+        T current = head;
+        while (current != null) {
+            // 切下一个自然有序段 [run, runTail]
+            T run = current;
+            T runTail;
+            T next = current.next;
+            if (next != null && cmp.compare(next.data, current.data) < 0) {
+                T prev = current;
+                while (next != null && cmp.compare(next.data, prev.data) < 0) { // 严格降序段，边切边反转
+                    T after = next.next;
+                    next.next = prev;
+                    prev = next;
+                    next = after;
+                }
+                run = prev;
+                runTail = current;
+                current = next;
+            } else {
+                runTail = current;
+                while (runTail.next != null && cmp.compare(runTail.next.data, runTail.data) >= 0) {
+                    runTail = runTail.next;
+                }
+                current = runTail.next;
+            }
+            runTail.next = null;
+
+            // 逐层进位：第 i 层已有的有序段在前，新段在后
+            int i = 0;
+            for (; i < levels && heads[i] != null; i++) {
+                T levelTail = (T) tails[i];
+                run = mergeRuns((T) heads[i], levelTail, run, runTail, cmp);
+                runTail = (levelTail.next == null) ? levelTail : runTail;
+                heads[i] = null;
+                tails[i] = null;
+            }
+            if (i == levels) {
+                if (levels == SORT_LEVELS) throw new IllegalStateException("有序段层数超出上限");
+                levels++;
+            }
+            heads[i] = run;
+            tails[i] = runTail;
+        }
+
+        // 由低到高合并剩余各层（高层的有序段位于链更前面）
+        T run = null;
+        T runTail = null;
+        for (int i = 0; i < levels; i++) {
+            if (heads[i] == null) continue;
+            T levelTail = (T) tails[i];
+            if (run == null) {
+                run = (T) heads[i];
+                runTail = levelTail;
+            } else {
+                run = mergeRuns((T) heads[i], levelTail, run, runTail, cmp);
+                runTail = (levelTail.next == null) ? levelTail : runTail;
+            }
+        }
+        last[0] = runTail;
+        return run;
+    }
+
+    /**
+     * 稳定合并两条以 null 结尾的有序段（a 段在原链中位于 b 段之前）
+     * 合并后的末节点为 aTail.next == null ? aTail : bTail
+     * @return 合并结果的首节点
+     */
+    static <E, T extends Node<E, T>> T mergeRuns(T a, T aTail, T b, T bTail, Comparator<? super E> cmp) {
+        if (cmp.compare(b.data, aTail.data) >= 0) { // a 整体不大于 b：直接拼接
+            aTail.next = b;
+            return a;
+        }
+        if (cmp.compare(a.data, bTail.data) > 0) { // b 整体小于 a：b 整体前置
+            bTail.next = a;
+            return b;
+        }
+        return merge(a, b, cmp);
+    }
+}
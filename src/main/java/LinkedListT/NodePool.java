@@ -0,0 +1,98 @@
+package LinkedListT;
+
+/**
+ * 有界节点池（空闲链表）
+ * @param <E> 数据类型
+ * @param <T> 节点类型
+ * <p>
+ * 特性：
+ * 1. 空闲节点通过自身的 next 指针串成栈，不需要额外容器，取出与归还均为 O(1)
+ * 2. 归还时清空 data（prev 由链表在归还前清空），池中节点不会持有业务对象，避免内存泄漏
+ * 3. 池满时直接丢弃归还的节点交给 GC，池的内存占用不超过 capacity 个节点
+ * 4. 普通实例不是线程安全的，应由单个链表独占；多个链表共享时使用 threadLocal(capacity)，
+ *    每个线程各自持有一个空闲链表
+ */
+public class NodePool<E, T extends Node<E, T>> {
+    private final int capacity;
+    /** 空闲链表栈顶 */
+    private T free;
+    private int size;
+
+    public NodePool(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("容量必须≥0");
+        this.capacity = capacity;
+    }
+
+    /**
+     * 创建线程本地节点池：可被同一节点类型的多个链表共享，各线程互不干扰
+     * 注意：一个线程创建的节点在另一个线程删除时，会归还到删除线程的空闲链表
+     */
+    public static <E, T extends Node<E, T>> NodePool<E, T> threadLocal(int capacity) {
+        return new ThreadLocalPool<>(capacity);
+    }
+
+    /**
+     * 取出一个空闲节点
+     * @return 已清空的节点（next 为 null），池为空时返回 null
+     */
+    public T poll() {
+        T node = free;
+        if (node != null) {
+            free = node.next;
+            node.next = null;
+            size--;
+        }
+        return node;
+    }
+
+    /**
+     * 归还节点：清空 data 后压入空闲链表
+     * @return 是否被池接收（池满时返回 false，节点交给 GC）
+     */
+    public boolean release(T node) {
+        node.data = null;
+        if (size >= capacity) {
+            node.next = null;
+            return false;
+        }
+        node.next = free;
+        free = node;
+        size++;
+        return true;
+    }
+
+    /** 当前空闲节点个数 */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** 按线程分派到各自的 NodePool */
+    private static final class ThreadLocalPool<E, T extends Node<E, T>> extends NodePool<E, T> {
+        private final ThreadLocal<NodePool<E, T>> local;
+
+        ThreadLocalPool(int capacity) {
+            super(capacity);
+            local = ThreadLocal.withInitial(() -> new NodePool<>(capacity));
+        }
+
+        @Override
+        public T poll() {
+            return local.get().poll();
+        }
+
+        @Override
+        public boolean release(T node) {
+            return local.get().release(node);
+        }
+
+        /** 当前线程的空闲节点个数 */
+        @Override
+        public int size() {
+            return local.get().size();
+        }
+    }
+}
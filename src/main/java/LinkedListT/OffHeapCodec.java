@@ -0,0 +1,63 @@
+package LinkedListT;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 堆外链表元素编解码器：定长元素与堆外字节之间的转换
+ * @param <E> 元素类型
+ * <p>
+ * 内置 int / long / double 以及定长字节记录四种实现。
+ */
+public interface OffHeapCodec<E> {
+
+    /** 元素占用的字节数（定长） */
+    int width();
+
+    /** 将元素写入 buffer 的 offset 处 */
+    void write(ByteBuffer buffer, int offset, E value);
+
+    /** 从 buffer 的 offset 处读取元素 */
+    E read(ByteBuffer buffer, int offset);
+
+    OffHeapCodec<Integer> INT = new OffHeapCodec<Integer>() {
+        public int width() { return Integer.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Integer value) { buffer.putInt(offset, value); }
+        public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+    };
+
+    OffHeapCodec<Long> LONG = new OffHeapCodec<Long>() {
+        public int width() { return Long.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Long value) { buffer.putLong(offset, value); }
+        public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+    };
+
+    OffHeapCodec<Double> DOUBLE = new OffHeapCodec<Double>() {
+        public int width() { return Double.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Double value) { buffer.putDouble(offset, value); }
+        public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+    };
+
+    /**
+     * 定长字节记录编解码器
+     * @param width 记录字节数，写入的数组长度必须与之相等
+     */
+    static OffHeapCodec<byte[]> bytes(int width) {
+        if (width < 1) throw new IllegalArgumentException("记录长度必须≥1");
+        return new OffHeapCodec<byte[]>() {
+            public int width() { return width; }
+
+            public void write(ByteBuffer buffer, int offset, byte[] value) {
+                if (value.length != width) {
+                    throw new IllegalArgumentException("记录长度必须为 " + width + "，实际为 " + value.length);
+                }
+                buffer.put(offset, value);
+            }
+
+            public byte[] read(ByteBuffer buffer, int offset) {
+                byte[] value = new byte[width];
+                buffer.get(offset, value);
+                return value;
+            }
+        };
+    }
+}
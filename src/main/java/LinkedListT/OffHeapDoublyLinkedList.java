@@ -0,0 +1,384 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 堆外双向链表（定长元素）
+ * <p>
+ * 特性：
+ * 1. 节点存放在直接内存（direct ByteBuffer）中，Java 堆上没有逐节点对象，不增加 GC 负担
+ * 2. 节点用 int 下标表示，布局为 [链接A(4B)][链接B(4B)][数据(width B)]
+ * 3. 内存按段（segment）分配，每段 2^segmentShift 个节点，可容纳超过 2GB 的数据
+ * 4. 两个链接槽中哪一个表示 next 由 nextSlot 决定，反转只需交换槽位与头尾，O(1)
+ * 5. 删除的节点通过链接A串入空闲链表，插入时优先复用
+ * 6. 使用完毕调用 close() 立即释放直接内存
+ */
+public class OffHeapDoublyLinkedList<E> implements Iterable<E>, AutoCloseable {
+    private static final int NIL = -1;
+    private static final int LINK_A = 0;
+    private static final int LINK_B = 4;
+    private static final int PAYLOAD = 8;
+
+    /** 默认每段 65536 个节点 */
+    public static final int DEFAULT_SEGMENT_SHIFT = 16;
+
+    private final OffHeapCodec<E> codec;
+    /** 单个节点占用的字节数 */
+    private final int stride;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int segmentCount;
+
+    /** 当前表示 next / prev 的链接槽偏移 */
+    private int nextSlot = LINK_A;
+    private int prevSlot = LINK_B;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+    /** 空闲链表头（通过链接A串联） */
+    private int free = NIL;
+    /** 已使用过的节点数（高水位） */
+    private int used;
+    private boolean closed;
+
+    public OffHeapDoublyLinkedList(OffHeapCodec<E> codec) {
+        this(codec, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param codec 元素编解码器
+     * @param segmentShift 每段节点数的以2为底的对数
+     */
+    public OffHeapDoublyLinkedList(OffHeapCodec<E> codec, int segmentShift) {
+        this.codec = codec;
+        this.stride = PAYLOAD + codec.width();
+        if (segmentShift < 1 || ((long) stride << segmentShift) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("段大小超出单个 ByteBuffer 的容量");
+        }
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    // ----------------- 节点存取 -----------------
+
+    private ByteBuffer segment(int node) {
+        return segments[node >>> segmentShift];
+    }
+
+    private int offset(int node) {
+        return (node & segmentMask) * stride;
+    }
+
+    private int next(int node) {
+        return segment(node).getInt(offset(node) + nextSlot);
+    }
+
+    private int prev(int node) {
+        return segment(node).getInt(offset(node) + prevSlot);
+    }
+
+    private void setNext(int node, int value) {
+        segment(node).putInt(offset(node) + nextSlot, value);
+    }
+
+    private void setPrev(int node, int value) {
+        segment(node).putInt(offset(node) + prevSlot, value);
+    }
+
+    private E read(int node) {
+        return codec.read(segment(node), offset(node) + PAYLOAD);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("链表已关闭");
+    }
+
+    /** 分配节点：优先复用空闲链表，否则使用新节点（必要时新增一段） */
+    private int allocate(E value) {
+        ensureOpen();
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = segment(node).getInt(offset(node) + LINK_A);
+        } else {
+            if (used == segmentCount << segmentShift) {
+                addSegment();
+            }
+            node = used++;
+        }
+        codec.write(segment(node), offset(node) + PAYLOAD, value);
+        setNext(node, NIL);
+        setPrev(node, NIL);
+        return node;
+    }
+
+    /** 释放节点，放回空闲链表 */
+    private void release(int node) {
+        segment(node).putInt(offset(node) + LINK_A, free);
+        free = node;
+    }
+
+    private void addSegment() {
+        if ((long) (segmentCount + 1) << segmentShift > Integer.MAX_VALUE) {
+            throw new IllegalStateException("节点数超过上限 " + Integer.MAX_VALUE);
+        }
+        if (segmentCount == segments.length) {
+            segments = java.util.Arrays.copyOf(segments, segments.length * 2);
+        }
+        segments[segmentCount++] = ByteBuffer.allocateDirect(stride << segmentShift).order(ByteOrder.nativeOrder());
+    }
+
+    /** 从较近的一端查找第 pos 个节点 */
+    private int nodeAt(int pos) {
+        ensureOpen();
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos - 1 <= size - pos) {
+            int current = head;
+            for (int i = 1; i < pos; i++) {
+                current = next(current);
+            }
+            return current;
+        }
+        int current = tail;
+        for (int i = size; i > pos; i--) {
+            current = prev(current);
+        }
+        return current;
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    /** 头部插入，O(1) */
+    public void insert(E data) {
+        int newNode = allocate(data);
+        if (head == NIL) {
+            tail = newNode;
+        } else {
+            setNext(newNode, head);
+            setPrev(head, newNode);
+        }
+        head = newNode;
+        size++;
+    }
+
+    /** 尾部插入，O(1) */
+    public void addLast(E data) {
+        if (tail == NIL) {
+            insert(data);
+            return;
+        }
+        int newNode = allocate(data);
+        setNext(tail, newNode);
+        setPrev(newNode, tail);
+        tail = newNode;
+        size++;
+    }
+
+    /**
+     * 指定位置插入
+     * @param pos 插入位置（1 ≤ pos ≤ size+1）
+     * 时间复杂度：O(min(pos, n-pos))
+     */
+    public void insert(int pos, E data) {
+        if (pos == 1) {
+            insert(data);
+            return;
+        }
+        if (pos == size + 1) {
+            addLast(data);
+            return;
+        }
+        int nextNode = nodeAt(pos);
+        int prevNode = prev(nextNode);
+        int newNode = allocate(data);
+        setPrev(newNode, prevNode);
+        setNext(newNode, nextNode);
+        setNext(prevNode, newNode);
+        setPrev(nextNode, newNode);
+        size++;
+    }
+
+    /**
+     * 删除指定位置节点
+     * 时间复杂度：O(min(pos, n-pos))
+     */
+    public void delete(int pos) {
+        int removed = nodeAt(pos);
+        int prevNode = prev(removed);
+        int nextNode = next(removed);
+        if (prevNode != NIL) {
+            setNext(prevNode, nextNode);
+        } else {
+            head = nextNode;
+        }
+        if (nextNode != NIL) {
+            setPrev(nextNode, prevNode);
+        } else {
+            tail = prevNode;
+        }
+        release(removed);
+        size--;
+    }
+
+    /** 获取指定位置的元素 */
+    public E get(int pos) {
+        return read(nodeAt(pos));
+    }
+
+    /** 获取链表长度 */
+    public int size() {
+        return size;
+    }
+
+    /** 当前占用的直接内存字节数（按已分配的段计算） */
+    public long offHeapBytes() {
+        return (long) segmentCount * (stride << segmentShift);
+    }
+
+    /**
+     * 反转链表：交换 next/prev 槽位与头尾节点
+     * 时间复杂度：O(1)
+     */
+    public void reverse() {
+        ensureOpen();
+        int slot = nextSlot;
+        nextSlot = prevSlot;
+        prevSlot = slot;
+
+        int temp = head;
+        head = tail;
+        tail = temp;
+    }
+
+    /** 从尾部沿 prev 反向打印，经 ListWriter 批量写入 System.out */
+    public void reversePrint() {
+        try {
+            writeReverseTo(System.out, Integer.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // PrintStream 不会抛出 IOException
+        }
+        System.out.println();
+    }
+
+    @Override
+    public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /** 获取前 limit 个元素的字符串表示，超出部分以 " ..." 代替 */
+    public String toString(int limit) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 按顺序写入前 limit 个元素（空格分隔），超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     * 空间复杂度：O(1) —— 复用线程缓存的 ListWriter 缓冲区
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), false);
+    }
+
+    /** 沿 prev 逆序写入最后 limit 个元素，超出部分以 " ..." 代替 */
+    public void writeReverseTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), true);
+    }
+
+    private void write(ListWriter w, boolean reversed) throws IOException {
+        try {
+            ensureOpen();
+            if (reversed) {
+                for (int current = tail; current != NIL; current = prev(current)) {
+                    if (!w.element(read(current))) break;
+                }
+            } else {
+                for (int current = head; current != NIL; current = next(current)) {
+                    if (!w.element(read(current))) break;
+                }
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    /** 顺序迭代器（迭代期间不得修改链表） */
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<E>() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public E next() {
+                ensureOpen(); // close() 之后段已释放，不能再读取
+                if (current == NIL) throw new NoSuchElementException();
+                E value = read(current);
+                current = OffHeapDoublyLinkedList.this.next(current);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * 释放所有直接内存，之后除 size() / offHeapBytes()（均为0）外的操作都会抛出 IllegalStateException，
+     * 包括关闭前创建的迭代器
+     * 优先通过 JDK 的 cleaner 立即释放；不可用时退化为等待 GC 回收
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+            segments[i] = null;
+        }
+        segments = null;
+        segmentCount = 0;
+        head = tail = free = NIL;
+        size = used = 0;
+    }
+
+    public static void main(String[] args) {
+        try (OffHeapDoublyLinkedList<Integer> myList = new OffHeapDoublyLinkedList<>(OffHeapCodec.INT)) {
+            myList.insert(1);
+            myList.insert(2);
+            myList.insert(3);
+            myList.insert(4);
+            myList.insert(5);
+            System.out.println(myList);
+
+            myList.addLast(6);
+            myList.insert(3, 3);
+            myList.insert(4, 4);
+            System.out.println(myList);
+
+            myList.delete(5);
+            System.out.println(myList);
+
+            myList.reversePrint();
+            myList.reverse();
+            System.out.println(myList);
+        }
+    }
+}
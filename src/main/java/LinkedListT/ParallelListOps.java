@@ -0,0 +1,278 @@
+package LinkedListT;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * 基于 ForkJoinPool 的链表并行排序与归约
+ * <p>
+ * 实现策略：
+ * 1. 一次顺序遍历把链表均分为若干分段，只记录每段的首节点（排序时顺便断开各段）
+ * 2. 分段数为线程数的 SEGMENTS_PER_THREAD 倍，以便工作窃取平衡负载；每段至少 MIN_SEGMENT 个元素
+ * 3. 排序：各段独立执行 NodeChains.sort，再按分治树两两稳定合并，全程只重新链接节点，
+ *    不复制元素；双向链表的 prev 在各任务内部修复，不需要最后再串行遍历一遍
+ * 4. 归约：各段从记录的首节点出发顺序累加，结果按分段顺序合并（combiner 需满足结合律）
+ * 注意：分段遍历与最顶层合并都是 O(n) 的串行部分，决定了可达到的加速比上限；
+ * 执行期间链表不能被其他线程修改。
+ */
+public final class ParallelListOps {
+    /** 每个分段的最少元素个数，更小的分段不值得拆分 */
+    private static final int MIN_SEGMENT = 1 << 13;
+    /** 每个工作线程对应的分段数 */
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private ParallelListOps() {
+    }
+
+    // ----------------- 排序 -----------------
+
+    /** 使用公共 ForkJoinPool 并行排序 */
+    public static <E, T extends Node<E, T>> void sort(LinkedList<E, T> list, Comparator<? super E> cmp) {
+        sort(list, cmp, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 稳定的并行归并排序，只重新链接节点
+     * @param cmp 比较器，为 null 时按自然顺序
+     * @param pool 执行排序的线程池；并行度为1或链表较短时退化为 list.sort(cmp)
+     * 时间复杂度：O(n log n) 总工作量，关键路径 O((n/p) log(n/p) + n)
+     * 空间复杂度：O(p) —— 每个分段的首尾节点
+     */
+    @SuppressWarnings("unchecked")
+    public static <E, T extends Node<E, T>> void sort(LinkedList<E, T> list, Comparator<? super E> cmp,
+                                                       ForkJoinPool pool) {
+        if (cmp == null) {
+            cmp = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        int segments = segmentCount(list.size, pool);
+        if (segments <= 1) {
+            list.sort(cmp);
+            return;
+        }
+
+        list.materialize();
+        Object[] heads = new Object[segments];
+        Object[] tails = new Object[segments];
+        T node = list.head;
+        for (int s = 0; s < segments; s++) { // 一次遍历：记录各段首节点并断开
+            heads[s] = node;
+            T last = node;
+            for (int i = segmentLength(list.size, segments, s); i > 1; i--) {
+                last = last.next;
+            }
+            node = last.next;
+            last.next = null;
+        }
+
+        list.modCount++;
+        pool.invoke(new SortTask<>(list, cmp, heads, tails, 0, segments));
+        list.head = (T) heads[0];
+        list.tail = (T) tails[0];
+        list.afterBulkChange();
+    }
+
+    /** 排序 [lo, hi) 内的分段，结果（首尾节点）写回 heads[lo] / tails[lo] */
+    @SuppressWarnings("serial") // ForkJoinTask 实现了 Serializable，任务只在池内执行，不会被序列化
+    private static final class SortTask<E, T extends Node<E, T>> extends RecursiveAction {
+        private final LinkedList<E, T> list;
+        private final Comparator<? super E> cmp;
+        private final Object[] heads;
+        private final Object[] tails;
+        private final int lo;
+        private final int hi;
+
+        SortTask(LinkedList<E, T> list, Comparator<? super E> cmp, Object[] heads, Object[] tails, int lo, int hi) {
+            this.list = list;
+            this.cmp = cmp;
+            this.heads = heads;
+            this.tails = tails;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (hi - lo == 1) {
+                Object[] last = new Object[1];
+                T first = NodeChains.sort((T) heads[lo], cmp, last);
+                if (list.hasPrevLinks()) {
+                    T prev = null;
+                    for (T node = first; node != null; node = node.next) {
+                        list.setPrev(node, prev);
+                        prev = node;
+                    }
+                }
+                heads[lo] = first;
+                tails[lo] = last[0];
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(list, cmp, heads, tails, lo, mid),
+                    new SortTask<>(list, cmp, heads, tails, mid, hi));
+
+            T a = (T) heads[lo];
+            T aTail = (T) tails[lo];
+            T b = (T) heads[mid];
+            T bTail = (T) tails[mid];
+            if (cmp.compare(b.data, aTail.data) >= 0) { // 左半整体不大于右半：直接拼接
+                aTail.next = b;
+                list.setPrev(b, aTail);
+                tails[lo] = bTail;
+            } else if (cmp.compare(a.data, bTail.data) > 0) { // 右半整体更小：整体前置
+                bTail.next = a;
+                list.setPrev(a, bTail);
+                heads[lo] = b;
+                tails[lo] = aTail;
+            } else {
+                heads[lo] = list.hasPrevLinks() ? mergeLinkingPrev(list, a, b, cmp) : NodeChains.merge(a, b, cmp);
+                tails[lo] = (aTail.next == null) ? aTail : bTail;
+            }
+        }
+    }
+
+    /** 与 NodeChains.merge 相同的稳定合并，同时设置 prev 指针 */
+    private static <E, T extends Node<E, T>> T mergeLinkingPrev(LinkedList<E, T> list, T a, T b,
+                                                                 Comparator<? super E> cmp) {
+        T head;
+        if (cmp.compare(b.data, a.data) < 0) {
+            head = b;
+            b = b.next;
+        } else {
+            head = a;
+            a = a.next;
+        }
+        T last = head;
+        while (a != null && b != null) {
+            T next;
+            if (cmp.compare(b.data, a.data) < 0) {
+                next = b;
+                b = b.next;
+            } else {
+                next = a;
+                a = a.next;
+            }
+            last.next = next;
+            list.setPrev(next, last);
+            last = next;
+        }
+        T rest = (a != null) ? a : b; // 剩余部分内部的 prev 已经正确
+        last.next = rest;
+        if (rest != null) {
+            list.setPrev(rest, last);
+        }
+        return head;
+    }
+
+    // ----------------- 归约 -----------------
+
+    /** 使用公共 ForkJoinPool 并行归约，op 需满足结合律 */
+    public static <E, T extends Node<E, T>> E reduce(LinkedList<E, T> list, E identity, BinaryOperator<E> op) {
+        return reduce(list, identity, op, op, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行归约：各分段以 identity 为初值顺序累加，再按分段顺序用 combiner 合并
+     * 语义与 Stream.reduce(identity, accumulator, combiner) 相同
+     * @throws ConcurrentModificationException 归约期间链表被修改时抛出
+     * 时间复杂度：O(n) 总工作量，关键路径 O(n/p + 分段遍历)
+     */
+    public static <E, T extends Node<E, T>, R> R reduce(LinkedList<E, T> list, R identity,
+                                                         BiFunction<R, ? super E, R> accumulator,
+                                                         BinaryOperator<R> combiner, ForkJoinPool pool) {
+        list.materialize();
+        int expectedModCount = list.modCount;
+        int segments = segmentCount(list.size, pool);
+        R result;
+        if (segments <= 1) {
+            result = reduceSegment(list.head, list.size, identity, accumulator);
+        } else {
+            Object[] heads = new Object[segments];
+            T node = list.head;
+            for (int s = 0; s < segments; s++) { // 一次遍历：记录各段首节点
+                heads[s] = node;
+                for (int i = segmentLength(list.size, segments, s); i > 0; i--) {
+                    node = node.next;
+                }
+            }
+            result = pool.invoke(new ReduceTask<>(heads, list.size, identity, accumulator, combiner, 0, segments));
+        }
+        if (list.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return result;
+    }
+
+    private static <E, T extends Node<E, T>, R> R reduceSegment(T node, int length, R identity,
+                                                               BiFunction<R, ? super E, R> accumulator) {
+        R result = identity;
+        for (int i = 0; i < length; i++) {
+            result = accumulator.apply(result, node.data);
+            node = node.next;
+        }
+        return result;
+    }
+
+    /** 归约 [lo, hi) 内的分段 */
+    @SuppressWarnings("serial") // ForkJoinTask 实现了 Serializable，任务只在池内执行，不会被序列化
+    private static final class ReduceTask<E, T extends Node<E, T>, R> extends RecursiveTask<R> {
+        private final Object[] heads;
+        private final int size;
+        private final R identity;
+        private final BiFunction<R, ? super E, R> accumulator;
+        private final BinaryOperator<R> combiner;
+        private final int lo;
+        private final int hi;
+
+        ReduceTask(Object[] heads, int size, R identity, BiFunction<R, ? super E, R> accumulator,
+                   BinaryOperator<R> combiner, int lo, int hi) {
+            this.heads = heads;
+            this.size = size;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected R compute() {
+            if (hi - lo == 1) {
+                return reduceSegment((T) heads[lo], segmentLength(size, heads.length, lo), identity, accumulator);
+            }
+            int mid = (lo + hi) >>> 1;
+            ReduceTask<E, T, R> right = new ReduceTask<>(heads, size, identity, accumulator, combiner, mid, hi);
+            right.fork();
+            R left = new ReduceTask<E, T, R>(heads, size, identity, accumulator, combiner, lo, mid).compute();
+            return combiner.apply(left, right.join());
+        }
+    }
+
+    // ----------------- 分段 -----------------
+
+    private static int segmentCount(int size, ForkJoinPool pool) {
+        if (pool.getParallelism() <= 1) return 1;
+        long byThreads = (long) pool.getParallelism() * SEGMENTS_PER_THREAD;
+        return (int) Math.max(1, Math.min(byThreads, size / MIN_SEGMENT));
+    }
+
+    /** 第 s 段的元素个数：前 size % segments 段各多一个 */
+    private static int segmentLength(int size, int segments, int s) {
+        return size / segments + (s < size % segments ? 1 : 0);
+    }
+
+    public static void main(String[] args) {
+        DoublyLinkedList<Integer> myList = DoublyLinkedList.fromArray(5, 3, 8, 1, 9, 2, 7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        long sum = reduce(myList, 0L, (acc, v) -> acc + v, Long::sum, pool);
+        sort(myList, null, pool); // 元素不足两个分段，退化为 list.sort
+        pool.shutdown();
+        System.out.println(myList + " (sum=" + sum + ")");
+    }
+}
@@ -0,0 +1,258 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 持久化（不可变）单链表
+ * @param <E> 数据类型
+ * <p>
+ * 特性：
+ * 1. 每个版本都不可变，修改操作返回新版本，旧版本保持不变且继续可用
+ * 2. 结构共享：头部插入 / 删除只新建（或丢弃）一个节点，新旧版本共享其余全部节点，O(1)
+ * 3. 位置插入 / 删除复制前 pos-1 个节点（路径复制），其后的节点仍然共享
+ * 4. 节点字段均为 final，任意版本都可以不加锁地被多个线程同时读取；
+ *    配合 VersionedList 的原子版本引用，读者一次 volatile 读取即可获得一致的快照
+ */
+public final class PersistentList<E> implements Iterable<E> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, 0);
+
+    private final PersistentNode<E> head;
+    private final int size;
+
+    private PersistentList(PersistentNode<E> head, int size) {
+        this.head = head;
+        this.size = size;
+    }
+
+    /** 空链表（全局共享的单例） */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /** 按参数顺序构造，时间复杂度：O(n) */
+    @SafeVarargs
+    public static <E> PersistentList<E> of(E... values) {
+        PersistentNode<E> head = null;
+        for (int i = values.length - 1; i >= 0; i--) {
+            head = new PersistentNode<>(values[i], head);
+        }
+        return values.length == 0 ? empty() : new PersistentList<>(head, values.length);
+    }
+
+    /** 按迭代顺序复制 values（例如某个 LinkedList），时间复杂度：O(n) */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> from(Iterable<? extends E> values) {
+        java.util.ArrayList<E> buffer = new java.util.ArrayList<>();
+        for (E value : values) {
+            buffer.add(value);
+        }
+        return of((E[]) buffer.toArray());
+    }
+
+    // ----------------- 头部操作（O(1)，共享其余节点） -----------------
+
+    /**
+     * 在头部插入，返回新版本
+     * 时间复杂度：O(1)
+     * 空间复杂度：O(1) —— 一个新节点，其余节点与当前版本共享
+     */
+    public PersistentList<E> push(E data) {
+        return new PersistentList<>(new PersistentNode<>(data, head), size + 1);
+    }
+
+    /**
+     * 删除头部元素，返回新版本（与当前版本共享剩余全部节点）
+     * @throws NoSuchElementException 链表为空时抛出
+     * 时间复杂度：O(1)
+     */
+    public PersistentList<E> pop() {
+        if (head == null) throw new NoSuchElementException("链表为空");
+        return head.next == null ? empty() : new PersistentList<>(head.next, size - 1);
+    }
+
+    /**
+     * 获取头部元素
+     * @throws NoSuchElementException 链表为空时抛出
+     */
+    public E peek() {
+        if (head == null) throw new NoSuchElementException("链表为空");
+        return head.data;
+    }
+
+    // ----------------- 位置操作（路径复制） -----------------
+
+    /**
+     * 获取指定位置的节点
+     * @param pos 节点位置（从1开始计数）
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过链表长度时抛出
+     * 时间复杂度：O(pos)
+     */
+    public PersistentNode<E> getNode(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        PersistentNode<E> current = head;
+        for (int i = 1; i < pos; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    public E get(int pos) {
+        return getNode(pos).data;
+    }
+
+    /**
+     * 在位置 pos 插入（pos=1 为头部，pos=size+1 为尾部），返回新版本
+     * 实现策略：复制前 pos-1 个节点，新节点接在其后，原第 pos 个节点起的部分原样共享
+     * 时间复杂度：O(pos)
+     * 空间复杂度：O(pos) —— 新版本独有的节点
+     */
+    public PersistentList<E> insert(int pos, E data) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size + 1) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        PersistentNode<E> rest = head;
+        for (int i = 1; i < pos; i++) {
+            rest = rest.next;
+        }
+        return new PersistentList<>(copyPrefix(pos - 1, new PersistentNode<>(data, rest)), size + 1);
+    }
+
+    /**
+     * 删除位置 pos 的元素，返回新版本
+     * @throws IllegalArgumentException 当位置小于1时抛出
+     * @throws IndexOutOfBoundsException 当位置超过链表长度时抛出
+     * 时间复杂度：O(pos)
+     * 空间复杂度：O(pos)
+     */
+    public PersistentList<E> delete(int pos) {
+        PersistentNode<E> removed = getNode(pos);
+        if (size == 1) return empty();
+        return new PersistentList<>(copyPrefix(pos - 1, removed.next), size - 1);
+    }
+
+    /** 复制前 count 个节点并接到 rest 之前（先把数据取到数组，再从后向前重建，无递归） */
+    @SuppressWarnings("unchecked")
+    private PersistentNode<E> copyPrefix(int count, PersistentNode<E> rest) {
+        Object[] prefix = new Object[count];
+        PersistentNode<E> current = head;
+        for (int i = 0; i < count; i++) {
+            prefix[i] = current.data;
+            current = current.next;
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            rest = new PersistentNode<>((E) prefix[i], rest);
+        }
+        return rest;
+    }
+
+    /**
+     * 反转，返回新版本（不可变节点无法原地反转，需新建全部节点）
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(n)
+     */
+    public PersistentList<E> reverse() {
+        PersistentNode<E> reversed = null;
+        for (PersistentNode<E> node = head; node != null; node = node.next) {
+            reversed = new PersistentNode<>(node.data, reversed);
+        }
+        return size == 0 ? this : new PersistentList<>(reversed, size);
+    }
+
+    // ----------------- 查询与遍历 -----------------
+
+    /** 时间复杂度：O(1) */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /** 头节点（只读，可与其他版本共享） */
+    public PersistentNode<E> headNode() {
+        return head;
+    }
+
+    /** 版本不可变，迭代期间不可能被修改，无需快速失败检测 */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private PersistentNode<E> next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) throw new NoSuchElementException();
+                E data = next.data;
+                next = next.next;
+                return data;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // ----------------- 输出 -----------------
+
+    /**
+     * 按顺序写入前 limit 个元素（空格分隔），超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        ListWriter w = ListWriter.acquire().begin(out, limit);
+        try {
+            for (PersistentNode<E> node = head; node != null; node = node.next) {
+                if (!w.element(node.data)) break;
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    public String toString(int limit) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    public static void main(String[] args) {
+        PersistentList<Integer> v1 = PersistentList.of(1, 2, 3);
+        PersistentList<Integer> v2 = v1.push(0);
+        PersistentList<Integer> v3 = v1.pop();
+        PersistentList<Integer> v4 = v1.insert(3, 9);
+        System.out.println(v1 + " | " + v2 + " | " + v3 + " | " + v4 + " | " + v4.delete(1).reverse());
+        // 结构共享：v2 去掉新头节点后与 v1 是同一条节点链
+        System.out.println(v2.headNode().next == v1.headNode());
+    }
+}
@@ -0,0 +1,21 @@
+package LinkedListT;
+
+/**
+ * 不可变链表节点
+ * @param <E> 数据类型
+ * <p>
+ * 与 Node 的结构相同（data + next），但两个字段均为 final：
+ * 节点一旦构造完成就不会再改变，可以在多个链表版本之间、多个线程之间安全共享，
+ * 且无需额外同步即可安全发布（final 字段语义）。
+ */
+public final class PersistentNode<E> {
+    /** 节点存储的数据 */
+    public final E data;
+    /** 指向下一个节点的引用 */
+    public final PersistentNode<E> next;
+
+    public PersistentNode(E data, PersistentNode<E> next) {
+        this.data = data;
+        this.next = next;
+    }
+}
@@ -9,35 +9,97 @@ package LinkedListT;
  */
 public class SinglyLinkedList<E> extends LinkedList<E, SinglyNode<E>> {
 
+    public SinglyLinkedList() {
+    }
+
+    /** 按 values 的迭代顺序一次遍历构造，O(m) */
+    public SinglyLinkedList(Iterable<? extends E> values) {
+        addAll(values);
+    }
+
+    /** 按数组顺序一次遍历构造，O(m) */
+    @SafeVarargs
+    public static <E> SinglyLinkedList<E> fromArray(E... values) {
+        SinglyLinkedList<E> list = new SinglyLinkedList<>();
+        for (E value : values) {
+            list.addLast(value);
+        }
+        return list;
+    }
+
+    @Override
+    protected SinglyNode<E> newNode(E data) {
+        return new SinglyNode<>(data);
+    }
+
+    @Override
+    protected SinglyLinkedList<E> newEmptyList() {
+        return new SinglyLinkedList<>();
+    }
+
+    /** 保留前 pos 个元素，其余节点移入返回的新链表 */
+    @Override
+    public SinglyLinkedList<E> split(int pos) {
+        return (SinglyLinkedList<E>) super.split(pos);
+    }
+
     /** 头部插入新节点
      * 时间复杂度：O(1) —— 直接修改头指针
      * 空间复杂度：O(1) —— 仅创建新节点
      */
     @Override
     public void insert(E data) {
-        SinglyNode<E> newNode = new SinglyNode<>(data);
+        SinglyNode<E> newNode = obtainNode(data);
         newNode.next = head; // 新节点指向原头节点
         head = newNode;     // 更新头节点
+        if (tail == null) {
+            tail = newNode; // 空链表插入时头尾相同
+        }
+        size++;
+        modCount++;
     }
 
     /**
      * 指定位置插入新节点
      * 实现策略：
      * 1. 位置1直接调用头部插入
-     * 2. 其他位置找到前驱节点后插入
+     * 2. 其他位置找到前驱节点后插入（末尾位置直接使用尾指针）
      * 时间复杂度：O(n) —— 需找到前驱节点
      * 空间复杂度：O(1) —— 仅创建新节点
      */
     @Override
     public void insert(int pos, E data) {
-        SinglyNode<E> newNode = new SinglyNode<>(data);
         if (pos == 1) {
             insert(data);
         } else {
             SinglyNode<E> prevNode = getNode(pos - 1); // 获取前驱节点
+            SinglyNode<E> newNode = obtainNode(data);
             newNode.next = prevNode.next; // 新节点指向原位置节点
             prevNode.next = newNode;       // 前驱节点指向新节点
+            if (prevNode == tail) {
+                tail = newNode; // 插入到末尾时更新尾指针
+            }
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * 尾部插入新节点
+     * 时间复杂度：O(1) —— 直接通过尾指针链接
+     * 空间复杂度：O(1) —— 仅创建新节点
+     */
+    @Override
+    public void addLast(E data) {
+        SinglyNode<E> newNode = obtainNode(data);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
         }
+        tail = newNode;
+        size++;
+        modCount++;
     }
 
     /**
@@ -50,12 +112,24 @@ public class SinglyLinkedList<E> extends LinkedList<E, SinglyNode<E>> {
      */
     @Override
     public void delete(int pos) {
+        SinglyNode<E> removed;
         if (pos == 1) {
+            removed = head;
             head = head.next; // 直接删除头节点
+            if (head == null) {
+                tail = null; // 删除最后一个节点
+            }
         } else {
             SinglyNode<E> prevNode = getNode(pos - 1);
-            prevNode.next = prevNode.next.next; // 跳过被删除节点
+            removed = prevNode.next;
+            prevNode.next = removed.next; // 跳过被删除节点
+            if (prevNode.next == null) {
+                tail = prevNode; // 删除的是尾节点
+            }
         }
+        size--;
+        modCount++;
+        recycle(removed);
     }
 
     public static void main(String[] args) {
@@ -72,6 +146,9 @@ public class SinglyLinkedList<E> extends LinkedList<E, SinglyNode<E>> {
         myList.insert(4,4);
         System.out.println(myList);
 
+        myList.addLast(0);
+        System.out.println(myList + " (size=" + myList.size() + ", last=" + myList.peekLast() + ")");
+
         myList.delete(5);
 
         System.out.println(myList);
@@ -83,6 +160,16 @@ public class SinglyLinkedList<E> extends LinkedList<E, SinglyNode<E>> {
         System.out.println(myList);
         myList.reverseByStack();
         System.out.println(myList);
+        System.out.println("size=" + myList.size() + ", last=" + myList.peekLast());
 
+        int sum = 0;
+        for (int value : myList) {
+            sum += value;
+        }
+        System.out.println("sum=" + sum + ", 偶数平方和=" + myList.parallelStream()
+                .filter(v -> v % 2 == 0).mapToInt(v -> v * v).sum());
+
+        myList.sort(null);
+        System.out.println(myList);
     }
 }
\ No newline at end of file
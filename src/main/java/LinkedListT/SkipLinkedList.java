@@ -0,0 +1,346 @@
+package LinkedListT;
+
+import java.util.Random;
+
+/**
+ * 可索引跳表实现（支持泛型）
+ * <p>
+ * 特性：
+ * 1. 第0层即普通单链表，head/tail/toString/reversePrint 与其他链表一致
+ * 2. 上层索引指针记录跨度（span），按位置查找、插入、删除期望 O(log n)
+ * 3. 使用哨兵头节点 header 持有所有层的起始指针，head 始终等于 header.next
+ */
+public class SkipLinkedList<E> extends LinkedList<E, SkipNode<E>> {
+    /** 最大层数（p=1/4 时足以支撑 2^64 量级的元素） */
+    private static final int MAX_LEVEL = 32;
+    /** 节点晋升到上一层的概率 */
+    private static final double P = 0.25;
+
+    /** 哨兵头节点，不存储数据 */
+    private final SkipNode<E> header = new SkipNode<>(null, MAX_LEVEL);
+    /** 当前最高层数 */
+    private int level = 1;
+    private final Random random;
+
+    public SkipLinkedList() {
+        this(new Random());
+    }
+
+    /** 指定随机源（便于复现层数分布） */
+    public SkipLinkedList(Random random) {
+        this.random = random;
+    }
+
+    /** 按 values 的迭代顺序构造：先串成第0层，再一次重建索引，O(m) */
+    public SkipLinkedList(Iterable<? extends E> values) {
+        this();
+        addAll(values);
+    }
+
+    /** 按数组顺序构造：先串成第0层，再一次重建索引，O(m) */
+    @SafeVarargs
+    public static <E> SkipLinkedList<E> fromArray(E... values) {
+        SkipLinkedList<E> list = new SkipLinkedList<>();
+        SkipNode<E> last = null;
+        for (E value : values) {
+            SkipNode<E> node = list.newNode(value);
+            if (last == null) {
+                list.head = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+        list.tail = last;
+        list.size = values.length;
+        list.rebuildIndex();
+        return list;
+    }
+
+    /** 随机生成新节点层数（几何分布） */
+    private int randomLevel() {
+        int lvl = 1;
+        while (lvl < MAX_LEVEL && random.nextDouble() < P) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    /**
+     * 获取指定位置的节点
+     * 实现策略：自顶层向下，在每层累加跨度直到不超过目标位置
+     * 时间复杂度：O(log n) 期望
+     * 空间复杂度：O(1) —— 仅使用临时变量
+     */
+    @Override
+    public SkipNode<E> getNode(int pos) throws IndexOutOfBoundsException {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+        if (pos == size) return tail;
+
+        SkipNode<E> x = header;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward(i) != null && traversed + x.span[i] <= pos) {
+                traversed += x.span[i];
+                x = x.forward(i);
+            }
+            if (traversed == pos) {
+                return x;
+            }
+        }
+        return x;
+    }
+
+    /** 头部插入新节点（等价于在位置1插入） */
+    @Override
+    public void insert(E data) {
+        insert(1, data);
+    }
+
+    /** 尾部插入新节点（等价于在位置 size+1 插入） */
+    @Override
+    public void addLast(E data) {
+        insert(size + 1, data);
+    }
+
+    /**
+     * 指定位置插入新节点
+     * 关键操作：
+     * 1. 自顶向下记录每层的前驱节点 update[i] 及其位置 rank[i]
+     * 2. 新节点各层接入前驱之后，并按位置差拆分原跨度
+     * 3. 高于新节点层数的前驱跨度加1
+     * 时间复杂度：O(log n) 期望
+     * 空间复杂度：O(log n) —— 新节点的索引层
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void insert(int pos, E data) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size + 1) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+
+        SkipNode<E>[] update = (SkipNode<E>[]) new SkipNode<?>[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        SkipNode<E> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.forward(i) != null && rank[i] + x.span[i] < pos) {
+                rank[i] += x.span[i];
+                x = x.forward(i);
+            }
+            update[i] = x;
+        }
+
+        int lvl = randomLevel();
+        if (lvl > level) {
+            for (int i = level; i < lvl; i++) {
+                rank[i] = 0;
+                update[i] = header;
+                header.span[i] = size;
+            }
+            level = lvl;
+        }
+
+        SkipNode<E> newNode = new SkipNode<>(data, lvl);
+        for (int i = 0; i < lvl; i++) {
+            newNode.setForward(i, update[i].forward(i));
+            update[i].setForward(i, newNode);
+            // 原跨度被新节点一分为二
+            newNode.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = lvl; i < level; i++) {
+            update[i].span[i]++; // 未接入的高层跨度多了一个元素
+        }
+
+        if (newNode.next == null) {
+            tail = newNode;
+        }
+        head = header.next;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 删除指定位置节点
+     * 关键操作：
+     * 1. 自顶向下定位每层中目标节点的前驱
+     * 2. 指向目标节点的层合并跨度，其余层跨度减1
+     * 3. 收缩空的顶层
+     * 时间复杂度：O(log n) 期望
+     * 空间复杂度：O(log n) —— 前驱数组
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void delete(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+
+        SkipNode<E>[] update = (SkipNode<E>[]) new SkipNode<?>[MAX_LEVEL];
+        SkipNode<E> x = header;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward(i) != null && traversed + x.span[i] < pos) {
+                traversed += x.span[i];
+                x = x.forward(i);
+            }
+            update[i] = x;
+        }
+
+        SkipNode<E> target = update[0].next;
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward(i) == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].setForward(i, target.forward(i));
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && header.forward(level - 1) == null) {
+            level--;
+        }
+
+        if (target == tail) {
+            tail = (update[0] == header) ? null : update[0];
+        }
+        head = header.next;
+        size--;
+        modCount++;
+    }
+
+    // ----------------- 批量操作 -----------------
+
+    /** 批量操作创建的节点随机分配层数，索引指针在 afterBulkChange 中统一建立 */
+    @Override
+    protected SkipNode<E> newNode(E data) {
+        return new SkipNode<>(data, randomLevel());
+    }
+
+    @Override
+    protected SkipLinkedList<E> newEmptyList() {
+        return new SkipLinkedList<>(random);
+    }
+
+    /** 跳表节点的索引层数随机且各不相同，不复用节点，setNodePool 被忽略 */
+    @Override
+    public boolean supportsNodePool() {
+        return false;
+    }
+
+    /** 批量操作只改写了第0层，重建上层索引，O(n) */
+    @Override
+    protected void afterBulkChange() {
+        rebuildIndex();
+    }
+
+    @Override
+    public SkipLinkedList<E> split(int pos) {
+        return (SkipLinkedList<E>) super.split(pos);
+    }
+
+    // ----------------- 反转 -----------------
+
+    /**
+     * 迭代反转：先反转第0层链表，再重建上层索引
+     * 时间复杂度：O(n) —— 反转与重建各遍历一次
+     */
+    @Override
+    public void reverse() {
+        super.reverse();
+        rebuildIndex();
+    }
+
+    /** 递归反转：第0层沿用父类递归实现，再重建上层索引 */
+    @Override
+    public void reverseRecursion() {
+        super.reverseRecursion();
+        rebuildIndex();
+    }
+
+    /** 栈反转：第0层沿用父类栈实现，再重建上层索引 */
+    @Override
+    public void reverseByStack() {
+        super.reverseByStack();
+        rebuildIndex();
+    }
+
+    /** 区间反转：第0层沿用父类实现，再重建上层索引 */
+    @Override
+    public void reverse(int from, int to) {
+        super.reverse(from, to);
+        rebuildIndex();
+    }
+
+    /** 分组反转：第0层沿用父类实现，再重建上层索引 */
+    @Override
+    public void reverseKGroup(int k) {
+        super.reverseKGroup(k);
+        rebuildIndex();
+    }
+
+    /**
+     * 按第0层顺序重建上层索引指针与跨度（节点层数保持不变）
+     * 节点可能来自其他跳表（splice/split），先按最大层数重建，再收缩空的顶层
+     * 时间复杂度：O(n) —— 单次遍历
+     * 空间复杂度：O(log n) —— 每层记录最近一个节点
+     */
+    @SuppressWarnings("unchecked")
+    private void rebuildIndex() {
+        level = MAX_LEVEL;
+        header.next = head;
+        SkipNode<E>[] last = (SkipNode<E>[]) new SkipNode<?>[level];
+        int[] lastRank = new int[level];
+        for (int i = 1; i < level; i++) {
+            last[i] = header;
+        }
+
+        int rank = 0;
+        for (SkipNode<E> x = head; x != null; x = x.next) {
+            rank++;
+            x.span[0] = 1;
+            for (int i = 1; i < x.level(); i++) {
+                last[i].forward[i] = x;
+                last[i].span[i] = rank - lastRank[i];
+                last[i] = x;
+                lastRank[i] = rank;
+            }
+        }
+        header.span[0] = 1;
+        for (int i = 1; i < level; i++) {
+            last[i].forward[i] = null;
+            last[i].span[i] = size - lastRank[i];
+        }
+        while (level > 1 && header.forward(level - 1) == null) {
+            level--;
+        }
+    }
+
+    public static void main(String[] args) {
+        SkipLinkedList<Integer> myList = new SkipLinkedList<>();
+        myList.insert(1);
+        myList.insert(2);
+        myList.insert(3);
+        myList.insert(4);
+        myList.insert(5);
+        System.out.println(myList);
+
+        myList.insert(3, 3);
+        myList.insert(4, 4);
+        myList.addLast(0);
+        System.out.println(myList + " (size=" + myList.size() + ", last=" + myList.peekLast() + ")");
+
+        myList.delete(5);
+        System.out.println(myList);
+        System.out.println("pos 3 = " + myList.getNode(3).data);
+
+        myList.reversePrint();
+        myList.reverse();
+        System.out.println(myList);
+        myList.reverseRecursion();
+        System.out.println(myList);
+        myList.reverseByStack();
+        System.out.println(myList);
+    }
+}
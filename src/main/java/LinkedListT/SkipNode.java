@@ -0,0 +1,47 @@
+package LinkedListT;
+
+/**
+ * 可索引跳表节点实现（支持泛型）
+ *
+ * 特性：
+ * 1. 第0层复用父类的 next 指针，保证与普通单链表的遍历方式一致
+ * 2. 第1层及以上使用 forward 数组保存索引指针
+ * 3. span 记录每层指针跨越的元素个数，用于按位置定位
+ */
+public class SkipNode<E> extends Node<E, SkipNode<E>> {
+    /** 各层后继指针（下标0不使用，第0层即 next） */
+    public SkipNode<E>[] forward;
+    /** 各层指针跨越的元素个数（第0层为1，尾节点的第0层跨度不参与定位） */
+    public int[] span;
+
+    /**
+     * 跳表节点构造函数
+     * @param data 节点存储的泛型数据
+     * @param level 节点层数（≥1）
+     */
+    @SuppressWarnings("unchecked")
+    public SkipNode(E data, int level) {
+        super(data);
+        this.forward = (SkipNode<E>[]) new SkipNode<?>[level];
+        this.span = new int[level];
+    }
+
+    /** 节点层数 */
+    public int level() {
+        return span.length;
+    }
+
+    /** 获取第 level 层的后继节点 */
+    public SkipNode<E> forward(int level) {
+        return level == 0 ? next : forward[level];
+    }
+
+    /** 设置第 level 层的后继节点 */
+    public void setForward(int level, SkipNode<E> node) {
+        if (level == 0) {
+            next = node;
+        } else {
+            forward[level] = node;
+        }
+    }
+}
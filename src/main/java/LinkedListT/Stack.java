@@ -1,24 +1,42 @@
 package LinkedListT;
 
 import java.lang.reflect.Array;
+import java.util.NoSuchElementException;
 
 /**
  * 栈实现（基于单链表）
  * @param <E> 数据类型
+ * 不需要按位置访问时，可换用 ArrayStack / IntArrayStack（同样实现 StackOps）
  */
-public class Stack<E> extends SinglyLinkedList<E> {
+public class Stack<E> extends SinglyLinkedList<E> implements StackOps<E> {
+    @Override
+    protected Stack<E> newEmptyList() {
+        return new Stack<>();
+    }
+
+    @Override
     public void push(E data) {
         super.insert(data);
     }
 
-    public void pop() {
+    @Override
+    public E pop() {
+        E data = peek();
         super.delete(1);
+        return data;
     }
 
-    public E top() {
+    @Override
+    public E peek() {
+        if (head == null) throw new NoSuchElementException("栈为空");
         return head.data;
     }
 
+    public E top() {
+        return peek();
+    }
+
+    @Override
     public boolean isEmpty() {
         return head == null;
     }
@@ -0,0 +1,43 @@
+package LinkedListT;
+
+/**
+ * 栈的公共操作
+ * @param <E> 数据类型
+ * <p>
+ * 实现：
+ * 1. Stack：基于单链表，每次 push 分配一个节点，可配合节点池使用
+ * 2. ArrayStack：基于可扩容的环形数组，push/pop 不分配对象
+ * 3. IntArrayStack：int 专用的环形数组栈，元素不装箱
+ * 调用方依赖本接口即可在不同实现之间切换。
+ */
+public interface StackOps<E> {
+
+    /** 入栈 */
+    void push(E data);
+
+    /**
+     * 出栈并返回栈顶元素
+     * @throws java.util.NoSuchElementException 栈为空时抛出
+     */
+    E pop();
+
+    /**
+     * 查看栈顶元素（不出栈）
+     * @throws java.util.NoSuchElementException 栈为空时抛出
+     */
+    E peek();
+
+    int size();
+
+    boolean isEmpty();
+
+    /**
+     * 按迭代顺序依次入栈，最后一个元素位于栈顶
+     * 时间复杂度：O(m)，m 为 values 的元素个数
+     */
+    default void pushAll(Iterable<? extends E> values) {
+        for (E value : values) {
+            push(value);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package LinkedListT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 展开链表实现（支持泛型）
+ * <p>
+ * 特性：
+ * 1. 每个块（UnrolledNode）存放最多 chunkSize 个元素，减少对象头与指针开销
+ * 2. 遍历以数组为单位顺序读取，相比逐节点跳转缓存命中率更高
+ * 3. 块满时拆分，块占用低于一半时与后继块合并或借用元素，保持较高占用率
+ * 4. 对外提供与 LinkedList 相同的 insert / insert(pos) / delete(pos) / reverse 语义
+ */
+public class UnrolledLinkedList<E> {
+    /** 默认块容量：32 个引用，压缩指针下约两条缓存行 */
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+
+    /** 头块 */
+    protected UnrolledNode<E> head;
+    /** 尾块 */
+    protected UnrolledNode<E> tail;
+    /** 元素总个数 */
+    protected int size;
+    /** 块容量 */
+    private final int chunkSize;
+
+    /** locate 的附加返回值：目标元素在块内的下标 */
+    private int foundOffset;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize 块容量（≥2）
+     * @throws IllegalArgumentException 块容量小于2时抛出
+     */
+    public UnrolledLinkedList(int chunkSize) {
+        if (chunkSize < 2) throw new IllegalArgumentException("块容量必须≥2");
+        this.chunkSize = chunkSize;
+    }
+
+    // ----------------- 通用方法 -----------------
+
+    /**
+     * 获取链表字符串表示（与 LinkedList 格式一致，空格分隔）
+     * 时间复杂度：O(n) —— 按块顺序读取数组
+     */
+    @Override
+    public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /** 获取前 limit 个元素的字符串表示，超出部分以 " ..." 代替 */
+    public String toString(int limit) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder 不会抛出 IOException
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 按顺序写入前 limit 个元素（空格分隔），超出部分以 " ..." 代替
+     * 时间复杂度：O(min(n, limit))
+     * 空间复杂度：O(1) —— 复用线程缓存的 ListWriter 缓冲区
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), false);
+    }
+
+    /** 逆序写入最后 limit 个元素（从尾块倒序读取），超出部分以 " ..." 代替 */
+    public void writeReverseTo(Appendable out, int limit) throws IOException {
+        write(ListWriter.acquire().begin(out, limit), true);
+    }
+
+    private void write(ListWriter w, boolean reversed) throws IOException {
+        try {
+            if (reversed) {
+                writeElementsReversed(w);
+            } else {
+                writeElements(w);
+            }
+            w.finish();
+        } finally {
+            w.release();
+        }
+    }
+
+    /** 按块顺序写入元素，达到长度上限即停止 */
+    private void writeElements(ListWriter w) throws IOException {
+        for (UnrolledNode<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (!w.element(chunk.elements[i])) return;
+            }
+        }
+    }
+
+    /** 从尾块开始倒序写入元素 */
+    private void writeElementsReversed(ListWriter w) throws IOException {
+        for (UnrolledNode<E> chunk = tail; chunk != null; chunk = chunk.prev) {
+            for (int i = chunk.count - 1; i >= 0; i--) {
+                if (!w.element(chunk.elements[i])) return;
+            }
+        }
+    }
+
+    /** 获取链表长度，O(1) */
+    public int size() {
+        return size;
+    }
+
+    /** 块容量 */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 按顺序对每个元素执行 action（逐块读取数组）
+     * 时间复杂度：O(n)
+     */
+    public void forEach(Consumer<? super E> action) {
+        for (UnrolledNode<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept(chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * 定位第 pos 个元素所在的块，块内下标写入 foundOffset
+     * 实现策略：根据 pos 与 size 的关系从头块或尾块出发，按块跳跃
+     * 时间复杂度：O(n / chunkSize)
+     */
+    private UnrolledNode<E> locate(int pos) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+
+        if (pos <= size / 2) {
+            UnrolledNode<E> chunk = head;
+            int index = pos - 1;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            foundOffset = index;
+            return chunk;
+        }
+
+        UnrolledNode<E> chunk = tail;
+        int fromEnd = size - pos; // 距离末尾的元素个数
+        while (fromEnd >= chunk.count) {
+            fromEnd -= chunk.count;
+            chunk = chunk.prev;
+        }
+        foundOffset = chunk.count - 1 - fromEnd;
+        return chunk;
+    }
+
+    /**
+     * 获取指定位置的元素
+     * @param pos 元素位置（从1开始计数）
+     */
+    public E get(int pos) {
+        UnrolledNode<E> chunk = locate(pos);
+        return chunk.get(foundOffset);
+    }
+
+    /** 获取尾部元素，链表为空时抛出 NoSuchElementException */
+    public E peekLast() {
+        if (tail == null) throw new java.util.NoSuchElementException("链表为空");
+        return tail.get(tail.count - 1);
+    }
+
+    // ----------------- 核心操作 -----------------
+
+    /** 头部插入新元素 */
+    public void insert(E data) {
+        insert(1, data);
+    }
+
+    /** 尾部插入新元素 */
+    public void addLast(E data) {
+        insert(size + 1, data);
+    }
+
+    /**
+     * 指定位置插入新元素
+     * 关键操作：
+     * 1. 定位目标块及块内下标
+     * 2. 块已满时：在首尾追加则新建空块，否则将块对半拆分
+     * 3. 块内后移元素腾出位置
+     * 时间复杂度：O(n / chunkSize + chunkSize)
+     * 空间复杂度：O(1) 均摊 —— 每 chunkSize 次插入最多新建一个块
+     */
+    public void insert(int pos, E data) {
+        if (pos < 1) throw new IllegalArgumentException("位置必须≥1");
+        if (pos > size + 1) throw new IndexOutOfBoundsException("位置 " + pos + " 超过链表长度");
+
+        if (head == null) {
+            head = tail = new UnrolledNode<>(chunkSize);
+        }
+
+        UnrolledNode<E> chunk;
+        int offset;
+        if (pos == size + 1) {
+            chunk = tail;
+            offset = tail.count;
+        } else {
+            chunk = locate(pos);
+            offset = foundOffset;
+        }
+
+        if (chunk.count == chunkSize) {
+            if (chunk == tail && offset == chunk.count) {
+                chunk = linkAfter(chunk); // 顺序追加：新建空块，保持前块满载
+                offset = 0;
+            } else if (chunk == head && offset == 0) {
+                chunk = linkBefore(chunk); // 头部插入：新建空块
+            } else {
+                split(chunk);
+                if (offset > chunk.count) {
+                    offset -= chunk.count;
+                    chunk = chunk.next;
+                }
+            }
+        }
+
+        System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+        chunk.elements[offset] = data;
+        chunk.count++;
+        size++;
+    }
+
+    /**
+     * 删除指定位置元素
+     * 关键操作：
+     * 1. 块内前移元素覆盖被删除元素
+     * 2. 块为空则摘除；占用低于一半则与后继块合并或从后继块借用元素
+     * 时间复杂度：O(n / chunkSize + chunkSize)
+     * 空间复杂度：O(1)
+     */
+    public void delete(int pos) {
+        UnrolledNode<E> chunk = locate(pos);
+        int offset = foundOffset;
+
+        System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.count - offset - 1);
+        chunk.elements[--chunk.count] = null; // 清除引用，避免内存泄漏
+        size--;
+
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < chunkSize / 2 && chunk.next != null) {
+            rebalance(chunk);
+        }
+    }
+
+    // ----------------- 块维护 -----------------
+
+    /** 在 chunk 之后链接一个空块并返回 */
+    private UnrolledNode<E> linkAfter(UnrolledNode<E> chunk) {
+        UnrolledNode<E> newChunk = new UnrolledNode<>(chunkSize);
+        newChunk.prev = chunk;
+        newChunk.next = chunk.next;
+        if (chunk.next != null) {
+            chunk.next.prev = newChunk;
+        } else {
+            tail = newChunk;
+        }
+        chunk.next = newChunk;
+        return newChunk;
+    }
+
+    /** 在 chunk 之前链接一个空块并返回 */
+    private UnrolledNode<E> linkBefore(UnrolledNode<E> chunk) {
+        UnrolledNode<E> newChunk = new UnrolledNode<>(chunkSize);
+        newChunk.next = chunk;
+        newChunk.prev = chunk.prev;
+        if (chunk.prev != null) {
+            chunk.prev.next = newChunk;
+        } else {
+            head = newChunk;
+        }
+        chunk.prev = newChunk;
+        return newChunk;
+    }
+
+    /** 摘除空块 */
+    private void unlink(UnrolledNode<E> chunk) {
+        if (chunk.prev != null) {
+            chunk.prev.next = chunk.next;
+        } else {
+            head = chunk.next;
+        }
+        if (chunk.next != null) {
+            chunk.next.prev = chunk.prev;
+        } else {
+            tail = chunk.prev;
+        }
+        chunk.next = chunk.prev = null;
+    }
+
+    /** 将满块的后一半元素移入新建的后继块 */
+    private void split(UnrolledNode<E> chunk) {
+        UnrolledNode<E> newChunk = linkAfter(chunk);
+        int keep = chunk.count / 2;
+        int move = chunk.count - keep;
+        System.arraycopy(chunk.elements, keep, newChunk.elements, 0, move);
+        java.util.Arrays.fill(chunk.elements, keep, chunk.count, null);
+        newChunk.count = move;
+        chunk.count = keep;
+    }
+
+    /**
+     * 低占用块再平衡
+     * 1. 与后继块合计不超过容量：整体合并后继块
+     * 2. 否则从后继块头部借用元素，使两块元素数大致相等
+     */
+    private void rebalance(UnrolledNode<E> chunk) {
+        UnrolledNode<E> next = chunk.next;
+        int move = (chunk.count + next.count <= chunkSize) ? next.count : (next.count - chunk.count) / 2;
+
+        System.arraycopy(next.elements, 0, chunk.elements, chunk.count, move);
+        chunk.count += move;
+        System.arraycopy(next.elements, move, next.elements, 0, next.count - move);
+        java.util.Arrays.fill(next.elements, next.count - move, next.count, null);
+        next.count -= move;
+
+        if (next.count == 0) {
+            unlink(next);
+        }
+    }
+
+    // ----------------- 增强功能 -----------------
+
+    /**
+     * 反向遍历打印（从尾块倒序读取，经 ListWriter 批量写入 System.out）
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1)
+     */
+    public void reversePrint() {
+        reversePrint(Integer.MAX_VALUE);
+    }
+
+    /** 逆序打印最后 limit 个元素，超出部分以 " ..." 代替 */
+    public void reversePrint(int limit) {
+        try {
+            writeReverseTo(System.out, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // PrintStream 不会抛出 IOException
+        }
+        System.out.println();
+    }
+
+    /**
+     * 迭代反转链表
+     * 算法步骤：
+     * 1. 交换每个块的 prev 和 next 指针
+     * 2. 块内数组原地反转
+     * 3. 交换头尾块
+     * 时间复杂度：O(n)
+     * 空间复杂度：O(1)
+     */
+    public void reverse() {
+        UnrolledNode<E> current = head;
+        while (current != null) {
+            UnrolledNode<E> temp = current.next;
+            current.next = current.prev;
+            current.prev = temp;
+
+            Object[] elements = current.elements;
+            for (int i = 0, j = current.count - 1; i < j; i++, j--) {
+                Object t = elements[i];
+                elements[i] = elements[j];
+                elements[j] = t;
+            }
+            current = temp;
+        }
+        UnrolledNode<E> temp = head;
+        head = tail;
+        tail = temp;
+    }
+
+    public static void main(String[] args) {
+        UnrolledLinkedList<Integer> myList = new UnrolledLinkedList<>(4);
+        myList.insert(1);
+        myList.insert(2);
+        myList.insert(3);
+        myList.insert(4);
+        myList.insert(5);
+        System.out.println(myList);
+
+        myList.insert(3, 3);
+        myList.insert(4, 4);
+        myList.addLast(0);
+        System.out.println(myList + " (size=" + myList.size() + ", last=" + myList.peekLast() + ")");
+
+        myList.delete(5);
+        System.out.println(myList);
+
+        myList.reversePrint();
+        myList.reverse();
+        System.out.println(myList);
+    }
+}
@@ -0,0 +1,34 @@
+package LinkedListT;
+
+/**
+ * 展开链表节点（块）实现（支持泛型）
+ *
+ * 特性：
+ * 1. 每个节点保存一个定长数组，连续存放多个元素，遍历时对缓存友好
+ * 2. 同时维护 prev 与 next，便于从尾部定位与整体反转
+ * 3. 一个节点对应多个元素，因此不继承单元素的 Node<E, T>
+ */
+public class UnrolledNode<E> {
+    /** 元素数组，仅下标 [0, count) 有效 */
+    public final Object[] elements;
+    /** 当前块中的元素个数 */
+    public int count;
+    /** 指向下一个块的引用 */
+    public UnrolledNode<E> next;
+    /** 指向上一个块的引用 */
+    public UnrolledNode<E> prev;
+
+    /**
+     * 块构造函数
+     * @param capacity 块容量（每块最多存放的元素个数）
+     */
+    public UnrolledNode(int capacity) {
+        this.elements = new Object[capacity];
+    }
+
+    /** 获取块内第 index 个元素（从0开始） */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+}
@@ -0,0 +1,100 @@
+package LinkedListT;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 持久化链表的原子版本引用（单写多读 / 多写多读均可）
+ * @param <E> 数据类型
+ * <p>
+ * 特性：
+ * 1. 当前版本保存在 AtomicReference 中，读者 snapshot() 一次 volatile 读取即得到完整、
+ *    不会再变化的版本，之后的遍历不加锁、不阻塞，也不受并发写入影响
+ * 2. 写者基于当前版本构造新版本（头部操作 O(1)，共享其余节点），再 CAS 发布；
+ *    CAS 失败说明有其他写者先发布，基于最新版本重试
+ * 3. 旧版本在最后一个读者不再引用后由 GC 回收，不需要额外的回收协议
+ */
+public class VersionedList<E> {
+    private final AtomicReference<PersistentList<E>> current;
+
+    public VersionedList() {
+        this(PersistentList.empty());
+    }
+
+    public VersionedList(PersistentList<E> initial) {
+        current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * 获取当前版本的快照
+     * 时间复杂度：O(1) —— 一次 volatile 读取
+     */
+    public PersistentList<E> snapshot() {
+        return current.get();
+    }
+
+    /**
+     * 以 update 作用于当前版本并发布结果（CAS 失败时基于最新版本重试，update 可能被调用多次）
+     * @return 发布的新版本
+     */
+    public PersistentList<E> update(UnaryOperator<PersistentList<E>> update) {
+        while (true) {
+            PersistentList<E> prev = current.get();
+            PersistentList<E> next = update.apply(prev);
+            if (current.compareAndSet(prev, next)) {
+                return next;
+            }
+        }
+    }
+
+    /** 当前版本仍为 expected 时替换为 next */
+    public boolean compareAndSet(PersistentList<E> expected, PersistentList<E> next) {
+        return current.compareAndSet(expected, next);
+    }
+
+    /** 头部插入，时间复杂度：O(1) 期望（竞争时重试） */
+    public void push(E data) {
+        while (true) {
+            PersistentList<E> prev = current.get();
+            if (current.compareAndSet(prev, prev.push(data))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 删除并返回头部元素
+     * @throws NoSuchElementException 链表为空时抛出
+     * 时间复杂度：O(1) 期望（竞争时重试）
+     */
+    public E pop() {
+        while (true) {
+            PersistentList<E> prev = current.get();
+            if (prev.isEmpty()) throw new NoSuchElementException("链表为空");
+            if (current.compareAndSet(prev, prev.pop())) {
+                return prev.peek();
+            }
+        }
+    }
+
+    /** 当前版本的元素个数 */
+    public int size() {
+        return current.get().size();
+    }
+
+    @Override
+    public String toString() {
+        return current.get().toString();
+    }
+
+    public static void main(String[] args) {
+        VersionedList<Integer> list = new VersionedList<>();
+        list.push(1);
+        list.push(2);
+        PersistentList<Integer> snapshot = list.snapshot();
+        list.update(v -> v.insert(v.size() + 1, 3));
+        list.pop();
+        System.out.println(list + " | 快照: " + snapshot); // 之后的发布不影响已取得的快照
+    }
+}
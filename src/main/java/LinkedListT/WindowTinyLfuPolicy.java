@@ -0,0 +1,136 @@
+package LinkedListT;
+
+/**
+ * W-TinyLFU 淘汰策略
+ * <p>
+ * 结构（权重预算占分段容量的比例）：
+ * 1. 窗口区（1%）：LRU，新条目先进入这里，吸收突发的新访问
+ * 2. 主区（99%）：分段 LRU，分为试用区与保护区（主区的 80%）
+ *    - 窗口区超出预算时，其最久未访问的条目移入试用区尾部，成为准入候选
+ *    - 试用区条目再次命中后晋升到保护区；保护区超出预算时，最久未访问的条目降回试用区尾部
+ * 3. 淘汰时比较试用区尾部的候选与头部的受害者在 FrequencySketch 中的估计频率：
+ *    候选频率更高才淘汰受害者，否则淘汰候选本身。
+ *    只访问一次的扫描流量因此无法挤掉热点条目
+ * 所有回调 O(1)（频率估计为 4 次表查找）。读取未命中同样计入频率。
+ */
+public class WindowTinyLfuPolicy<K, V> implements EvictionPolicy<K, V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final CacheDeque<K, V> window = new CacheDeque<>();
+    private final CacheDeque<K, V> probation = new CacheDeque<>();
+    private final CacheDeque<K, V> protect = new CacheDeque<>();
+    private final FrequencySketch sketch;
+
+    private final long windowMax;
+    private final long protectedMax;
+    private long windowWeight;
+    private long protectedWeight;
+
+    /** @param maximumWeight 所属分段的权重上限 */
+    public WindowTinyLfuPolicy(long maximumWeight) {
+        windowMax = Math.max(1, maximumWeight / 100);
+        protectedMax = (maximumWeight - windowMax) * 4 / 5;
+        sketch = new FrequencySketch(maximumWeight);
+    }
+
+    @Override
+    public void onInsert(CacheNode<K, V> node) {
+        sketch.increment(node.hash);
+        node.region = WINDOW;
+        window.linkLast(node);
+        windowWeight += node.weight;
+        drainWindow();
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        sketch.increment(node.hash);
+        switch (node.region) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION: // 试用区再次命中：晋升到保护区
+                probation.unlink(node);
+                node.region = PROTECTED;
+                protect.linkLast(node);
+                protectedWeight += node.weight;
+                demoteProtected();
+                break;
+            default:
+                protect.moveToLast(node);
+        }
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        if (node.region == WINDOW) {
+            windowWeight += node.weight - oldWeight;
+        } else if (node.region == PROTECTED) {
+            protectedWeight += node.weight - oldWeight;
+        }
+        onAccess(node);
+        drainWindow();
+        demoteProtected();
+    }
+
+    @Override
+    public void onMiss(int hash) {
+        sketch.increment(hash);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        switch (node.region) {
+            case WINDOW:
+                window.unlink(node);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                break;
+            default:
+                protect.unlink(node);
+                protectedWeight -= node.weight;
+        }
+    }
+
+    @Override
+    public CacheNode<K, V> evict() {
+        CacheNode<K, V> victim = probation.first();
+        if (victim == null) { // 试用区为空：依次从保护区、窗口区淘汰
+            victim = protect.isEmpty() ? window.first() : protect.first();
+            if (victim != null) {
+                onRemove(victim);
+            }
+            return victim;
+        }
+        CacheNode<K, V> candidate = probation.last();
+        if (candidate != victim && sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+            victim = candidate; // 候选频率不高于受害者：拒绝准入
+        }
+        probation.unlink(victim);
+        return victim;
+    }
+
+    /** 窗口区超出预算的条目移入试用区尾部，成为准入候选 */
+    private void drainWindow() {
+        while (windowWeight > windowMax) {
+            CacheNode<K, V> node = window.pollFirst();
+            windowWeight -= node.weight;
+            node.region = PROBATION;
+            probation.linkLast(node);
+        }
+    }
+
+    /** 保护区超出预算的条目降回试用区尾部 */
+    private void demoteProtected() {
+        while (protectedWeight > protectedMax) {
+            CacheNode<K, V> node = protect.pollFirst();
+            protectedWeight -= node.weight;
+            node.region = PROBATION;
+            probation.linkLast(node);
+        }
+    }
+}
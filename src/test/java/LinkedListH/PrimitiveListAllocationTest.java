@@ -0,0 +1,112 @@
+package LinkedListH;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 分配量校验：数组链表预留容量后，插入 / 删除热路径每次操作分配 0 字节
+ * <p>
+ * 通过 com.sun.management.ThreadMXBean 读取当前线程的累计分配字节数；
+ * 对象节点的 LinkedList 作为对照，每次插入约分配一个节点，用来确认测量本身有效。
+ */
+class PrimitiveListAllocationTest {
+
+    private static final int OPS = 200_000;
+    /** 每轮包含头插、尾插（或位置插入）、位置插入与三次删除 */
+    private static final int OPS_PER_ROUND = 6;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    static void allocationCountingSupported() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "JVM 不支持线程分配统计");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void intLinkedListDoesNotAllocate() {
+        IntLinkedList list = new IntLinkedList(16);
+        assertEquals(0.0, bytesPerOp(() -> churn(list, OPS)), "IntLinkedList bytes/op");
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void intDoublyLinkedListDoesNotAllocate() {
+        IntDoublyLinkedList list = new IntDoublyLinkedList(16);
+        assertEquals(0.0, bytesPerOp(() -> churn(list, OPS)), "IntDoublyLinkedList bytes/op");
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void intXorLinkedListDoesNotAllocate() {
+        IntXorLinkedList list = new IntXorLinkedList(16);
+        assertEquals(0.0, bytesPerOp(() -> churn(list, OPS)), "IntXorLinkedList bytes/op");
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void longLinkedListDoesNotAllocate() {
+        LongLinkedList list = new LongLinkedList(16);
+        assertEquals(0.0, bytesPerOp(() -> churn(list, OPS)), "LongLinkedList bytes/op");
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void nodeListAllocationIsMeasured() {
+        LinkedList list = new LinkedList();
+        double perOp = bytesPerOp(() -> churn(list, OPS));
+        assertTrue(perOp >= 4, "对象节点链表每次操作应分配约半个节点，实测 " + perOp);
+    }
+
+    /**
+     * 先执行两轮预热（第一轮触发扩容与 JIT，第二轮确认稳定），再测量一轮的平均分配字节数
+     */
+    private static double bytesPerOp(Runnable churn) {
+        churn.run();
+        churn.run();
+        long thread = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        churn.run();
+        long bytes = THREADS.getThreadAllocatedBytes(thread) - before;
+        return (double) bytes / ((long) OPS * OPS_PER_ROUND);
+    }
+
+    private static void churn(IntLinkedList list, int ops) {
+        for (int i = 0; i < ops; i++) {
+            list.insert(i);
+            list.insertAtTail(i);
+            list.insert(2, i);
+            list.delete(1);
+            list.delete(1);
+            list.delete(1);
+        }
+    }
+
+    private static void churn(LongLinkedList list, int ops) {
+        for (int i = 0; i < ops; i++) {
+            list.insert(i);
+            list.insertAtTail(i);
+            list.insert(2, i);
+            list.delete(1);
+            list.delete(1);
+            list.delete(1);
+        }
+    }
+
+    private static void churn(LinkedList list, int ops) {
+        for (int i = 0; i < ops; i++) {
+            list.insert(i);
+            list.insert(2, i);
+            list.insert(3, i);
+            list.delete(1);
+            list.delete(1);
+            list.delete(1);
+        }
+    }
+}
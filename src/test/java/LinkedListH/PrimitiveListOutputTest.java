@@ -0,0 +1,96 @@
+package LinkedListH;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 数组链表的流式输出：toString / writeTo / writeReverseTo / reversePrint 与对象节点链表格式一致
+ * （空格分隔、无末尾空格，超过长度上限写 " ..."，一个元素都未写出时只写 "..."），逆序输出之后链表保持原顺序
+ */
+class PrimitiveListOutputTest {
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("IntLinkedList", (Supplier<IntLinkedList>) IntLinkedList::new),
+                Arguments.of("IntDoublyLinkedList", (Supplier<IntLinkedList>) IntDoublyLinkedList::new),
+                Arguments.of("IntXorLinkedList", (Supplier<IntLinkedList>) IntXorLinkedList::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void intListsStreamWithoutTrailingSpace(String name, Supplier<IntLinkedList> factory) throws IOException {
+        IntLinkedList list = factory.get();
+        assertEquals("", list.toString());
+        assertEquals("", list.toString(0));
+        for (int i = 1; i <= 5; i++) {
+            list.insertAtTail(i * 10);
+        }
+        list.insert(-7);
+        assertEquals("-7 10 20 30 40 50", list.toString());
+        assertEquals("-7 10 ...", list.toString(2));
+        assertEquals("...", list.toString(0));
+
+        StringBuilder reversed = new StringBuilder();
+        list.writeReverseTo(reversed, 3);
+        assertEquals("50 40 30 ...", reversed.toString());
+        StringBuilder none = new StringBuilder();
+        list.writeReverseTo(none, 0);
+        assertEquals("...", none.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(bytes);
+        list.writeTo(channel);
+        bytes.write(' ');
+        list.writeReverseTo(channel, Integer.MAX_VALUE);
+        assertEquals("-7 10 20 30 40 50 50 40 30 20 10 -7", bytes.toString(StandardCharsets.UTF_8));
+
+        assertEquals("50 40 30 20 10 -7" + System.lineSeparator(), printReverse(list::reversePrint));
+        assertEquals("-7 10 20 30 40 50", list.toString());
+        list.reverse();
+        assertEquals("50 40 30 20 10 -7", list.toString());
+        assertEquals("-7 10 20 30 40 50" + System.lineSeparator(), printReverse(list::reversePrint));
+    }
+
+    @Test
+    void longListStreamsWithoutTrailingSpace() throws IOException {
+        LongLinkedList list = new LongLinkedList();
+        list.insertAtTail(4L << 40);
+        list.insertAtTail(-5);
+        list.insertAtTail(Long.MIN_VALUE);
+        assertEquals("4398046511104 -5 -9223372036854775808", list.toString());
+        assertEquals("4398046511104 ...", list.toString(1));
+        assertEquals("...", list.toString(0));
+
+        StringBuilder reversed = new StringBuilder();
+        list.writeReverseTo(reversed, Integer.MAX_VALUE);
+        assertEquals("-9223372036854775808 -5 4398046511104", reversed.toString());
+        assertEquals("-9223372036854775808 -5 4398046511104" + System.lineSeparator(), printReverse(list::reversePrint));
+        assertEquals("4398046511104 -5 -9223372036854775808", list.toString());
+    }
+
+    /** 捕获 reversePrint 写到 System.out 的内容 */
+    private static String printReverse(Runnable reversePrint) {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            reversePrint.run();
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,222 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * ArrayStack / IntArrayStack 环形数组：push / addLast / pop / removeLast 混合操作与 ArrayDeque 对照
+ * （栈顶对应 ArrayDeque 的头部），覆盖下标回绕、回绕状态下扩容、trimToSize 收缩到0后再使用，
+ * 以及通过 StackOps 在 Stack / ArrayStack / IntArrayStack 之间切换
+ */
+class ArrayStackTest {
+
+    @Test
+    void mixedOperationsWrapAroundLikeArrayDeque() {
+        Random random = new Random(8);
+        for (int run = 0; run < 50; run++) {
+            ArrayStack<Integer> stack = new ArrayStack<>(random.nextInt(4));
+            IntArrayStack ints = new IntArrayStack(random.nextInt(4));
+            Deque<Integer> expected = new ArrayDeque<>();
+            for (int op = 0; op < 500; op++) {
+                int value = random.nextInt(1000);
+                switch (random.nextInt(7)) {
+                    case 0:
+                        stack.push(value);
+                        ints.push(value);
+                        expected.addFirst(value);
+                        break;
+                    case 1:
+                        stack.addLast(value);
+                        ints.addLast(value);
+                        expected.addLast(value);
+                        break;
+                    case 2:
+                        if (!expected.isEmpty()) {
+                            int top = expected.removeFirst();
+                            assertEquals(top, stack.pop());
+                            assertEquals(top, ints.popInt());
+                        }
+                        break;
+                    case 3:
+                        if (!expected.isEmpty()) {
+                            int bottom = expected.removeLast();
+                            assertEquals(bottom, stack.removeLast());
+                            assertEquals(bottom, ints.removeLastInt());
+                        }
+                        break;
+                    case 4:
+                        if (random.nextInt(10) == 0) {
+                            stack.trimToSize();
+                            ints.trimToSize();
+                            assertEquals(expected.size(), stack.capacity());
+                            assertEquals(expected.size(), ints.capacity());
+                        }
+                        break;
+                    default:
+                        if (!expected.isEmpty()) {
+                            assertEquals(expected.peekFirst(), stack.peek());
+                            assertEquals(expected.peekLast(), stack.peekLast());
+                            assertEquals(expected.peekFirst(), ints.peekInt());
+                            assertEquals(expected.peekLast(), ints.peekLastInt());
+                        }
+                        break;
+                }
+                assertContents(expected, stack, ints);
+            }
+        }
+    }
+
+    @Test
+    void growAfterWrapAroundKeepsOrder() {
+        ArrayStack<Integer> stack = new ArrayStack<>(4);
+        IntArrayStack ints = new IntArrayStack(4);
+        // 栈顶一侧从数组末尾向前写入，栈底一侧从下标0向后写入：满载时两段在数组中首尾回绕
+        for (int i = 1; i <= 2; i++) {
+            stack.push(i);
+            ints.push(i);
+            stack.addLast(-i);
+            ints.addLast(-i);
+        }
+        assertEquals(4, stack.capacity());
+        assertEquals("2 1 -1 -2", stack.toString());
+        assertEquals("2 1 -1 -2", ints.toString());
+
+        stack.push(3);
+        ints.push(3);
+        stack.addLast(-3);
+        ints.addLast(-3);
+        assertEquals(6, stack.capacity(), "1.5 倍扩容");
+        assertEquals(6, ints.capacity());
+        assertEquals("3 2 1 -1 -2 -3", stack.toString());
+        assertArrayEquals(new int[]{3, 2, 1, -1, -2, -3}, ints.toArray());
+        for (int pos = 1; pos <= 6; pos++) {
+            assertEquals(stack.get(pos), ints.get(pos), "get(" + pos + ")");
+        }
+        assertEquals(-3, stack.removeLast());
+        assertEquals(3, stack.pop());
+        assertEquals("2 1 -1 -2", stack.toString());
+    }
+
+    @Test
+    void trimToSizeDownToZeroThenReuse() {
+        ArrayStack<String> stack = new ArrayStack<>();
+        IntArrayStack ints = new IntArrayStack();
+        for (int i = 0; i < 20; i++) {
+            stack.push("s" + i);
+            ints.push(i);
+        }
+        while (!stack.isEmpty()) {
+            stack.removeLast();
+            ints.popInt();
+        }
+        assertTrue(ints.isEmpty());
+        stack.trimToSize();
+        ints.trimToSize();
+        assertEquals(0, stack.capacity());
+        assertEquals(0, ints.capacity());
+        assertEquals("", stack.toString());
+        assertThrows(NoSuchElementException.class, stack::pop);
+        assertThrows(NoSuchElementException.class, ints::removeLastInt);
+
+        stack.addLast("a");
+        stack.push("b");
+        ints.addLast(1);
+        ints.push(2);
+        assertEquals(16, stack.capacity(), "从空数组扩容到默认容量");
+        assertEquals(16, ints.capacity());
+        assertEquals("b a", stack.toString());
+        assertEquals("2 1", ints.toString());
+
+        stack.clear();
+        stack.trimToSize();
+        assertEquals(0, stack.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayStack(-1));
+    }
+
+    static Stream<Arguments> stacks() {
+        return Stream.of(
+                Arguments.of("Stack", (Supplier<StackOps<Integer>>) Stack::new),
+                Arguments.of("ArrayStack", (Supplier<StackOps<Integer>>) ArrayStack::new),
+                Arguments.of("ArrayStack(0)", (Supplier<StackOps<Integer>>) () -> new ArrayStack<>(0)),
+                Arguments.of("IntArrayStack", (Supplier<StackOps<Integer>>) IntArrayStack::new));
+    }
+
+    /** 只依赖 StackOps 的调用方：各实现行为一致 */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stacks")
+    void implementationsAreInterchangeableThroughStackOps(String name, Supplier<StackOps<Integer>> factory) {
+        StackOps<Integer> stack = factory.get();
+        assertTrue(stack.isEmpty());
+        assertThrows(NoSuchElementException.class, stack::pop);
+        assertThrows(NoSuchElementException.class, stack::peek);
+
+        stack.pushAll(List.of(1, 2, 3));
+        stack.pushAll(() -> List.of(4, 5).iterator()); // 非 Collection 的 Iterable
+        assertEquals(5, stack.size());
+        assertEquals(5, stack.peek(), "最后一个元素位于栈顶");
+
+        assertEquals(List.of(5, 4, 3, 2, 1), drain(stack));
+
+        assertTrue(balanced(factory.get(), "([]{()})[]"));
+        assertFalse(balanced(factory.get(), "([)]"));
+        assertFalse(balanced(factory.get(), "(("));
+    }
+
+    /** 括号匹配：典型的只依赖栈接口的调用方，左括号以字符编码入栈 */
+    private static boolean balanced(StackOps<Integer> stack, String text) {
+        for (char c : text.toCharArray()) {
+            int open = "([{".indexOf(c);
+            if (open >= 0) {
+                stack.push((int) c);
+            } else if (stack.isEmpty() || "([{".charAt(")]}".indexOf(c)) != stack.pop()) {
+                return false;
+            }
+        }
+        return stack.isEmpty();
+    }
+
+    /** 弹出全部元素 */
+    private static List<Integer> drain(StackOps<Integer> stack) {
+        List<Integer> popped = new ArrayList<>();
+        while (!stack.isEmpty()) {
+            popped.add(stack.pop());
+        }
+        assertEquals(0, stack.size());
+        return popped;
+    }
+
+    private static void assertContents(Deque<Integer> expected, ArrayStack<Integer> stack, IntArrayStack ints) {
+        StringJoiner joiner = new StringJoiner(" ");
+        expected.forEach(v -> joiner.add(String.valueOf(v)));
+        assertEquals(expected.size(), stack.size(), "size");
+        assertEquals(expected.size(), ints.size(), "int size");
+        assertEquals(joiner.toString(), stack.toString());
+        assertEquals(joiner.toString(), ints.toString());
+        assertTrue(stack.capacity() >= stack.size());
+        int pos = 1;
+        for (int value : expected) {
+            assertEquals(value, stack.get(pos));
+            assertEquals(value, ints.get(pos));
+            pos++;
+        }
+    }
+}
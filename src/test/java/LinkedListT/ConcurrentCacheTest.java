@@ -0,0 +1,286 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntBiFunction;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * ConcurrentCache 与各淘汰策略：
+ * 1. 单分段下 LRU / LFU 的淘汰顺序精确可预期
+ * 2. put 替换与 remove 之后 weightedSize 等于现存条目的权重之和，统计只计入容量淘汰
+ * 3. W-TinyLFU 在一次性扫描流量下保留热点键，LRU 则全部被挤出
+ * 4. 多线程 put / get / remove 之后，每个分段的条目权重不超过该分段的预算，size / weightedSize 与现存条目一致
+ */
+class ConcurrentCacheTest {
+
+    /** 值的长度作为权重 */
+    private static final ToIntBiFunction<Integer, String> BY_LENGTH = (key, value) -> value.length();
+
+    static Stream<Arguments> policies() {
+        return Stream.of(
+                Arguments.of("LRU", EvictionPolicy.<Integer, String>lru()),
+                Arguments.of("LFU", EvictionPolicy.<Integer, String>lfu()),
+                Arguments.of("W-TinyLFU", EvictionPolicy.<Integer, String>windowTinyLfu()));
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsed() {
+        ConcurrentCache<String, Integer> cache = new ConcurrentCache<>(3, (k, v) -> 1, EvictionPolicy.lru(), 1);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4); // 访问顺序 b c a d：淘汰 b
+        assertFalse(cache.containsKey("b"));
+        assertEquals(3, cache.put("c", 30), "替换返回原值，并视为一次访问");
+        assertTrue(cache.containsKey("a"), "containsKey 不影响淘汰顺序");
+        cache.put("e", 5); // 访问顺序 a d c e：淘汰 a
+        assertFalse(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c") && cache.containsKey("d") && cache.containsKey("e"));
+        assertEquals(3, cache.size());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(0, stats.missCount());
+        assertEquals(2, stats.evictionCount());
+        assertEquals(2, stats.evictionWeight());
+    }
+
+    @Test
+    void lfuEvictsLeastFrequentThenLeastRecent() {
+        ConcurrentCache<String, Integer> cache = new ConcurrentCache<>(3, (k, v) -> 1, EvictionPolicy.lfu(), 1);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.put("d", 4); // 频率 a=3 b=2 c=1 d=1：同频率中 c 最久未访问
+        assertFalse(cache.containsKey("c"));
+        cache.put("e", 5); // d 与 e 频率都为1，淘汰较早的 d
+        assertFalse(cache.containsKey("d"));
+        assertTrue(cache.containsKey("e"));
+        cache.get("e");
+        cache.get("e");
+        cache.get("e"); // e=4 > a=3 > b=2
+        cache.put("f", 6);
+        assertFalse(cache.containsKey("f"), "新条目频率最低，立即被淘汰");
+        cache.put("b", 20); // 替换计为访问：b=3
+        cache.put("g", 7);
+        assertFalse(cache.containsKey("g"));
+        assertTrue(cache.containsKey("a") && cache.containsKey("b") && cache.containsKey("e"));
+        assertNull(cache.get("f"));
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void weightFollowsReplacementsAndRemovals() {
+        ConcurrentCache<Integer, String> cache = new ConcurrentCache<>(10, BY_LENGTH, EvictionPolicy.lru(), 1);
+        cache.put(1, "aaaa");
+        cache.put(2, "bbb");
+        assertEquals(7, cache.weightedSize());
+        cache.put(1, "a");
+        assertEquals(4, cache.weightedSize(), "替换按新旧权重之差调整");
+        cache.put(2, "bbbbbbbbb");
+        assertEquals(10, cache.weightedSize(), "恰好等于容量时不淘汰");
+        assertEquals(0, cache.stats().evictionCount());
+        cache.put(1, "aa"); // 访问顺序 2 1：总权重 11，淘汰 2
+        assertEquals(2, cache.weightedSize());
+        assertNull(cache.get(2));
+        assertEquals(9, cache.stats().evictionWeight());
+
+        assertEquals("aa", cache.remove(1));
+        assertNull(cache.remove(1));
+        assertEquals(0, cache.weightedSize());
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.stats().evictionCount(), "显式删除不计入淘汰");
+
+        cache.put(3, "cccccccccccc"); // 单个条目超过容量：写入后立即被淘汰
+        assertFalse(cache.containsKey(3));
+        assertEquals(0, cache.weightedSize());
+        cache.put(4, "");
+        assertEquals(1, cache.size(), "权重为0的条目");
+        assertEquals(0, cache.weightedSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentCache<Integer, String>(10, (k, v) -> -1, EvictionPolicy.lru(), 1).put(1, "x"));
+        assertThrows(NullPointerException.class, () -> cache.put(5, null));
+    }
+
+    /** 随机 put（含替换与改变权重）/ get / remove / clear，每一步之后权重与现存条目一致且不超过容量 */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("policies")
+    void weightedSizeMatchesResidentEntries(String name, EvictionPolicy.Factory<Integer, String> policy) {
+        Random random = new Random(22);
+        for (int level : new int[]{1, 4}) {
+            ConcurrentCache<Integer, String> cache = new ConcurrentCache<>(100, BY_LENGTH, policy, level);
+            Map<Integer, String> written = new HashMap<>();
+            for (int op = 0; op < 5_000; op++) {
+                int key = random.nextInt(150);
+                switch (random.nextInt(8)) {
+                    case 0:
+                        cache.remove(key);
+                        written.remove(key);
+                        break;
+                    case 1:
+                    case 2:
+                        String value = cache.get(key);
+                        if (value != null) {
+                            assertEquals(written.get(key), value);
+                        }
+                        break;
+                    case 3:
+                        if (random.nextInt(500) == 0) {
+                            cache.clear();
+                            written.clear();
+                        }
+                        break;
+                    default:
+                        String next = "v".repeat(random.nextInt(10));
+                        cache.put(key, next);
+                        written.put(key, next);
+                        break;
+                }
+                if (op % 10 == 0) {
+                    assertResident(cache, written);
+                }
+            }
+            assertResident(cache, written);
+        }
+    }
+
+    @Test
+    void windowTinyLfuKeepsHotKeysDuringScan() {
+        ConcurrentCache<Integer, Integer> tiny = new ConcurrentCache<>(100, (k, v) -> 1,
+                EvictionPolicy.windowTinyLfu(), 1);
+        ConcurrentCache<Integer, Integer> lru = new ConcurrentCache<>(100, (k, v) -> 1, EvictionPolicy.lru(), 1);
+        for (int round = 0; round < 5; round++) {
+            for (int k = 0; k < 50; k++) {
+                tiny.get(k, key -> key);
+                lru.get(k, key -> key);
+            }
+        }
+        for (int k = 1000; k < 11_000; k++) { // 每个键只访问一次的扫描
+            tiny.get(k, key -> key);
+            lru.get(k, key -> key);
+        }
+        int retained = 0;
+        int retainedByLru = 0;
+        for (int k = 0; k < 50; k++) {
+            if (tiny.containsKey(k)) retained++;
+            if (lru.containsKey(k)) retainedByLru++;
+        }
+        assertTrue(retained >= 45, "W-TinyLFU 保留热点 " + retained + "/50");
+        assertEquals(0, retainedByLru, "LRU 被扫描全部挤出");
+        assertEquals(100, tiny.size());
+        assertEquals(4 * 50, tiny.stats().hitCount());
+    }
+
+    /** 多个线程在重叠的键上混合读写，结束后逐段校验：每个分段的权重不超过其预算，总量与现存条目一致 */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("policies")
+    void concurrentAccessRespectsSegmentBudgets(String name, EvictionPolicy.Factory<Integer, String> policy)
+            throws Exception {
+        int threads = 4;
+        int operations = 50_000;
+        ConcurrentCache<Integer, String> cache = new ConcurrentCache<>(300, BY_LENGTH, policy, 8);
+        assertEquals(8, cache.segmentCount());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long gets;
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int reads = 0;
+                    start.await();
+                    for (int op = 0; op < operations; op++) {
+                        int key = random.nextInt(1_000);
+                        int choice = random.nextInt(10);
+                        if (choice < 4) {
+                            cache.put(key, "w".repeat(1 + key % 7)); // 权重由键决定，校验时可重算
+                        } else if (choice < 5) {
+                            cache.remove(key);
+                        } else {
+                            String value = cache.get(key);
+                            reads++;
+                            if (value != null && value.length() != 1 + key % 7) {
+                                throw new AssertionError("键 " + key + " 的值被破坏: " + value);
+                            }
+                        }
+                    }
+                    return reads;
+                }));
+            }
+            start.countDown();
+            gets = 0;
+            for (Future<Integer> future : futures) {
+                gets += future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long[] segmentWeight = new long[cache.segmentCount()];
+        long size = 0;
+        for (int key = 0; key < 1_000; key++) {
+            if (cache.containsKey(key)) {
+                segmentWeight[segmentOf(key, cache.segmentCount())] += 1 + key % 7;
+                size++;
+            }
+        }
+        long total = 0;
+        for (int s = 0; s < segmentWeight.length; s++) {
+            long budget = cache.maximumWeight() / segmentWeight.length
+                    + (s < cache.maximumWeight() % segmentWeight.length ? 1 : 0);
+            assertTrue(segmentWeight[s] <= budget, "分段 " + s + " 权重 " + segmentWeight[s] + " 超过预算 " + budget);
+            total += segmentWeight[s];
+        }
+        assertEquals(size, cache.size());
+        assertEquals(total, cache.weightedSize());
+        assertTrue(cache.weightedSize() <= cache.maximumWeight());
+        assertEquals(gets, cache.stats().requestCount(), "命中与未命中计数之和等于读取次数");
+    }
+
+    /** 逐个键检查：现存条目的值为最后一次写入的值，weightedSize / size 与现存条目一致 */
+    private static void assertResident(ConcurrentCache<Integer, String> cache, Map<Integer, String> written) {
+        long weight = 0;
+        long size = 0;
+        for (Map.Entry<Integer, String> entry : written.entrySet()) {
+            if (cache.containsKey(entry.getKey())) {
+                weight += entry.getValue().length();
+                size++;
+            }
+        }
+        assertEquals(size, cache.size(), "size");
+        assertEquals(weight, cache.weightedSize(), "weightedSize");
+        assertTrue(weight <= cache.maximumWeight());
+    }
+
+    /** 与 ConcurrentCache.segmentFor 一致：扰动后取高 16 位 */
+    private static int segmentOf(Object key, int segments) {
+        int h = key.hashCode() * 0x9E3779B9;
+        h ^= h >>> 16;
+        return (h >>> 16) & (segments - 1);
+    }
+}
@@ -0,0 +1,157 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConcurrentDeque：顺序语义、迭代器与并发删除交错时不重复返回元素、多线程无丢失无重复
+ */
+class ConcurrentDequeTest {
+
+    @Test
+    void sequentialBehaviour() {
+        ConcurrentDeque<Integer> deque = new ConcurrentDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        deque.offerFirst(2);
+        deque.offerFirst(1);
+        deque.offerLast(3);
+        deque.offerLast(4);
+        assertEquals(4, deque.size());
+        assertEquals("1 2 3 4", deque.toString());
+        assertEquals(1, deque.peekFirst());
+        assertEquals(4, deque.peekLast());
+        assertEquals(1, deque.pollFirst());
+        assertEquals(4, deque.pollLast());
+        assertEquals(List.of(2, 3), drain(deque.iterator()));
+        assertEquals(3, deque.pollLast());
+        assertEquals(2, deque.pollLast());
+        assertTrue(deque.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> deque.iterator().next());
+    }
+
+    /** 迭代完第一批后从尾端删除已返回的节点：迭代就此结束，不能从头重放已返回的元素 */
+    @Test
+    void iteratorDoesNotReplayAfterPollLast() {
+        ConcurrentDeque<Integer> deque = filled(100);
+        Iterator<Integer> it = deque.iterator();
+        List<Integer> seen = take(it, 64);
+        for (int i = 0; i < 40; i++) {
+            deque.pollLast();
+        }
+        seen.addAll(drain(it));
+        assertEquals(range(1, 64), seen);
+    }
+
+    /** 从尾端删除尚未返回的节点时，迭代器继续返回剩下的元素 */
+    @Test
+    void iteratorContinuesAfterPollLastOfUnvisitedNodes() {
+        ConcurrentDeque<Integer> deque = filled(100);
+        Iterator<Integer> it = deque.iterator();
+        List<Integer> seen = take(it, 64);
+        for (int i = 0; i < 20; i++) {
+            deque.pollLast();
+        }
+        seen.addAll(drain(it));
+        assertEquals(range(1, 80), seen);
+    }
+
+    /** 从头端删除越过迭代位置：迭代器从新的头部继续，按顺序返回剩下的元素 */
+    @Test
+    void iteratorRestartsAfterPollFirst() {
+        ConcurrentDeque<Integer> deque = filled(100);
+        Iterator<Integer> it = deque.iterator();
+        List<Integer> seen = take(it, 64);
+        for (int i = 0; i < 70; i++) {
+            deque.pollFirst();
+        }
+        seen.addAll(drain(it));
+        assertEquals(range(1, 64), seen.subList(0, 64));
+        assertEquals(range(71, 100), seen.subList(64, seen.size()));
+    }
+
+    /** 生产者尾部插入、消费者头尾交替取出：每个元素恰好被取出一次 */
+    @Test
+    void everyOfferedElementIsPolledExactlyOnce() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 250_000;
+        ConcurrentDeque<Integer> deque = new ConcurrentDeque<>();
+        AtomicIntegerArray seen = new AtomicIntegerArray(producers * perProducer);
+        AtomicInteger consumed = new AtomicInteger();
+
+        Thread[] threads = new Thread[producers * 2];
+        for (int t = 0; t < producers; t++) {
+            int base = t * perProducer;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    deque.offerLast(base + i);
+                }
+            });
+            boolean fromHead = (t & 1) == 0;
+            threads[producers + t] = new Thread(() -> {
+                while (consumed.get() < producers * perProducer) {
+                    Integer value = fromHead ? deque.pollFirst() : deque.pollLast();
+                    if (value != null) {
+                        seen.incrementAndGet(value);
+                        consumed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i), "元素 " + i + " 取出次数");
+        }
+        assertTrue(deque.isEmpty());
+        assertFalse(deque.iterator().hasNext());
+    }
+
+    private static ConcurrentDeque<Integer> filled(int n) {
+        ConcurrentDeque<Integer> deque = new ConcurrentDeque<>();
+        for (int i = 1; i <= n; i++) {
+            deque.offerLast(i);
+        }
+        return deque;
+    }
+
+    private static List<Integer> take(Iterator<Integer> it, int n) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    private static List<Integer> drain(Iterator<Integer> it) {
+        List<Integer> result = new ArrayList<>();
+        it.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
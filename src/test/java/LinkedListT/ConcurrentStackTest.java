@@ -0,0 +1,222 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConcurrentStack：顺序语义、多线程无丢失无重复、以及并发历史的可线性化校验
+ */
+class ConcurrentStackTest {
+
+    @Test
+    void sequentialBehaviour() {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        assertTrue(stack.isEmpty());
+        assertNull(stack.pop());
+        assertNull(stack.peek());
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        assertEquals(3, stack.peek());
+        assertEquals(3, stack.pop());
+        assertEquals(2, stack.pop());
+        assertFalse(stack.isEmpty());
+        assertEquals(1, stack.pop());
+        assertTrue(stack.isEmpty());
+        assertThrows(NullPointerException.class, () -> stack.push(null));
+    }
+
+    /** 多个线程各自压入互不相同的元素并交替弹出，结束后清空栈：每个元素恰好弹出一次 */
+    @Test
+    void everyPushedElementIsPoppedExactlyOnce() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>(2);
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+        CyclicBarrier start = new CyclicBarrier(threads);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if ((i & 1) == 1) {
+                        Integer value = stack.pop();
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                        }
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (Integer value = stack.pop(); value != null; value = stack.pop()) {
+            seen.incrementAndGet(value);
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i), "元素 " + i + " 弹出次数");
+        }
+    }
+
+    /**
+     * 可线性化校验：多轮短历史，每轮 3 个线程各执行 4 次随机 push / pop，
+     * 记录每个操作的调用与返回时刻（全局逻辑时钟），再搜索是否存在与实时顺序一致的
+     * 串行栈执行（Wing &amp; Gong 回溯，按 (已线性化集合, 栈内容) 记忆化）。
+     * 消除数组只有 1 个槽位，使 CAS 失败的线程更容易在消除路径上配对。
+     */
+    @Test
+    void concurrentHistoriesAreLinearizable() throws Exception {
+        int threads = 3;
+        int opsPerThread = 4;
+        for (int round = 0; round < 2_000; round++) {
+            ConcurrentStack<Integer> stack = new ConcurrentStack<>(1);
+            AtomicLong clock = new AtomicLong();
+            CyclicBarrier start = new CyclicBarrier(threads);
+            List<List<Op>> perThread = new ArrayList<>();
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                List<Op> log = new ArrayList<>();
+                perThread.add(log);
+                int base = t * opsPerThread;
+                workers[t] = new Thread(() -> {
+                    await(start);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        Op op = new Op();
+                        op.push = random.nextBoolean();
+                        op.value = op.push ? base + i : null;
+                        op.invoke = clock.getAndIncrement();
+                        if (op.push) {
+                            stack.push(op.value);
+                        } else {
+                            op.value = stack.pop();
+                        }
+                        op.response = clock.getAndIncrement();
+                        log.add(op);
+                        if (random.nextInt(4) == 0) {
+                            Thread.yield();
+                        }
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            List<Op> history = new ArrayList<>();
+            perThread.forEach(history::addAll);
+            if (!linearizable(history)) {
+                fail("第 " + round + " 轮历史不可线性化: " + history);
+            }
+        }
+    }
+
+    /** 一次 push（value 为压入值）或 pop（value 为返回值，null 表示栈空） */
+    private static final class Op {
+        boolean push;
+        Integer value;
+        long invoke;
+        long response;
+
+        @Override
+        public String toString() {
+            return (push ? "push(" + value + ")" : "pop()=" + value) + "@[" + invoke + "," + response + "]";
+        }
+    }
+
+    static boolean linearizable(List<Op> history) {
+        return search(history, 0, new ArrayDeque<>(), new HashSet<>());
+    }
+
+    /**
+     * done 的第 i 位表示 history[i] 已线性化；栈 model 为此前线性化操作的串行结果
+     * 下一个可线性化的操作必须在所有未线性化操作的最早返回时刻之前被调用
+     */
+    private static boolean search(List<Op> history, int done, ArrayDeque<Integer> model, Set<String> failed) {
+        if (done == (1 << history.size()) - 1) {
+            return true;
+        }
+        String key = done + ":" + model;
+        if (failed.contains(key)) {
+            return false;
+        }
+        long earliestResponse = Long.MAX_VALUE;
+        for (int i = 0; i < history.size(); i++) {
+            if ((done & (1 << i)) == 0) {
+                earliestResponse = Math.min(earliestResponse, history.get(i).response);
+            }
+        }
+        for (int i = 0; i < history.size(); i++) {
+            Op op = history.get(i);
+            if ((done & (1 << i)) != 0 || op.invoke > earliestResponse) {
+                continue;
+            }
+            if (op.push) {
+                model.push(op.value);
+                boolean ok = search(history, done | (1 << i), model, failed);
+                model.pop();
+                if (ok) {
+                    return true;
+                }
+            } else if (op.value == null) {
+                if (model.isEmpty() && search(history, done | (1 << i), model, failed)) {
+                    return true;
+                }
+            } else if (op.value.equals(model.peek())) {
+                Integer top = model.pop();
+                boolean ok = search(history, done | (1 << i), model, failed);
+                model.push(top);
+                if (ok) {
+                    return true;
+                }
+            }
+        }
+        failed.add(key);
+        return false;
+    }
+
+    @Test
+    void checkerRejectsNonLinearizableHistory() {
+        // push(1) 完成后才开始的 pop 却返回空：任何串行顺序都不成立
+        Op push = new Op();
+        push.push = true;
+        push.value = 1;
+        push.invoke = 0;
+        push.response = 1;
+        Op pop = new Op();
+        pop.invoke = 2;
+        pop.response = 3;
+        assertFalse(linearizable(List.of(push, pop)));
+        pop.value = 1;
+        assertTrue(linearizable(List.of(push, pop)));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
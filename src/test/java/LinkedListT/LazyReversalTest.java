@@ -0,0 +1,189 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 惰性反转等价性：同一随机操作序列分别作用于惰性反转的 DoublyLinkedList、即时反转的 DoublyLinkedList 与 ArrayList，
+ * 每一步之后比较 getNode、toString、迭代顺序、peekLast 与 reversePrint 输出；
+ * 随机插入 materialize()，之后物理节点链（含 prev）必须与 ArrayList 一致
+ */
+class LazyReversalTest {
+
+    @Test
+    void lazyEagerAndArrayListAgreeUnderRandomOperations() {
+        Random random = new Random(3);
+        for (int run = 0; run < 200; run++) {
+            DoublyLinkedList<Integer> lazy = new DoublyLinkedList<>();
+            lazy.setLazyReversal(true);
+            DoublyLinkedList<Integer> eager = new DoublyLinkedList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int op = 0; op < 200; op++) {
+                apply(random, lazy, eager, expected);
+                assertEquivalent(expected, lazy, eager, random);
+            }
+            lazy.materialize();
+            assertStructure(expected, lazy);
+            assertStructure(expected, eager);
+        }
+    }
+
+    /** 对三者执行同一个随机操作 */
+    private static void apply(Random random, DoublyLinkedList<Integer> lazy, DoublyLinkedList<Integer> eager,
+                              List<Integer> expected) {
+        int value = random.nextInt(1000);
+        int size = expected.size();
+        switch (random.nextInt(10)) {
+            case 0:
+                lazy.insert(value);
+                eager.insert(value);
+                expected.add(0, value);
+                break;
+            case 1: {
+                int pos = 1 + random.nextInt(size + 1);
+                lazy.insert(pos, value);
+                eager.insert(pos, value);
+                expected.add(pos - 1, value);
+                break;
+            }
+            case 2:
+                lazy.insertAtTail(value);
+                eager.insertAtTail(value);
+                expected.add(value);
+                break;
+            case 3:
+                if (size > 0) {
+                    int pos = 1 + random.nextInt(size);
+                    lazy.delete(pos);
+                    eager.delete(pos);
+                    expected.remove(pos - 1);
+                }
+                break;
+            case 4:
+                if (size > 0) {
+                    Integer removed = expected.remove(size - 1);
+                    assertEquals(removed, lazy.removeLast(), "removeLast");
+                    assertEquals(removed, eager.removeLast(), "removeLast");
+                }
+                break;
+            case 5:
+                lazy.reverse();
+                eager.reverse();
+                Collections.reverse(expected);
+                break;
+            case 6:
+                lazy.reverseRecursion();
+                eager.reverseRecursion();
+                Collections.reverse(expected);
+                break;
+            case 7:
+                lazy.reverseByStack();
+                eager.reverseByStack();
+                Collections.reverse(expected);
+                break;
+            case 8:
+                lazy.materialize();
+                assertStructure(expected, lazy);
+                break;
+            default:
+                if (size > 0) {
+                    int pos = 1 + random.nextInt(size);
+                    assertEquals(expected.get(pos - 1), lazy.getNode(pos).data, "lazy getNode(" + pos + ")");
+                    assertEquals(expected.get(pos - 1), eager.getNode(pos).data, "eager getNode(" + pos + ")");
+                }
+                break;
+        }
+    }
+
+    private static void assertEquivalent(List<Integer> expected, DoublyLinkedList<Integer> lazy,
+                                         DoublyLinkedList<Integer> eager, Random random) {
+        String text = join(expected);
+        assertEquals(expected.size(), lazy.size(), "lazy size");
+        assertEquals(expected.size(), eager.size(), "eager size");
+        assertEquals(text, lazy.toString(), "lazy toString");
+        assertEquals(text, eager.toString(), "eager toString");
+        List<Integer> iterated = new ArrayList<>();
+        lazy.forEach(iterated::add);
+        assertEquals(expected, iterated, "lazy 迭代顺序");
+        if (!expected.isEmpty()) {
+            assertEquals(expected.get(expected.size() - 1), lazy.peekLast(), "lazy peekLast");
+            assertEquals(expected.get(0), lazy.getNode(1).data, "lazy getNode(1)");
+            assertEquals(expected.get(expected.size() - 1), lazy.getNode(expected.size()).data,
+                    "lazy getNode(size)");
+        }
+        if (random.nextInt(8) == 0) {
+            List<Integer> reversed = new ArrayList<>(expected);
+            Collections.reverse(reversed);
+            String line = join(reversed) + System.lineSeparator();
+            assertEquals(line, printReverse(lazy), "lazy reversePrint");
+            assertEquals(line, printReverse(eager), "eager reversePrint");
+        }
+    }
+
+    @Test
+    void materializeOnlyRelinksWhenReversed() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4);
+        list.setLazyReversal(true);
+        DoublyNode<Integer> head = list.getNode(1);
+        list.materialize();
+        assertSame(head, list.getNode(1), "未反转时 materialize 不改动节点链");
+
+        list.reverse();
+        assertEquals("4 3 2 1", list.toString());
+        list.insert(5);
+        list.insertAtTail(0);
+        assertEquals("5 4 3 2 1 0", list.toString());
+        list.materialize();
+        assertStructure(List.of(5, 4, 3, 2, 1, 0), list);
+        list.reverse();
+        list.reverse();
+        list.materialize();
+        assertStructure(List.of(5, 4, 3, 2, 1, 0), list);
+    }
+
+    @Test
+    void disablingLazyReversalMaterializes() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3);
+        list.setLazyReversal(true);
+        assertTrue(list.isLazyReversal());
+        list.reverse();
+        list.setLazyReversal(false);
+        assertFalse(list.isLazyReversal());
+        assertStructure(List.of(3, 2, 1), list);
+        list.reverse();
+        assertStructure(List.of(1, 2, 3), list);
+    }
+
+    private static String join(List<Integer> values) {
+        StringJoiner joiner = new StringJoiner(" ");
+        values.forEach(v -> joiner.add(String.valueOf(v)));
+        return joiner.toString();
+    }
+
+    /** 捕获 reversePrint 写到 System.out 的内容 */
+    private static String printReverse(DoublyLinkedList<Integer> list) {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            list.reversePrint();
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
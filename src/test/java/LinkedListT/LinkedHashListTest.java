@@ -0,0 +1,226 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * LinkedHashList 的开放寻址索引：随机 addFirst / addLast / insertAfter / insertBefore / remove /
+ * moveToFront / moveToBack 与 ArrayList 模型对照，每一步之后校验链表顺序、prev 链接，以及全集中每个键的 contains / getNode
+ * <p>
+ * 一部分键的哈希值经扰动后落在索引的最后一个槽位（对 1024 以内的所有容量成立），
+ * 它们的探测序列从表尾回绕到下标0，删除时的向后移动必须跨过回绕点；
+ * 元素数反复增长到一两百再删空，使索引逐级扩容
+ */
+class LinkedHashListTest {
+
+    /** 哈希值由构造参数指定的键，equals 只比较 id */
+    static final class Key {
+        final int id;
+        private final int hash;
+
+        Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "k" + id;
+        }
+    }
+
+    @Test
+    void randomOperationsMatchModel() {
+        List<Key> universe = universe(600);
+        Random random = new Random(21);
+        LinkedHashList<Key> list = new LinkedHashList<>();
+        List<Key> expected = new ArrayList<>();
+        for (int round = 0; round < 6; round++) {
+            int target = 50 + random.nextInt(universe.size() / 2 - 100); // 先增长到 target，再删到0
+            while (expected.size() < target) {
+                step(list, expected, universe, random, 3);
+            }
+            while (!expected.isEmpty()) {
+                step(list, expected, universe, random, 1);
+            }
+        }
+    }
+
+    /** 连续的 Integer 键：扩容到 2^17 个槽位后删除一半再重新插入，与 LinkedHashSet 对照 */
+    @Test
+    void sequentialKeysSurviveResizeAndBulkRemoval() {
+        int n = 50_000;
+        LinkedHashList<Integer> list = new LinkedHashList<>();
+        LinkedHashSet<Integer> expected = new LinkedHashSet<>();
+        for (int i = 0; i < n; i++) {
+            assertTrue(list.addLast(i));
+            expected.add(i);
+        }
+        assertFalse(list.addLast(0), "已存在的元素不重复添加");
+        for (int i = 0; i < n; i += 2) {
+            assertTrue(list.remove(i));
+            expected.remove(i);
+        }
+        assertFalse(list.remove(0));
+        for (int i = 0; i < n; i += 4) {
+            list.addLast(i);
+            expected.add(i);
+        }
+        assertEquals(new ArrayList<>(expected), toList(list));
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected.contains(i), list.contains(i), "contains(" + i + ")");
+        }
+    }
+
+    @Test
+    void anchorsDuplicatesAndIteratorRemove() {
+        LinkedHashList<String> list = new LinkedHashList<>(List.of("a", "b", "c", "a"));
+        assertEquals("a b c", list.toString(), "重复元素只保留第一次出现");
+        assertThrows(NoSuchElementException.class, () -> list.insertAfter("z", "x"));
+        assertThrows(NoSuchElementException.class, () -> list.moveToFront("z"));
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+        assertFalse(list.contains(null));
+        assertFalse(list.remove(null));
+        assertFalse(list.insertAfter("c", "a"), "value 已存在时不移动");
+        assertEquals("a b c", list.toString());
+
+        Iterator<String> iterator = list.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertFalse(list.contains("a"));
+        assertEquals("b", iterator.next());
+        list.addFirst("y");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::peekFirst);
+        list.addLast("b");
+        assertEquals("b", list.toString(), "clear 之后索引重新可用");
+    }
+
+    /** 随机执行一个操作；grow 越大越偏向插入 */
+    private static void step(LinkedHashList<Key> list, List<Key> expected, List<Key> universe, Random random,
+                             int grow) {
+        Key key = universe.get(random.nextInt(universe.size()));
+        boolean present = expected.contains(key);
+        int op = random.nextInt(4 + grow);
+        if (op >= 4 || expected.isEmpty()) { // 插入：随机选择位置
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(!present, list.addLast(key));
+                    if (!present) expected.add(key);
+                    break;
+                case 1:
+                    assertEquals(!present, list.addFirst(key));
+                    if (!present) expected.add(0, key);
+                    break;
+                default: {
+                    if (expected.isEmpty()) return;
+                    int at = random.nextInt(expected.size());
+                    Key anchor = expected.get(at);
+                    boolean after = random.nextBoolean();
+                    assertEquals(!present, after ? list.insertAfter(anchor, key) : list.insertBefore(anchor, key));
+                    if (!present) expected.add(after ? at + 1 : at, key);
+                    break;
+                }
+            }
+        } else if (op == 0) {
+            assertEquals(present, list.remove(key));
+            expected.remove(key);
+        } else if (op == 1) {
+            Key existing = expected.get(random.nextInt(expected.size()));
+            list.moveToFront(existing);
+            expected.remove(existing);
+            expected.add(0, existing);
+        } else if (op == 2) {
+            Key existing = expected.get(random.nextInt(expected.size()));
+            list.moveToBack(existing);
+            expected.remove(existing);
+            expected.add(existing);
+        } else if (random.nextBoolean()) {
+            assertSame(expected.remove(0), list.removeFirst());
+        } else {
+            assertSame(expected.remove(expected.size() - 1), list.removeLast());
+        }
+        assertModel(list, expected, universe);
+    }
+
+    private static void assertModel(LinkedHashList<Key> list, List<Key> expected, List<Key> universe) {
+        assertEquals(expected.size(), list.size(), "size");
+        assertEquals(expected, toList(list), "链表顺序");
+        DoublyNode<Key> prev = null;
+        for (Key key : expected) {
+            DoublyNode<Key> node = list.getNode(key);
+            assertSame(key, node.data, "getNode(" + key + ")");
+            assertSame(prev, node.prev, "prev 链接");
+            prev = node;
+        }
+        Set<Key> members = new HashSet<>(expected);
+        for (Key key : universe) {
+            boolean present = members.contains(key);
+            assertEquals(present, list.contains(key), "contains(" + key + ")");
+            if (!present) {
+                assertNull(list.getNode(key));
+            }
+        }
+    }
+
+    private static <E> List<E> toList(LinkedHashList<E> list) {
+        List<E> result = new ArrayList<>(list.size());
+        list.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * 构造 n 个键：三分之一共享少数几个“表尾”哈希值（扰动后低 10 位全为1，理想槽位是表尾），
+     * 其余使用各不相同的普通哈希值
+     */
+    private static List<Key> universe(int n) {
+        List<Integer> tailHashes = new ArrayList<>();
+        for (int h = 0; tailHashes.size() < 4; h++) {
+            if ((spread(h) & 1023) == 1023) {
+                tailHashes.add(h);
+            }
+        }
+        List<Key> keys = new ArrayList<>(n);
+        for (int id = 0; id < n; id++) {
+            int hash = (id % 3 == 0) ? tailHashes.get(id % tailHashes.size()) : id * 31 + 7;
+            keys.add(new Key(id, hash));
+        }
+        return keys;
+    }
+
+    /** 与 LinkedHashList.spread 一致 */
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
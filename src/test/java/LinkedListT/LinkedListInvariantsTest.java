@@ -0,0 +1,153 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * head / tail / size 不变式：每次修改操作之后都与实际节点链一致
+ * 覆盖 SinglyLinkedList、DoublyLinkedList、Stack 的插入、删除、尾部操作与三种反转
+ */
+class LinkedListInvariantsTest {
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("SinglyLinkedList", (Supplier<LinkedList<Integer, ?>>) SinglyLinkedList::new),
+                Arguments.of("DoublyLinkedList", (Supplier<LinkedList<Integer, ?>>) DoublyLinkedList::new),
+                Arguments.of("Stack", (Supplier<LinkedList<Integer, ?>>) Stack::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void everyOperationKeepsInvariants(String name, Supplier<LinkedList<Integer, ?>> factory) {
+        Random random = new Random(1);
+        for (int run = 0; run < 100; run++) {
+            randomOperations(factory.get(), random);
+        }
+    }
+
+    private static <T extends Node<Integer, T>> void randomOperations(LinkedList<Integer, T> list, Random random) {
+        List<Integer> expected = new ArrayList<>();
+        assertStructure(expected, list);
+        for (int op = 0; op < 300; op++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(9)) {
+                case 0:
+                    list.insert(value);
+                    expected.add(0, value);
+                    break;
+                case 1: {
+                    int pos = 1 + random.nextInt(expected.size() + 1);
+                    list.insert(pos, value);
+                    expected.add(pos - 1, value);
+                    break;
+                }
+                case 2:
+                    if (!expected.isEmpty()) {
+                        int pos = 1 + random.nextInt(expected.size());
+                        list.delete(pos);
+                        expected.remove(pos - 1);
+                    }
+                    break;
+                case 3:
+                    list.addLast(value);
+                    expected.add(value);
+                    break;
+                case 4:
+                    list.reverse();
+                    Collections.reverse(expected);
+                    break;
+                case 5:
+                    list.reverseRecursion();
+                    Collections.reverse(expected);
+                    break;
+                case 6:
+                    list.reverseByStack();
+                    Collections.reverse(expected);
+                    break;
+                case 7:
+                    if (list instanceof DoublyLinkedList && !expected.isEmpty()) {
+                        @SuppressWarnings("unchecked")
+                        DoublyLinkedList<Integer> doubly = (DoublyLinkedList<Integer>) list;
+                        assertEquals(expected.remove(expected.size() - 1), doubly.removeLast());
+                    } else if (list instanceof Stack) {
+                        @SuppressWarnings("unchecked")
+                        Stack<Integer> stack = (Stack<Integer>) list;
+                        stack.push(value);
+                        expected.add(0, value);
+                    }
+                    break;
+                default:
+                    if (list instanceof Stack && !expected.isEmpty()) {
+                        assertEquals(expected.remove(0), ((Stack<?>) list).pop());
+                    } else if (list instanceof DoublyLinkedList) {
+                        @SuppressWarnings("unchecked")
+                        DoublyLinkedList<Integer> doubly = (DoublyLinkedList<Integer>) list;
+                        doubly.insertAtTail(value);
+                        expected.add(value);
+                    }
+                    break;
+            }
+            assertStructure(expected, list);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void reversalsOfEmptyAndSingletonLists(String name, Supplier<LinkedList<Integer, ?>> factory) {
+        LinkedList<Integer, ?> list = factory.get();
+        list.reverse();
+        list.reverseRecursion();
+        list.reverseByStack();
+        assertStructure(List.of(), list);
+        list.addLast(7);
+        list.reverse();
+        list.reverseRecursion();
+        list.reverseByStack();
+        assertStructure(List.of(7), list);
+        list.delete(1);
+        assertStructure(List.of(), list);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void invalidInsertPositionsLeaveListUnchanged(String name, Supplier<LinkedList<Integer, ?>> factory) {
+        LinkedList<Integer, ?> list = factory.get();
+        list.addLast(1);
+        list.addLast(2);
+        assertThrows(IllegalArgumentException.class, () -> list.insert(0, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(4, 9));
+        assertStructure(List.of(1, 2), list);
+    }
+
+    @Test
+    void peekLastOnEmptyListThrows() {
+        assertThrows(NoSuchElementException.class, () -> new SinglyLinkedList<Integer>().peekLast());
+        assertThrows(NoSuchElementException.class, () -> new DoublyLinkedList<Integer>().removeLast());
+    }
+
+    @Test
+    void appendIsConstantTimePerElement() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            list.insertAtTail(i);
+        }
+        assertEquals(1_000_000, list.size());
+        assertEquals(999_999, list.peekLast());
+        assertTrue(list.getNode(1_000_000) == list.tail);
+    }
+}
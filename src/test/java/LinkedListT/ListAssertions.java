@@ -0,0 +1,51 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** 测试共用的链表结构断言 */
+final class ListAssertions {
+
+    private ListAssertions() {
+    }
+
+    /**
+     * 断言链表内容与 expected 一致，且 head / tail / size 与实际节点链一致；
+     * 双向链表另外沿 prev 从 tail 走回 head 校验（按物理链接，惰性反转的链表需先 materialize）
+     */
+    static <E, T extends Node<E, T>> void assertStructure(List<E> expected, LinkedList<E, T> list) {
+        list.checkIntegrity();
+        assertEquals(expected.size(), list.size(), "size");
+        List<E> forward = new ArrayList<>();
+        T last = null;
+        for (T current = list.head; current != null; current = current.next) {
+            forward.add(current.data);
+            last = current;
+        }
+        assertEquals(expected, forward, "head → tail");
+        assertSame(last, list.tail, "tail");
+        if (expected.isEmpty()) {
+            assertNull(list.head, "空链表的 head");
+        } else {
+            assertEquals(expected.get(expected.size() - 1), list.peekLast(), "peekLast");
+        }
+        if (list.tail instanceof DoublyNode) {
+            List<E> backward = new ArrayList<>();
+            DoublyNode<?> first = null;
+            for (DoublyNode<?> current = (DoublyNode<?>) list.tail; current != null; current = current.prev) {
+                @SuppressWarnings("unchecked")
+                E data = (E) current.data;
+                backward.add(data);
+                first = current;
+            }
+            assertSame(list.head, first, "沿 prev 应回到 head");
+            Collections.reverse(backward);
+            assertEquals(expected, backward, "tail → head（prev）");
+        }
+    }
+}
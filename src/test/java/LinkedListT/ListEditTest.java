@@ -0,0 +1,220 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * ListEdit.apply() 与逐个应用等价：位置从大到小逐个调用 delete(pos) / insert(pos, v)
+ * （同一位置先删除，插入按调用顺序逆序）得到的结果必须与批量应用一致；
+ * 覆盖单向、双向、栈、惰性反转后的双向链表与开启节点池的链表
+ */
+class ListEditTest {
+
+    /** 按给定的逻辑内容构造链表 */
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("SinglyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values ->
+                        new SinglyLinkedList<>(values)),
+                Arguments.of("DoublyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values ->
+                        new DoublyLinkedList<>(values)),
+                Arguments.of("Stack", (Function<List<Integer>, LinkedList<Integer, ?>>) values -> {
+                    Stack<Integer> stack = new Stack<>();
+                    values.forEach(stack::addLast);
+                    return stack;
+                }),
+                Arguments.of("惰性反转 DoublyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values -> {
+                    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+                    list.setLazyReversal(true);
+                    values.forEach(list::insert); // 逆序构造后翻转标志，逻辑顺序与 values 一致
+                    list.reverse();
+                    return list;
+                }),
+                Arguments.of("节点池 SinglyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values -> {
+                    SinglyLinkedList<Integer> list = new SinglyLinkedList<>(values);
+                    list.enableNodePool(16);
+                    return list;
+                }),
+                Arguments.of("节点池 DoublyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values -> {
+                    DoublyLinkedList<Integer> list = new DoublyLinkedList<>(values);
+                    list.enableNodePool(16);
+                    return list;
+                }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void applyMatchesSequentialApplication(String name, Function<List<Integer>, LinkedList<Integer, ?>> factory) {
+        Random random = new Random(5);
+        for (int run = 0; run < 300; run++) {
+            int size = random.nextInt(40);
+            List<Integer> initial = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                initial.add(i);
+            }
+            int edits = random.nextInt(30);
+            int[] positions = new int[edits];
+            boolean[] deletes = new boolean[edits];
+            boolean[] deleted = new boolean[size + 2];
+            // 位置集中在随机窗口 [low, low + window) 内，使同一位置的多次插入、插入到被删除位置等情况经常出现
+            int window = 1 + random.nextInt(size + 1);
+            int low = 1 + random.nextInt(size + 2 - window);
+            for (int i = 0; i < edits; i++) {
+                int pos = low + random.nextInt(window);
+                deletes[i] = pos <= size && !deleted[pos] && random.nextBoolean();
+                if (deletes[i]) {
+                    deleted[pos] = true;
+                }
+                positions[i] = pos;
+            }
+            List<Integer> expected = sequential(initial, positions, deletes);
+            LinkedList<Integer, ?> reference = factory.apply(initial);
+            sequential(reference, positions, deletes);
+            assertEquals(expected, Arrays.asList(reference.toArray()), "逐个应用到同类链表");
+
+            LinkedList<Integer, ?> list = factory.apply(initial);
+            applyEdits(list, positions, deletes);
+            assertEquals(expected, Arrays.asList(list.toArray()), name + " 第 " + run + " 轮");
+            list.materialize();
+            assertStructure(expected, list);
+        }
+    }
+
+    private static <T extends Node<Integer, T>> void applyEdits(LinkedList<Integer, T> list, int[] positions,
+                                                               boolean[] deletes) {
+        ListEdit<Integer, T> edit = list.edit();
+        for (int i = 0; i < positions.length; i++) {
+            if (deletes[i]) {
+                edit.delete(positions[i]);
+            } else {
+                edit.insert(positions[i], -1 - i);
+            }
+        }
+        assertEquals(positions.length, edit.pending());
+        edit.apply();
+        assertEquals(0, edit.pending());
+    }
+
+    /** 逐个应用的顺序：位置从大到小，同一位置先删除，插入按调用顺序逆序 */
+    private static int[] sequentialOrder(int[] positions, boolean[] deletes) {
+        int k = positions.length;
+        long[] order = new long[k];
+        for (int i = 0; i < k; i++) {
+            order[i] = ((long) positions[i] << 32) | ((deletes[i] ? 1L : 0L) << 31) | i;
+        }
+        Arrays.sort(order);
+        int[] result = new int[k];
+        for (int j = 0; j < k; j++) {
+            result[j] = (int) (order[k - 1 - j] & Integer.MAX_VALUE);
+        }
+        return result;
+    }
+
+    private static List<Integer> sequential(List<Integer> initial, int[] positions, boolean[] deletes) {
+        List<Integer> result = new ArrayList<>(initial);
+        for (int i : sequentialOrder(positions, deletes)) {
+            if (deletes[i]) {
+                result.remove(positions[i] - 1);
+            } else {
+                result.add(positions[i] - 1, -1 - i);
+            }
+        }
+        return result;
+    }
+
+    private static void sequential(LinkedList<Integer, ?> list, int[] positions, boolean[] deletes) {
+        for (int i : sequentialOrder(positions, deletes)) {
+            if (deletes[i]) {
+                list.delete(positions[i]);
+            } else {
+                list.insert(positions[i], -1 - i);
+            }
+        }
+    }
+
+    @Test
+    void insertsAtSamePositionKeepCallOrder() {
+        SinglyLinkedList<Integer> list = SinglyLinkedList.fromArray(1, 2, 3);
+        list.edit().insert(2, 10).insert(4, 30).insert(2, 11).insert(2, 12).insert(4, 31).apply();
+        assertStructure(List.of(1, 10, 11, 12, 2, 3, 30, 31), list);
+    }
+
+    @Test
+    void insertAtDeletedPositionTakesItsPlace() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4);
+        list.edit().insert(2, 20).delete(2).insert(2, 21).delete(4).insert(4, 40).apply();
+        assertStructure(List.of(1, 20, 21, 3, 40), list);
+
+        list.edit().delete(1).delete(2).delete(3).delete(4).delete(5).insert(6, 6).apply();
+        assertStructure(List.of(6), list);
+    }
+
+    @Test
+    void duplicateDeleteLeavesListUnchanged() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3);
+        ListEdit<Integer, DoublyNode<Integer>> edit = list.edit().insert(1, 0).delete(2).delete(3).delete(2);
+        assertThrows(IllegalArgumentException.class, edit::apply);
+        assertStructure(List.of(1, 2, 3), list);
+
+        edit.reset();
+        edit.delete(2).apply();
+        assertStructure(List.of(1, 3), list);
+    }
+
+    @Test
+    void invalidPositionsAndConcurrentModification() {
+        SinglyLinkedList<Integer> list = SinglyLinkedList.fromArray(1, 2);
+        ListEdit<Integer, SinglyNode<Integer>> edit = list.edit();
+        assertThrows(IllegalArgumentException.class, () -> edit.insert(0, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> edit.insert(4, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> edit.delete(3));
+        edit.insert(3, 3);
+        list.insert(0);
+        assertThrows(ConcurrentModificationException.class, edit::apply);
+        assertStructure(List.of(0, 1, 2), list);
+    }
+
+    @Test
+    void lazilyReversedListUsesLogicalPositions() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4, 5);
+        list.setLazyReversal(true);
+        list.reverse(); // 5 4 3 2 1，节点链仍为物理顺序
+        list.edit().delete(1).insert(3, 30).delete(5).insert(6, 0).apply();
+        assertEquals("4 30 3 2 0", list.toString());
+        assertStructure(List.of(4, 30, 3, 2, 0), list);
+    }
+
+    @Test
+    void pooledListReusesDeletedNodes() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4, 5);
+        NodePool<Integer, DoublyNode<Integer>> pool = new NodePool<>(8);
+        list.setNodePool(pool);
+        DoublyNode<Integer> second = list.getNode(2);
+        DoublyNode<Integer> third = list.getNode(3);
+        list.edit().delete(2).delete(3).insert(5, 40).apply();
+        assertStructure(List.of(1, 4, 40, 5), list);
+        assertEquals(1, pool.size(), "两个删除的节点归还到池中，插入取走一个");
+        DoublyNode<Integer> inserted = list.getNode(3);
+        assertTrue(inserted == second || inserted == third, "插入复用被删除的节点");
+
+        list.edit().insert(1, 0).apply();
+        assertEquals(0, pool.size());
+        assertStructure(List.of(0, 1, 4, 40, 5), list);
+        assertSame(list.head, list.getNode(1));
+    }
+}
@@ -0,0 +1,97 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 对象节点链表的流式输出：toString / writeTo / writeReverseTo / reversePrint 的格式
+ * （空格分隔、无末尾空格，超过长度上限写 " ..."，一个元素都未写出时只写 "..."），
+ * 非 ASCII 元素经 Appendable 与 channel 输出一致，逆序输出之后链表保持原顺序
+ */
+class ListOutputTest {
+
+    private static final List<String> VALUES = List.of("a", "链表", "42", "😀", "z");
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("SinglyLinkedList", (Function<List<String>, LinkedList<String, ?>>) SinglyLinkedList::new),
+                Arguments.of("DoublyLinkedList", (Function<List<String>, LinkedList<String, ?>>) DoublyLinkedList::new),
+                Arguments.of("惰性反转 DoublyLinkedList", (Function<List<String>, LinkedList<String, ?>>) values -> {
+                    DoublyLinkedList<String> list = new DoublyLinkedList<>();
+                    list.setLazyReversal(true);
+                    values.forEach(list::insert); // 逆序构造后翻转标志，逻辑顺序与 values 一致
+                    list.reverse();
+                    return list;
+                }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void streamsWithoutTrailingSpace(String name, Function<List<String>, LinkedList<String, ?>> factory)
+            throws IOException {
+        LinkedList<String, ?> empty = factory.apply(List.of());
+        assertEquals("", empty.toString());
+        assertEquals("", empty.toString(0));
+
+        LinkedList<String, ?> list = factory.apply(VALUES);
+        assertEquals("a 链表 42 😀 z", list.toString());
+        assertEquals("a 链表 ...", list.toString(2));
+        assertEquals("...", list.toString(0));
+        assertEquals("a 链表 42 😀 z", list.toString(5), "恰好 limit 个元素时不写省略标记");
+
+        StringBuilder reversed = new StringBuilder();
+        list.writeReverseTo(reversed, 3);
+        assertEquals("z 😀 42 ...", reversed.toString());
+        StringBuilder none = new StringBuilder();
+        list.writeReverseTo(none, 0);
+        assertEquals("...", none.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(bytes);
+        list.writeTo(channel, 0);
+        bytes.write('|');
+        list.writeTo(channel);
+        assertEquals("...|a 链表 42 😀 z", bytes.toString(StandardCharsets.UTF_8));
+
+        assertEquals("z 😀 42 链表 a" + System.lineSeparator(), printReverse(list, Integer.MAX_VALUE));
+        assertEquals("..." + System.lineSeparator(), printReverse(list, 0));
+        assertEquals("a 链表 42 😀 z", list.toString(), "逆序输出之后保持原顺序");
+    }
+
+    @Test
+    void linkedHashListTruncatesTheSameWay() {
+        LinkedHashList<String> list = new LinkedHashList<>();
+        assertEquals("", list.toString(0));
+        VALUES.forEach(list::addLast);
+        assertEquals("a 链表 42 😀 z", list.toString());
+        assertEquals("a ...", list.toString(1));
+        assertEquals("...", list.toString(0));
+    }
+
+    /** 捕获 reversePrint 写到 System.out 的内容 */
+    private static String printReverse(LinkedList<String, ?> list, int limit) {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            list.reversePrint(limit);
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
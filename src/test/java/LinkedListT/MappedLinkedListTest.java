@@ -0,0 +1,185 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * MappedLinkedList 崩溃恢复：正常关闭后重新打开、追加后提交记录未落盘、最新提交记录损坏或写了一半，
+ * 恢复结果都必须是最后一次有效提交的内容；沿 next 遍历恰好得到 size 个元素（已提交尾节点的 next 被重置），
+ * 恢复后继续插入并再次打开仍然一致
+ * <p>
+ * 崩溃通过文件快照模拟：映射写入对读取文件可见，提交前复制的文件头即为“提交记录尚未写入”时的磁盘状态
+ */
+class MappedLinkedListTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenAfterCleanClose() throws IOException {
+        Path path = dir.resolve("clean.dat");
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            for (int i = 1; i <= 5; i++) {
+                list.addLast(i);
+            }
+            list.insert(0);
+        }
+        assertRecovered(path, List.of(0, 1, 2, 3, 4, 5));
+        assertRecovered(path, List.of(0, 1, 2, 3, 4, 5)); // 只读打开不改变内容
+    }
+
+    @Test
+    void largeSegmentsSpanMultipleMappings() throws IOException {
+        Path path = dir.resolve("segments.dat");
+        List<Long> expected = new ArrayList<>();
+        try (MappedLinkedList<Long> list = MappedLinkedList.open(path, OffHeapCodec.LONG, false)) {
+            for (long i = 0; i < 70_000; i++) { // 超过一段（2^16 个节点）
+                list.addLast(i);
+                expected.add(i);
+            }
+        }
+        try (MappedLinkedList<Long> list = MappedLinkedList.open(path, OffHeapCodec.LONG)) {
+            assertEquals(expected.size(), list.size());
+            assertEquals(69_999L, list.peekLast());
+            assertEquals(65_536L, list.get(65_537));
+            assertEquals(expected, toList(list));
+        }
+    }
+
+    @Test
+    void uncommittedAppendIsDiscarded() throws IOException {
+        Path path = dir.resolve("append.dat");
+        byte[] committedHeader;
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(1);
+            list.addLast(2);
+            list.addLast(3);
+            committedHeader = header(path);
+            list.addLast(4); // 新节点已写入、尾节点 next 已指向它
+            list.insert(0);
+        }
+        // 还原文件头：两次提交的记录均未落盘，节点区保留未提交的写入
+        byte[] crashed = Files.readAllBytes(path);
+        System.arraycopy(committedHeader, 0, crashed, 0, committedHeader.length);
+        Files.write(path, crashed);
+
+        assertRecovered(path, List.of(1, 2, 3));
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(5);
+            list.insert(-1);
+        }
+        assertRecovered(path, List.of(-1, 1, 2, 3, 5));
+    }
+
+    @Test
+    void corruptedLatestSlotFallsBackToPreviousCommit() throws IOException {
+        Path path = dir.resolve("corrupt.dat");
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(1);
+            list.addLast(2);
+            list.addLast(3); // 上一次提交 [1 2]，其尾节点的 next 已指向 3
+        }
+        byte[] file = Files.readAllBytes(path);
+        int latest = latestSlot(file);
+        file[latest + 8] ^= 0x10; // head 字段被改写，CRC 不再匹配
+        Files.write(path, file);
+
+        assertRecovered(path, List.of(1, 2));
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(7); // 新提交写入损坏的槽
+        }
+        assertRecovered(path, List.of(1, 2, 7));
+    }
+
+    @Test
+    void tornLatestSlotFallsBackToPreviousCommit() throws IOException {
+        Path path = dir.resolve("torn.dat");
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(10);
+            list.addLast(20);
+            list.insert(5); // 上一次提交 [10 20]
+        }
+        byte[] file = Files.readAllBytes(path);
+        int latest = latestSlot(file);
+        // 只写完前 12 字节（seq 与 head），之后的字段与 CRC 未写入
+        Arrays.fill(file, latest + 12, latest + MappedLinkedList.SLOT_BYTES, (byte) 0);
+        Files.write(path, file);
+
+        assertRecovered(path, List.of(10, 20));
+    }
+
+    @Test
+    void bothSlotsCorruptedIsRejected() throws IOException {
+        Path path = dir.resolve("broken.dat");
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            list.addLast(1);
+        }
+        byte[] file = Files.readAllBytes(path);
+        file[MappedLinkedList.SLOT_A + 16] ^= 1;
+        file[MappedLinkedList.SLOT_B + 16] ^= 1;
+        Files.write(path, file);
+        assertThrows(IOException.class, () -> MappedLinkedList.open(path, OffHeapCodec.INT));
+        assertThrows(IOException.class, () -> MappedLinkedList.open(path, OffHeapCodec.LONG), "元素宽度不匹配");
+    }
+
+    @Test
+    void oversizedRecordsAndClosedListAreRejected() throws IOException {
+        Path path = dir.resolve("wide.dat");
+        assertThrows(IllegalArgumentException.class, () -> MappedLinkedList.open(path, OffHeapCodec.bytes(1 << 15)));
+        assertFalse(Files.exists(path), "宽度检查在创建文件之前");
+
+        MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT);
+        list.addLast(1);
+        list.addLast(2);
+        Iterator<Integer> iterator = list.iterator();
+        list.close();
+        assertThrows(IllegalStateException.class, iterator::next);
+        assertThrows(IllegalStateException.class, () -> list.addLast(3));
+        assertThrows(IllegalStateException.class, () -> list.get(1));
+    }
+
+    /** 重新打开并校验：size、逐个 get、peekLast，沿 next 遍历恰好得到 expected（尾节点之后没有残留链接） */
+    private static void assertRecovered(Path path, List<Integer> expected) throws IOException {
+        try (MappedLinkedList<Integer> list = MappedLinkedList.open(path, OffHeapCodec.INT)) {
+            assertEquals(expected.size(), list.size(), "size");
+            assertEquals(expected, toList(list), "沿 next 遍历");
+            for (int pos = 1; pos <= expected.size(); pos++) {
+                assertEquals(expected.get(pos - 1), list.get(pos), "get(" + pos + ")");
+            }
+            if (!expected.isEmpty()) {
+                assertEquals(expected.get(expected.size() - 1), list.peekLast());
+            }
+        }
+    }
+
+    private static <E> List<E> toList(MappedLinkedList<E> list) {
+        List<E> result = new ArrayList<>();
+        list.forEach(result::add);
+        return result;
+    }
+
+    private static byte[] header(Path path) throws IOException {
+        return Arrays.copyOf(Files.readAllBytes(path), MappedLinkedList.HEADER_BYTES);
+    }
+
+    /** 序号较大的提交记录槽 */
+    private static int latestSlot(byte[] file) {
+        ByteBuffer view = ByteBuffer.wrap(file).order(ByteOrder.LITTLE_ENDIAN);
+        return view.getLong(MappedLinkedList.SLOT_A) >= view.getLong(MappedLinkedList.SLOT_B)
+                ? MappedLinkedList.SLOT_A : MappedLinkedList.SLOT_B;
+    }
+}
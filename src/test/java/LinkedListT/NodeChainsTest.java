@@ -0,0 +1,288 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Comparator;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 节点链单遍算法压力校验
+ * <p>
+ * 在 N 个节点（1000 万）的链上校验 NodeChains 的各个算法：
+ * length / middle / nthFromEnd、Floyd 与 Brent 环检测（入环节点与环长）、
+ * 有序合并、相交节点，以及 LinkedListT 链表被人为破坏成环后的安全模式
+ * （toString / writeTo 在 O(size) 内结束，countNodes / checkIntegrity 报告环而不是死循环）。
+ * 算法本身为 O(1) 空间，额外分配（com.sun.management.ThreadMXBean 统计）不超过 ALLOCATION_SLACK。
+ */
+class NodeChainsTest {
+
+    private static final int N = 10_000_000;
+
+    /** O(1) 空间算法允许的额外分配（字节），用于吸收计数器本身的抖动 */
+    private static final long ALLOCATION_SLACK = 256;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** 共享的装箱值，节点数据取自这里，避免 1000 万个 Integer 对象 */
+    private static final Integer[] VALUES = new Integer[1024];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /** 在短链上预先执行各算法，避免首次编译期间的分配计入测量 */
+    @BeforeAll
+    static void warmUp() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "JVM 不支持线程分配统计");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < 200; i++) {
+            SinglyNode<Integer> a = chain(10_000, 0);
+            SinglyNode<Integer> b = chain(10_000, 1);
+            NodeChains.length(a);
+            NodeChains.middle(a);
+            NodeChains.nthFromEnd(a, 100);
+            NodeChains.hasCycle(a);
+            NodeChains.cycleLength(a);
+            NodeChains.intersection(a, b);
+            NodeChains.merge(a, b, Comparator.naturalOrder());
+        }
+    }
+
+    @Test
+    void positions() {
+        SinglyNode<Integer> head = chain(N, 0);
+        SinglyNode<Integer> mid = nodeAt(head, N / 2);
+        SinglyNode<Integer> last = nodeAt(head, N);
+        SinglyNode<Integer> third = nodeAt(head, N - N / 3 + 1);
+        assertAllocationFree("length", () -> NodeChains.length(head) == N);
+        assertAllocationFree("middle", () -> NodeChains.middle(head) == mid);
+        assertAllocationFree("nthFromEnd(1)", () -> NodeChains.nthFromEnd(head, 1) == last);
+        assertAllocationFree("nthFromEnd(n)", () -> NodeChains.nthFromEnd(head, N) == head);
+        assertAllocationFree("nthFromEnd(n/3)", () -> NodeChains.nthFromEnd(head, N / 3) == third);
+        assertThrows(IndexOutOfBoundsException.class, () -> NodeChains.nthFromEnd(head, N + 1));
+    }
+
+    @Test
+    void cycles() {
+        SinglyNode<Integer> head = chain(N, 0);
+        SinglyNode<Integer> last = nodeAt(head, N);
+        int mu = N / 3; // 入环前的节点数
+        SinglyNode<Integer> entry = nodeAt(head, mu + 1);
+        assertAllocationFree("无环 hasCycle", () -> !NodeChains.hasCycle(head));
+        assertAllocationFree("无环 cycleLength", () -> NodeChains.cycleLength(head) == 0);
+
+        last.next = entry;
+        assertAllocationFree("Floyd hasCycle", () -> NodeChains.hasCycle(head));
+        assertAllocationFree("Floyd cycleStart", () -> NodeChains.cycleStart(head) == entry);
+        assertAllocationFree("Brent cycleLength", () -> NodeChains.cycleLength(head) == N - mu);
+        assertAllocationFree("Brent cycleStart", () -> NodeChains.cycleStartBrent(head) == entry);
+        assertThrows(IllegalStateException.class, () -> NodeChains.length(head));
+
+        last.next = head; // 整条链成环
+        assertSame(head, NodeChains.cycleStart(head));
+        assertSame(head, NodeChains.cycleStartBrent(head));
+        assertEquals(N, NodeChains.cycleLength(head));
+
+        last.next = last; // 自环
+        assertEquals(1, NodeChains.cycleLength(head));
+        assertSame(last, NodeChains.cycleStart(head));
+        last.next = null;
+    }
+
+    @Test
+    void merge() {
+        int half = N / 2;
+        SinglyNode<Integer> a = chain(half, 0);
+        SinglyNode<Integer> b = chain(N - half, 1);
+        Comparator<Integer> cmp = Comparator.naturalOrder();
+        long before = allocated();
+        SinglyNode<Integer> merged = NodeChains.merge(a, b, cmp);
+        long bytes = allocated() - before;
+        assertTrue(bytes <= ALLOCATION_SLACK, "merge 分配了 " + bytes + " 字节");
+
+        int count = 0;
+        int prev = Integer.MIN_VALUE;
+        for (SinglyNode<Integer> node = merged; node != null; node = node.next) {
+            assertTrue(node.data >= prev, "合并结果在第 " + count + " 个节点处无序");
+            prev = node.data;
+            count++;
+        }
+        assertEquals(N, count);
+    }
+
+    @Test
+    void intersection() {
+        int own = N / 4;
+        SinglyNode<Integer> a = chain(N - own, 0);
+        SinglyNode<Integer> shared = nodeAt(a, (N - own) / 2 + 1);
+        SinglyNode<Integer> b = chain(own, 0);
+        SinglyNode<Integer> bLast = nodeAt(b, own);
+        bLast.next = shared;
+        assertAllocationFree("intersection", () -> NodeChains.intersection(a, b) == shared);
+        bLast.next = null;
+        assertAllocationFree("不相交 intersection", () -> NodeChains.intersection(a, b) == null);
+    }
+
+    /** 破坏成环的 SinglyLinkedList：输出在 size 处停止，计数与校验报告环而不是死循环 */
+    @Test
+    void safeModeOnCorruptedList() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < N; i++) {
+            list.addLast(VALUES[i & 1023]);
+        }
+        SinglyNode<Integer> last = list.getNode(N);
+        SinglyNode<Integer> entry = list.getNode(N / 2);
+        list.checkIntegrity();
+        assertEquals(N, list.countNodes());
+        assertSame(list.getNode(N / 2), list.middle());
+        assertSame(last, list.getNodeFromEnd(1));
+
+        last.next = entry; // 模拟外部破坏
+        assertEquals("0 1 2 3 4 5 6 7 8 9 ...", list.toString(10));
+        assertEquals(written(N), written(list::writeTo), "writeTo 应在 size 处停止");
+        written(channel -> list.writeReverseTo(channel, Integer.MAX_VALUE));
+        assertSame(last, list.getNode(N - 1).next, "writeReverseTo 之后应恢复原链接");
+        assertSame(entry, last.next);
+        assertAllocationFree("hasCycle", list::hasCycle);
+        assertThrows(IllegalStateException.class, list::countNodes);
+        assertThrows(IllegalStateException.class, list::checkIntegrity);
+
+        last.next = null;
+        list.checkIntegrity();
+        assertFalse(list.hasCycle());
+    }
+
+    @Test
+    void listMergeRelinksPrev() {
+        DoublyLinkedList<Integer> a = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> b = new DoublyLinkedList<>();
+        for (int i = 0; i < N / 2; i++) {
+            a.addLast(VALUES[(int) ((long) i * 1024 / (N / 2))]);
+            b.addLast(VALUES[(int) ((long) i * 1024 / (N / 2))]);
+        }
+        a.merge(b, Comparator.naturalOrder());
+        assertEquals(2 * (N / 2), a.size());
+        assertEquals(0, b.size());
+        a.checkIntegrity();
+        int backward = 0;
+        for (DoublyNode<Integer> node = a.getNodeFromEnd(1); node != null; node = node.prev) {
+            backward++;
+        }
+        assertEquals(a.size(), backward);
+    }
+
+    /** 比较器为 null 时与 sort 一致，按自然顺序合并 */
+    @Test
+    void listMergeWithNullComparatorUsesNaturalOrder() {
+        SinglyLinkedList<Integer> a = SinglyLinkedList.fromArray(1, 3, 5, 7);
+        SinglyLinkedList<Integer> b = SinglyLinkedList.fromArray(2, 3, 6);
+        a.merge(b, null);
+        assertEquals("1 2 3 3 5 6 7", a.toString());
+        assertEquals(0, b.size());
+        a.checkIntegrity();
+
+        DoublyLinkedList<String> c = DoublyLinkedList.fromArray("a", "c");
+        c.merge(DoublyLinkedList.fromArray("b", "d"), null);
+        assertEquals("a b c d", c.toString());
+        c.checkIntegrity();
+    }
+
+    // ----------------- 构造与辅助 -----------------
+
+    /** 构造长度为 len 的有序链，数据在 [0, 1024) 内单调不减；offset 为1时与 offset 为0的链交错 */
+    private static SinglyNode<Integer> chain(int len, int offset) {
+        SinglyNode<Integer> head = null;
+        for (int i = len - 1; i >= 0; i--) {
+            int value = Math.min(1023, (int) ((long) i * 512 / len) * 2 + offset);
+            SinglyNode<Integer> node = new SinglyNode<>(VALUES[value]);
+            node.next = head;
+            head = node;
+        }
+        return head;
+    }
+
+    /** 第 pos 个节点（从1开始） */
+    private static SinglyNode<Integer> nodeAt(SinglyNode<Integer> head, int pos) {
+        SinglyNode<Integer> node = head;
+        for (int i = 1; i < pos; i++) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    /** 校验结果正确且额外分配不超过 ALLOCATION_SLACK（先执行一次空检查扣除测量本身的开销） */
+    private static void assertAllocationFree(String name, BooleanSupplier check) {
+        BooleanSupplier empty = () -> true;
+        long before = allocated();
+        empty.getAsBoolean();
+        long overhead = allocated() - before;
+        before = allocated();
+        boolean ok = check.getAsBoolean();
+        long bytes = allocated() - before - overhead;
+        assertTrue(ok, name + " 结果错误");
+        assertTrue(bytes <= ALLOCATION_SLACK, name + " 分配了 " + bytes + " 字节");
+    }
+
+    private static long allocated() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /** 向只计数的 channel 输出 */
+    private interface Writer {
+        void writeTo(WritableByteChannel channel) throws IOException;
+    }
+
+    private static long written(Writer writer) {
+        long[] count = new long[1];
+        WritableByteChannel counter = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                int r = src.remaining();
+                src.position(src.limit());
+                count[0] += r;
+                return r;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            writer.writeTo(counter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    /** 元素为 VALUES[i & 1023] 的 n 个元素以空格分隔输出的字节数 */
+    private static long written(int n) {
+        long bytes = Math.max(0, n - 1); // 分隔符
+        for (int v = 0; v < 1024; v++) {
+            long occurrences = n / 1024 + (v < n % 1024 ? 1 : 0);
+            bytes += occurrences * String.valueOf(v).length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,178 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * NodePool 的约定：归还的节点 data / prev 已清空、取出的节点 next 为 null（池中节点不持有业务对象），
+ * 池中节点数不超过 capacity，threadLocal 池按线程隔离，多个线程各自的链表共享同一个池时互不干扰
+ */
+class NodePoolTest {
+
+    @Test
+    void releasedNodesAreCleared() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.fromArray(1, 2, 3, 4, 5);
+        NodePool<Integer, DoublyNode<Integer>> pool = new NodePool<>(8);
+        list.setNodePool(pool);
+        DoublyNode<Integer> first = list.getNode(1);
+        DoublyNode<Integer> middle = list.getNode(3);
+        DoublyNode<Integer> last = list.getNode(5);
+
+        list.delete(3);
+        list.removeLast();
+        list.delete(1);
+        assertStructure(List.of(2, 4), list);
+        assertEquals(3, pool.size());
+        for (DoublyNode<Integer> node : List.of(first, middle, last)) {
+            assertNull(node.data, "归还后 data 已清空");
+            assertNull(node.prev, "归还后 prev 已清空");
+        }
+
+        DoublyNode<Integer> polled = pool.poll();
+        assertSame(first, polled, "空闲链表为栈，后归还的先取出");
+        assertNull(polled.next, "取出的节点 next 为 null");
+        assertSame(last, pool.poll());
+        assertSame(middle, pool.poll());
+        assertNull(pool.poll(), "池为空时返回 null");
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void pooledNodesAreReusedOnInsert() {
+        SinglyLinkedList<String> list = new SinglyLinkedList<>(List.of("a", "b", "c"));
+        NodePool<String, SinglyNode<String>> pool = new NodePool<>(4);
+        list.setNodePool(pool);
+        SinglyNode<String> removed = list.getNode(2);
+        list.delete(2);
+        assertNull(removed.data);
+        assertNull(removed.next, "池中唯一的节点没有后继");
+
+        list.insert(2, "x");
+        assertSame(removed, list.getNode(2), "插入复用刚归还的节点");
+        assertEquals(0, pool.size());
+        assertStructure(List.of("a", "x", "c"), list);
+    }
+
+    @Test
+    void poolNeverExceedsCapacity() {
+        NodePool<Integer, SinglyNode<Integer>> pool = new NodePool<>(2);
+        assertEquals(2, pool.capacity());
+        SinglyNode<Integer> a = new SinglyNode<>(1);
+        SinglyNode<Integer> b = new SinglyNode<>(2);
+        SinglyNode<Integer> c = new SinglyNode<>(3);
+        c.next = a;
+        assertTrue(pool.release(a));
+        assertTrue(pool.release(b));
+        assertFalse(pool.release(c), "池满时拒绝");
+        assertEquals(2, pool.size());
+        assertNull(c.data, "被拒绝的节点同样清空 data");
+        assertNull(c.next, "被拒绝的节点不再引用池中节点");
+
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        NodePool<Integer, SinglyNode<Integer>> bounded = new NodePool<>(4);
+        list.setNodePool(bounded);
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+        }
+        while (list.size() > 0) {
+            list.delete(1);
+        }
+        assertEquals(4, bounded.size(), "删除 100 个节点，池中最多保留 capacity 个");
+
+        NodePool<Integer, SinglyNode<Integer>> disabled = new NodePool<>(0);
+        assertFalse(disabled.release(new SinglyNode<>(1)));
+        assertNull(disabled.poll());
+        assertThrows(IllegalArgumentException.class, () -> new NodePool<Integer, SinglyNode<Integer>>(-1));
+    }
+
+    @Test
+    void threadLocalPoolsAreIsolated() throws Exception {
+        NodePool<Integer, SinglyNode<Integer>> pool = NodePool.threadLocal(8);
+        SinglyNode<Integer> mine = new SinglyNode<>(1);
+        assertTrue(pool.release(mine));
+        assertEquals(1, pool.size());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object[]> other = executor.submit(() -> {
+                Object before = pool.poll(); // 另一个线程看不到本线程归还的节点
+                int sizeBefore = pool.size();
+                SinglyNode<Integer> theirs = new SinglyNode<>(2);
+                pool.release(theirs);
+                return new Object[]{before, sizeBefore, pool.size(), theirs};
+            });
+            Object[] result = other.get();
+            assertNull(result[0]);
+            assertEquals(0, result[1]);
+            assertEquals(1, result[2]);
+            assertEquals(1, pool.size(), "其他线程的归还不影响本线程");
+            assertSame(mine, pool.poll());
+            assertNull(pool.poll(), "本线程取不到其他线程归还的节点");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** 每个线程一个链表，共享同一个 threadLocal 池做高频增删：节点不会跨线程复用，链表结构各自正确 */
+    @Test
+    void listsOnDifferentThreadsShareThreadLocalPool() throws Exception {
+        NodePool<Integer, DoublyNode<Integer>> pool = NodePool.threadLocal(16);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+                    list.setNodePool(pool);
+                    List<Integer> expected = new ArrayList<>();
+                    Random random = new Random(seed);
+                    start.await();
+                    for (int op = 0; op < 20_000; op++) {
+                        int size = expected.size();
+                        if (size > 0 && random.nextInt(2) == 0) {
+                            int pos = 1 + random.nextInt(size);
+                            list.delete(pos);
+                            expected.remove(pos - 1);
+                        } else {
+                            int pos = 1 + random.nextInt(size + 1);
+                            int value = seed * 1_000_000 + op;
+                            list.insert(pos, value);
+                            expected.add(pos - 1, value);
+                        }
+                        if (size > 64) {
+                            list.delete(1);
+                            expected.remove(0);
+                        }
+                    }
+                    assertStructure(expected, list);
+                    assertTrue(pool.size() <= 16);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * LinkedList.iterator() 与 NodeSpliterator：
+ * 1. 并行流与顺序流结果一致（长度覆盖 BATCH_UNIT 以下、恰好等于及其多倍）
+ * 2. trySplit 按 BATCH_UNIT 递增分批，前缀 + 剩余部分恰好覆盖全部元素
+ * 3. 迭代 / 流遍历期间的结构性修改抛出 ConcurrentModificationException
+ * 4. 惰性反转的 DoublyLinkedList 按逻辑顺序迭代与流式遍历
+ */
+class NodeSpliteratorTest {
+
+    /** 与 NodeSpliterator.BATCH_UNIT 一致 */
+    private static final int BATCH_UNIT = 1 << 10;
+
+    private static final int[] SIZES = {0, 1, 7, BATCH_UNIT - 1, BATCH_UNIT, BATCH_UNIT + 1, 3 * BATCH_UNIT + 5, 50_000};
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("SinglyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) SinglyLinkedList::new),
+                Arguments.of("DoublyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) DoublyLinkedList::new),
+                Arguments.of("惰性反转 DoublyLinkedList", (Function<List<Integer>, LinkedList<Integer, ?>>) values -> {
+                    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+                    list.setLazyReversal(true);
+                    values.forEach(list::insert); // 逆序构造后翻转标志，逻辑顺序与 values 一致
+                    list.reverse();
+                    return list;
+                }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void parallelStreamMatchesSequential(String name, Function<List<Integer>, LinkedList<Integer, ?>> factory) {
+        for (int size : SIZES) {
+            List<Integer> expected = range(size);
+            LinkedList<Integer, ?> list = factory.apply(expected);
+
+            List<Integer> iterated = new ArrayList<>();
+            list.forEach(iterated::add);
+            assertEquals(expected, iterated, "迭代顺序 n=" + size);
+            assertEquals(expected, list.stream().collect(Collectors.toList()), "顺序流 n=" + size);
+            assertEquals(expected, list.parallelStream().collect(Collectors.toList()), "并行流 n=" + size);
+            assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                    list.parallelStream().mapToLong(Integer::longValue).sum(), "并行求和 n=" + size);
+            assertEquals(size, list.parallelStream().filter(v -> v >= 0).count(), "并行计数 n=" + size);
+        }
+    }
+
+    @Test
+    void trySplitGrowsBatchesByBatchUnit() {
+        int size = 5 * BATCH_UNIT + 17;
+        List<Integer> expected = range(size);
+        Spliterator<Integer> rest = new DoublyLinkedList<>(expected).spliterator();
+        assertEquals(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, rest.characteristics());
+        assertEquals(size, rest.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        List<Long> batches = new ArrayList<>();
+        Spliterator<Integer> prefix;
+        while ((prefix = rest.trySplit()) != null) {
+            batches.add(prefix.estimateSize());
+            prefix.forEachRemaining(seen::add);
+            assertEquals(size - seen.size(), rest.estimateSize(), "剩余部分的大小");
+        }
+        rest.forEachRemaining(seen::add);
+        assertEquals(expected, seen, "各批前缀与剩余部分按顺序拼接得到全部元素");
+        assertEquals(List.of((long) BATCH_UNIT, 2L * BATCH_UNIT, 2L * BATCH_UNIT + 17), batches);
+    }
+
+    @Test
+    void smallListSplitsIntoOneArrayBatch() {
+        Spliterator<Integer> rest = new SinglyLinkedList<>(range(10)).spliterator();
+        Spliterator<Integer> prefix = rest.trySplit();
+        assertEquals(10, prefix.estimateSize(), "不足一批时整体复制到数组");
+        assertEquals(0, rest.estimateSize());
+        assertFalse(rest.tryAdvance(v -> { }));
+        assertNull(rest.trySplit());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void structuralModificationIsDetected(String name, Function<List<Integer>, LinkedList<Integer, ?>> factory) {
+        LinkedList<Integer, ?> list = factory.apply(range(5));
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(0, iterator.next());
+        list.addLast(99);
+        assertThrows(ConcurrentModificationException.class, iterator::next, "iterator");
+
+        LinkedList<Integer, ?> streamed = factory.apply(range(5));
+        assertThrows(ConcurrentModificationException.class,
+                () -> streamed.stream().forEach(v -> streamed.insert(-v)), "forEachRemaining");
+
+        LinkedList<Integer, ?> advanced = factory.apply(range(5));
+        Spliterator<Integer> spliterator = advanced.spliterator();
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.tryAdvance(v -> advanced.delete(1)), "tryAdvance");
+
+        LinkedList<Integer, ?> untouched = factory.apply(range(5));
+        Spliterator<Integer> late = untouched.spliterator(); // 延迟绑定：首次使用前的修改不影响遍历
+        untouched.addLast(5);
+        List<Integer> seen = new ArrayList<>();
+        late.forEachRemaining(seen::add);
+        assertEquals(range(6), seen);
+    }
+
+    @Test
+    void lazilyReversedListStreamsInLogicalOrder() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(range(3 * BATCH_UNIT));
+        list.setLazyReversal(true);
+        list.reverse();
+        List<Integer> expected = range(3 * BATCH_UNIT);
+        Collections.reverse(expected);
+
+        List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated, "迭代器沿 prev 从物理尾部开始");
+        assertEquals(expected, list.parallelStream().collect(Collectors.toList()), "并行流");
+        assertEquals(expected, list.stream().collect(Collectors.toList()), "顺序流");
+        assertTrue(list.isLazyReversal());
+        list.materialize();
+        ListAssertions.assertStructure(expected, list);
+    }
+
+    private static List<Integer> range(int n) {
+        List<Integer> values = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
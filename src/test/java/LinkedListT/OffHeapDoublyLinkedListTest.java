@@ -0,0 +1,184 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * OffHeapDoublyLinkedList：随机插入 / 删除 / 反转与 ArrayList 对照（每段只有4个节点，频繁跨段），
+ * 每一步之后比较正向迭代、get 与沿 prev 的逆序输出；删除的节点被复用；close() 之后的操作抛出 IllegalStateException
+ */
+class OffHeapDoublyLinkedListTest {
+
+    @Test
+    void randomOperationsMatchArrayList() throws IOException {
+        Random random = new Random(6);
+        for (int run = 0; run < 50; run++) {
+            try (OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(OffHeapCodec.INT, 2)) {
+                List<Integer> expected = new ArrayList<>();
+                for (int op = 0; op < 300; op++) {
+                    int value = random.nextInt(10_000) - 5_000;
+                    int size = expected.size();
+                    switch (random.nextInt(6)) {
+                        case 0:
+                            list.insert(value);
+                            expected.add(0, value);
+                            break;
+                        case 1:
+                            list.addLast(value);
+                            expected.add(value);
+                            break;
+                        case 2: {
+                            int pos = 1 + random.nextInt(size + 1);
+                            list.insert(pos, value);
+                            expected.add(pos - 1, value);
+                            break;
+                        }
+                        case 3:
+                        case 4:
+                            if (size > 0) {
+                                int pos = 1 + random.nextInt(size);
+                                list.delete(pos);
+                                expected.remove(pos - 1);
+                            }
+                            break;
+                        default:
+                            list.reverse();
+                            Collections.reverse(expected);
+                            break;
+                    }
+                    assertContents(expected, list);
+                }
+            }
+        }
+    }
+
+    @Test
+    void deletedNodesAreReused() {
+        try (OffHeapDoublyLinkedList<Long> list = new OffHeapDoublyLinkedList<>(OffHeapCodec.LONG, 3)) {
+            for (long i = 0; i < 16; i++) {
+                list.addLast(i);
+            }
+            long bytes = list.offHeapBytes();
+            assertEquals(2 * 8 * (8 + Long.BYTES), bytes, "两段，每段 8 个节点");
+            for (int i = 0; i < 10; i++) {
+                list.delete(1 + i % list.size());
+            }
+            for (long i = 0; i < 10; i++) {
+                list.insert(3, -i);
+            }
+            assertEquals(16, list.size());
+            assertEquals(bytes, list.offHeapBytes(), "删除后插入复用空闲节点，不新增段");
+        }
+    }
+
+    @Test
+    void fixedWidthRecords() {
+        try (OffHeapDoublyLinkedList<byte[]> list = new OffHeapDoublyLinkedList<>(OffHeapCodec.bytes(3), 2)) {
+            list.addLast(new byte[]{1, 2, 3});
+            list.insert(new byte[]{4, 5, 6});
+            list.reverse();
+            assertArrayEquals(new byte[]{1, 2, 3}, list.get(1));
+            assertArrayEquals(new byte[]{4, 5, 6}, list.get(2));
+            assertThrows(IllegalArgumentException.class, () -> list.addLast(new byte[2]));
+            assertEquals(2, list.size());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapDoublyLinkedList<>(OffHeapCodec.bytes(1 << 16), 16));
+    }
+
+    @Test
+    void operationsAfterCloseThrow() {
+        OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(OffHeapCodec.INT, 2);
+        for (int i = 1; i <= 5; i++) {
+            list.addLast(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(1, iterator.next());
+        list.close();
+        list.close(); // 重复关闭无副作用
+
+        assertEquals(0, list.size());
+        assertEquals(0, list.offHeapBytes());
+        assertThrows(IllegalStateException.class, iterator::next);
+        assertThrows(IllegalStateException.class, list::iterator);
+        assertThrows(IllegalStateException.class, () -> list.insert(1));
+        assertThrows(IllegalStateException.class, () -> list.addLast(1));
+        assertThrows(IllegalStateException.class, () -> list.insert(1, 1));
+        assertThrows(IllegalStateException.class, () -> list.get(1));
+        assertThrows(IllegalStateException.class, () -> list.delete(1));
+        assertThrows(IllegalStateException.class, list::reverse);
+        assertThrows(IllegalStateException.class, list::toString);
+        assertThrows(IllegalStateException.class, list::reversePrint);
+    }
+
+    @Test
+    void outputMatchesLinkedListFormat() throws IOException {
+        try (OffHeapDoublyLinkedList<Integer> list = new OffHeapDoublyLinkedList<>(OffHeapCodec.INT, 2)) {
+            assertEquals("", list.toString());
+            for (int i = 1; i <= 6; i++) {
+                list.addLast(i * 10);
+            }
+            assertEquals("10 20 30 ...", list.toString(3));
+            StringBuilder reversed = new StringBuilder();
+            list.writeReverseTo(reversed, 2);
+            assertEquals("60 50 ...", reversed.toString());
+            list.reverse();
+            assertEquals("60 50 40 30 20 10", list.toString());
+            assertEquals("10 20 30 40 50 60" + System.lineSeparator(), printReverse(list));
+        }
+    }
+
+    /** 比较正向迭代、toString、逆序输出与 get（首、中、尾） */
+    private static void assertContents(List<Integer> expected, OffHeapDoublyLinkedList<Integer> list)
+            throws IOException {
+        assertEquals(expected.size(), list.size(), "size");
+        List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated, "迭代顺序");
+        assertEquals(join(expected), list.toString());
+
+        List<Integer> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        StringBuilder sb = new StringBuilder();
+        list.writeReverseTo(sb, Integer.MAX_VALUE);
+        assertEquals(join(reversed), sb.toString(), "沿 prev 逆序");
+        if (!expected.isEmpty()) {
+            for (int pos : new int[]{1, (expected.size() + 1) / 2, expected.size()}) {
+                assertEquals(expected.get(pos - 1), list.get(pos), "get(" + pos + ")");
+            }
+        }
+    }
+
+    private static String join(List<Integer> values) {
+        StringJoiner joiner = new StringJoiner(" ");
+        values.forEach(v -> joiner.add(String.valueOf(v)));
+        return joiner.toString();
+    }
+
+    /** 捕获 reversePrint 写到 System.out 的内容 */
+    private static String printReverse(OffHeapDoublyLinkedList<Integer> list) {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            list.reversePrint();
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
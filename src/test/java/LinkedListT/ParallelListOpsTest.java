@@ -0,0 +1,137 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * ParallelListOps 在 ForkJoinPool(4) 上的排序与归约：
+ * 1. 长度超过 MIN_SEGMENT * 分段数，使 16 个分段全部参与分治合并；另取奇数个分段与不足两段（退化为串行）的长度
+ * 2. 键大量重复时按键排序必须稳定，结果与 ArrayList.sort 一致
+ * 3. 升序 / 降序输入分别走“直接拼接”与“整体前置”两条快速路径，随机输入走 mergeLinkingPrev
+ * 4. 排序后 checkIntegrity 通过，双向链表沿 prev 从 tail 走回 head 与正向一致
+ * 5. reduce 与顺序求和一致，combiner 按分段顺序合并
+ */
+class ParallelListOpsTest {
+
+    /** 与 ParallelListOps.MIN_SEGMENT 一致 */
+    private static final int MIN_SEGMENT = 1 << 13;
+    /** ForkJoinPool(4) 的分段数：4 * SEGMENTS_PER_THREAD */
+    private static final int SEGMENTS = 16;
+
+    private static final int[] SIZES = {1000, 5 * MIN_SEGMENT + 1, SEGMENTS * MIN_SEGMENT + 3};
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    private static ForkJoinPool pool;
+
+    /** 按 key 排序，seq 记录原始位置，用于检查稳定性 */
+    record Item(int key, int seq) {
+    }
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("SinglyLinkedList", (Function<List<Item>, LinkedList<Item, ?>>) SinglyLinkedList::new),
+                Arguments.of("DoublyLinkedList", (Function<List<Item>, LinkedList<Item, ?>>) DoublyLinkedList::new),
+                Arguments.of("惰性反转 DoublyLinkedList", (Function<List<Item>, LinkedList<Item, ?>>) values -> {
+                    DoublyLinkedList<Item> list = new DoublyLinkedList<>();
+                    list.setLazyReversal(true);
+                    values.forEach(list::insert); // 逆序构造后翻转标志，逻辑顺序与 values 一致
+                    list.reverse();
+                    return list;
+                }),
+                Arguments.of("SkipLinkedList", (Function<List<Item>, LinkedList<Item, ?>>) SkipLinkedList::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void sortIsStableWithEqualKeys(String name, Function<List<Item>, LinkedList<Item, ?>> factory) {
+        Random random = new Random(19);
+        for (int size : SIZES) {
+            List<Item> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(new Item(random.nextInt(64), i)); // 每个键约 size/64 个重复
+            }
+            assertSorted(factory, values, "随机 n=" + size);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void presortedInputsTakeConcatFastPaths(String name, Function<List<Item>, LinkedList<Item, ?>> factory) {
+        int size = SEGMENTS * MIN_SEGMENT + 3;
+        List<Item> ascending = new ArrayList<>(size);
+        List<Item> descending = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ascending.add(new Item(i / 3, i));
+            descending.add(new Item((size - i) / 3, i)); // 分段边界两侧可能出现相同的键
+        }
+        assertSorted(factory, ascending, "升序：左半整体不大于右半，直接拼接");
+        assertSorted(factory, descending, "降序：右半整体更小，整体前置");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void reduceMatchesSequentialSum(String name, Function<List<Item>, LinkedList<Item, ?>> factory) {
+        Random random = new Random(20);
+        for (int size : SIZES) {
+            List<Item> values = new ArrayList<>(size);
+            long expectedSum = 0;
+            for (int i = 0; i < size; i++) {
+                Item item = new Item(random.nextInt(1_000_000), i);
+                values.add(item);
+                expectedSum += item.key();
+            }
+            LinkedList<Item, ?> list = factory.apply(values);
+            assertEquals(expectedSum,
+                    ParallelListOps.reduce(list, 0L, (acc, v) -> acc + v.key(), Long::sum, pool), "求和 n=" + size);
+            assertEquals(size,
+                    ParallelListOps.reduce(list, 0, (acc, v) -> acc + 1, Integer::sum, pool), "计数 n=" + size);
+            // 只保留右侧结果的 combiner 满足结合律：各分段按顺序合并时得到最后一个元素
+            assertSame(values.get(size - 1),
+                    ParallelListOps.reduce(list, null, (acc, v) -> v, (left, right) -> right, pool), "末元素 n=" + size);
+        }
+    }
+
+    /** 并行排序 factory(values) 并与 ArrayList 的稳定排序对照 */
+    private static void assertSorted(Function<List<Item>, LinkedList<Item, ?>> factory, List<Item> values,
+                                     String message) {
+        LinkedList<Item, ?> list = factory.apply(values);
+        List<Item> expected = new ArrayList<>(values);
+        expected.sort(BY_KEY);
+        ParallelListOps.sort(list, BY_KEY, pool);
+        assertStructure(expected, list);
+        List<Item> iterated = new ArrayList<>(list.size());
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated, message);
+        if (list instanceof SkipLinkedList) { // afterBulkChange 重建的索引按位置定位
+            for (int pos = 1; pos <= expected.size(); pos += expected.size() / 7 + 1) {
+                assertSame(expected.get(pos - 1), list.getNode(pos).data, message + " getNode(" + pos + ")");
+            }
+        }
+    }
+}
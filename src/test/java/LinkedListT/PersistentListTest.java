@@ -0,0 +1,121 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * PersistentList：头部操作与位置操作的结构共享（新版本只复制 pos 之前的节点，之后的节点与旧版本是同一批对象），
+ * 以及随机操作序列产生的每一个旧版本在之后的修改中保持不变
+ */
+class PersistentListTest {
+
+    @Test
+    void headOperationsShareTheRest() {
+        PersistentList<Integer> v1 = PersistentList.of(1, 2, 3);
+        PersistentList<Integer> v2 = v1.push(0);
+        assertSame(v1.headNode(), v2.headNode().next, "push 只新建一个节点");
+        PersistentList<Integer> v3 = v1.pop();
+        assertSame(v1.headNode().next, v3.headNode(), "pop 与原版本共享剩余节点");
+        assertEquals("1 2 3", v1.toString());
+        assertEquals("0 1 2 3", v2.toString());
+        assertEquals("2 3", v3.toString());
+
+        assertSame(PersistentList.empty(), PersistentList.of(), "空链表为单例");
+        assertSame(PersistentList.empty(), PersistentList.of(7).pop());
+        assertThrows(NoSuchElementException.class, () -> PersistentList.empty().pop());
+        assertThrows(NoSuchElementException.class, () -> PersistentList.empty().peek());
+    }
+
+    @Test
+    void positionalOperationsCopyOnlyThePrefix() {
+        PersistentList<Integer> base = PersistentList.of(1, 2, 3, 4, 5, 6);
+
+        PersistentList<Integer> inserted = base.insert(4, 99);
+        assertEquals("1 2 3 99 4 5 6", inserted.toString());
+        for (int pos = 1; pos <= 3; pos++) {
+            assertNotSame(base.getNode(pos), inserted.getNode(pos), "前 pos-1 个节点被复制 " + pos);
+        }
+        assertSame(base.getNode(4), inserted.getNode(5), "原第 pos 个节点起共享");
+
+        PersistentList<Integer> deleted = base.delete(3);
+        assertEquals("1 2 4 5 6", deleted.toString());
+        assertNotSame(base.getNode(2), deleted.getNode(2));
+        assertSame(base.getNode(4), deleted.getNode(3), "被删节点之后的部分共享");
+        assertSame(base.getNode(2), base.delete(1).headNode(), "删除头部不复制任何节点");
+
+        PersistentList<Integer> appended = base.insert(base.size() + 1, 7);
+        assertEquals("1 2 3 4 5 6 7", appended.toString());
+        assertEquals("1 2 3 4 5 6", base.toString(), "尾部插入复制全部节点，原版本不变");
+        assertEquals("6 5 4 3 2 1", base.reverse().toString());
+
+        assertThrows(IllegalArgumentException.class, () -> base.insert(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> base.insert(8, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> base.delete(7));
+        assertSame(PersistentList.empty(), PersistentList.of(1).delete(1));
+    }
+
+    /** 每一步都基于随机选取的某个旧版本派生新版本，最后逐个校验全部版本仍与各自的模型一致 */
+    @Test
+    void everyVersionStaysUnchanged() {
+        Random random = new Random(20);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> models = new ArrayList<>();
+        versions.add(PersistentList.empty());
+        models.add(List.of());
+        for (int step = 0; step < 2_000; step++) {
+            int from = random.nextInt(versions.size());
+            PersistentList<Integer> version = versions.get(from);
+            List<Integer> model = new ArrayList<>(models.get(from));
+            int value = random.nextInt(1000);
+            PersistentList<Integer> next;
+            switch (random.nextInt(5)) {
+                case 0:
+                    next = version.push(value);
+                    model.add(0, value);
+                    break;
+                case 1:
+                    if (model.isEmpty()) continue;
+                    next = version.pop();
+                    model.remove(0);
+                    break;
+                case 2: {
+                    int pos = 1 + random.nextInt(model.size() + 1);
+                    next = version.insert(pos, value);
+                    model.add(pos - 1, value);
+                    break;
+                }
+                case 3: {
+                    if (model.isEmpty()) continue;
+                    int pos = 1 + random.nextInt(model.size());
+                    next = version.delete(pos);
+                    model.remove(pos - 1);
+                    break;
+                }
+                default:
+                    next = version.reverse();
+                    Collections.reverse(model);
+                    break;
+            }
+            versions.add(next);
+            models.add(model);
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            PersistentList<Integer> version = versions.get(i);
+            List<Integer> model = models.get(i);
+            assertEquals(model.size(), version.size(), "版本 " + i + " 的 size");
+            assertEquals(model, version.stream().collect(Collectors.toList()), "版本 " + i);
+            assertEquals(model.isEmpty(), version.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 长链表反转压力校验
+ * <p>
+ * 对 LinkedListH.LinkedList / LinkedListH.DoublyLinkedList /
+ * LinkedListT.SinglyLinkedList / LinkedListT.DoublyLinkedList 构造 1..N（20 万个元素，
+ * 原递归实现在默认线程栈下远不到这个深度就会栈溢出；输出超过 ListWriter 缓冲区的多倍），
+ * 依次执行全部反转方法、区间反转、分组反转与 reversePrint，校验：
+ * 1. 不发生 StackOverflowError
+ * 2. 每一步之后的完整顺序：经 writeTo 流式输出，按位置计算顺序敏感的校验和，与期望序列比较
+ * 3. 反转方法与 reversePrint 的额外分配与 N 无关（com.sun.management.ThreadMXBean 统计）
+ */
+class ReverseStressTest {
+
+    private static final int N = 200_000;
+
+    /** 反转方法允许的额外分配（字节），用于吸收计数器本身的抖动 */
+    private static final long ALLOCATION_SLACK = 256;
+    /** reversePrint 允许的分配（字节）：输出缓冲等固定开销，远小于每个节点 1 字节 */
+    private static final long PRINT_ALLOCATION_LIMIT = 64 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** 统一不同链表 API 的被测对象，元素为 1..n */
+    private interface Subject {
+        void reverse();
+
+        void reverseRecursion();
+
+        /** LinkedListH 系列没有该方法，返回 false */
+        boolean reverseByStack();
+
+        void reverse(int from, int to);
+
+        void reverseKGroup(int k);
+
+        void reversePrint();
+
+        void writeTo(WritableByteChannel channel) throws IOException;
+    }
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of("LinkedListH.LinkedList", (Supplier<Subject>) () -> primitive(new LinkedListH.LinkedList())),
+                Arguments.of("LinkedListH.DoublyLinkedList",
+                        (Supplier<Subject>) () -> primitive(new LinkedListH.DoublyLinkedList())),
+                Arguments.of("LinkedListT.SinglyLinkedList",
+                        (Supplier<Subject>) () -> generic(new LinkedListT.SinglyLinkedList<>())),
+                Arguments.of("LinkedListT.DoublyLinkedList",
+                        (Supplier<Subject>) () -> generic(new LinkedListT.DoublyLinkedList<>())));
+    }
+
+    private static Subject primitive(LinkedListH.LinkedList list) {
+        for (int i = N; i >= 1; i--) {
+            list.insert(i); // 头插，得到 1..N
+        }
+        return new Subject() {
+            public void reverse() { list.reverse(); }
+            public void reverseRecursion() { list.reverseRecursion(); }
+            public boolean reverseByStack() { return false; }
+            public void reverse(int from, int to) { list.reverse(from, to); }
+            public void reverseKGroup(int k) { list.reverseKGroup(k); }
+            public void reversePrint() { list.reversePrint(); }
+            public void writeTo(WritableByteChannel channel) throws IOException { list.writeTo(channel); }
+        };
+    }
+
+    private static Subject generic(LinkedListT.LinkedList<Integer, ?> list) {
+        for (int i = 1; i <= N; i++) {
+            list.addLast(i);
+        }
+        return new Subject() {
+            public void reverse() { list.reverse(); }
+            public void reverseRecursion() { list.reverseRecursion(); }
+            public boolean reverseByStack() { list.reverseByStack(); return true; }
+            public void reverse(int from, int to) { list.reverse(from, to); }
+            public void reverseKGroup(int k) { list.reverseKGroup(k); }
+            public void reversePrint() { list.reversePrint(); }
+            public void writeTo(WritableByteChannel channel) throws IOException { list.writeTo(channel); }
+        };
+    }
+
+    @BeforeAll
+    static void allocationCountingSupported() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "JVM 不支持线程分配统计");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void reversalsKeepFullOrderWithoutAllocating(String name, Supplier<Subject> factory) throws IOException {
+        Subject list = factory.get();
+        IntUnaryOperator ascending = i -> i + 1;
+        IntUnaryOperator descending = i -> N - i;
+        IntUnaryOperator range = i -> (i == 0 || i == N - 1) ? i + 1 : N - i; // reverse(2, N-1)
+        int grouped = N - N % 3;
+        IntUnaryOperator kGroup = i -> i < grouped ? i - i % 3 + (3 - i % 3) : i + 1; // reverseKGroup(3)
+        assertOrder("初始", list, ascending);
+
+        assertNoAllocation("reverse", list::reverse);
+        assertOrder("reverse", list, descending);
+        assertNoAllocation("reverse (还原)", list::reverse);
+        assertOrder("reverse (还原)", list, ascending);
+
+        assertNoAllocation("reverseRecursion", list::reverseRecursion);
+        assertOrder("reverseRecursion", list, descending);
+        assertNoAllocation("reverseRecursion (还原)", list::reverseRecursion);
+        assertOrder("reverseRecursion (还原)", list, ascending);
+
+        if (list.reverseByStack()) {
+            assertOrder("reverseByStack", list, descending);
+            assertNoAllocation("reverseByStack (还原)", list::reverseByStack);
+            assertOrder("reverseByStack (还原)", list, ascending);
+        }
+
+        assertNoAllocation("reverse(2, n-1)", () -> list.reverse(2, N - 1));
+        assertOrder("reverse(2, n-1)", list, range);
+        assertNoAllocation("reverse(2, n-1) (还原)", () -> list.reverse(2, N - 1));
+        assertOrder("reverse(2, n-1) (还原)", list, ascending);
+
+        assertNoAllocation("reverseKGroup(3)", () -> list.reverseKGroup(3));
+        assertOrder("reverseKGroup(3)", list, kGroup);
+        assertNoAllocation("reverseKGroup(3) (还原)", () -> list.reverseKGroup(3));
+        assertOrder("reverseKGroup(3) (还原)", list, ascending);
+
+        Checksum printed = new Checksum();
+        PrintStream out = System.out;
+        PrintStream capture = new PrintStream(printed);
+        long allocated;
+        System.setOut(capture);
+        try {
+            allocated = allocatedDuring(list::reversePrint);
+        } finally {
+            System.setOut(out);
+        }
+        capture.flush();
+        assertTrue(allocated <= PRINT_ALLOCATION_LIMIT, "reversePrint 分配了 " + allocated + " 字节");
+        printed.assertMatches("reversePrint 输出", descending);
+        assertOrder("reversePrint 之后", list, ascending);
+    }
+
+    private static void assertOrder(String step, Subject list, IntUnaryOperator expected) throws IOException {
+        Checksum checksum = new Checksum();
+        list.writeTo(checksum);
+        checksum.assertMatches(step, expected);
+    }
+
+    /** 先执行一次空操作扣除测量本身的开销 */
+    private static void assertNoAllocation(String step, Runnable action) {
+        long overhead = allocatedDuring(() -> { });
+        long allocated = allocatedDuring(action) - overhead;
+        assertTrue(allocated <= ALLOCATION_SLACK, step + " 分配了 " + allocated + " 字节");
+    }
+
+    private static long allocatedDuring(Runnable action) {
+        long thread = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        action.run();
+        return THREADS.getThreadAllocatedBytes(thread) - before;
+    }
+
+    /**
+     * 解析输出中以非数字字符分隔的整数，按位置累计顺序敏感的校验和，不保存输出本身
+     * 第 i 个整数（从 0 开始）与期望序列的第 i 项逐一比较，记录第一个不一致的位置
+     */
+    private static final class Checksum extends OutputStream implements WritableByteChannel {
+        private long count;
+        private long hash;
+        private int value;
+        private boolean inNumber;
+
+        @Override
+        public void write(int b) {
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                inNumber = true;
+            } else {
+                endNumber();
+            }
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            while (src.hasRemaining()) {
+                write(src.get());
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        private void endNumber() {
+            if (inNumber) {
+                hash = hash * 1_000_003 + value;
+                count++;
+                value = 0;
+                inNumber = false;
+            }
+        }
+
+        void assertMatches(String step, IntUnaryOperator expected) {
+            endNumber();
+            long expectedHash = 0;
+            for (int i = 0; i < N; i++) {
+                expectedHash = expectedHash * 1_000_003 + expected.applyAsInt(i);
+            }
+            assertEquals(N, count, step + " 之后的元素个数");
+            assertEquals(expectedHash, hash, step + " 之后的顺序");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package LinkedListT;
+
+import static LinkedListT.ListAssertions.assertStructure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SkipLinkedList 跨度维护：随机位置插入 / 删除 / getNode 与 ArrayList 对照，
+ * 并在每一步之后校验上层索引（每个 forward 指针的跨度等于两端节点的位置差）；
+ * 批量操作（edit、addAll、splice、split、区间反转、排序）经 afterBulkChange 重建索引后同样校验
+ */
+class SkipLinkedListTest {
+
+    @Test
+    void positionalOperationsMatchArrayList() {
+        Random random = new Random(11);
+        for (int run = 0; run < 20; run++) {
+            SkipLinkedList<Integer> list = new SkipLinkedList<>(new Random(run));
+            List<Integer> expected = new ArrayList<>();
+            for (int op = 0; op < 600; op++) {
+                int value = random.nextInt(10_000);
+                int size = expected.size();
+                switch (random.nextInt(5)) {
+                    case 0:
+                    case 1: {
+                        int pos = 1 + random.nextInt(size + 1);
+                        list.insert(pos, value);
+                        expected.add(pos - 1, value);
+                        break;
+                    }
+                    case 2:
+                        if (random.nextBoolean()) {
+                            list.insert(value);
+                            expected.add(0, value);
+                        } else {
+                            list.addLast(value);
+                            expected.add(value);
+                        }
+                        break;
+                    case 3:
+                        if (size > 0) {
+                            int pos = 1 + random.nextInt(size);
+                            list.delete(pos);
+                            expected.remove(pos - 1);
+                        }
+                        break;
+                    default:
+                        if (size > 0) {
+                            int pos = 1 + random.nextInt(size);
+                            assertEquals(expected.get(pos - 1), list.getNode(pos).data, "getNode(" + pos + ")");
+                        }
+                        break;
+                }
+                assertIndex(expected, list);
+            }
+            assertStructure(expected, list);
+        }
+    }
+
+    @Test
+    void deletingEverythingShrinksToEmpty() {
+        SkipLinkedList<Integer> list = new SkipLinkedList<>(new Random(1));
+        for (int i = 0; i < 500; i++) {
+            list.addLast(i);
+        }
+        Random random = new Random(2);
+        List<Integer> expected = new ArrayList<>(list.size());
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+        }
+        while (!expected.isEmpty()) {
+            int pos = 1 + random.nextInt(expected.size());
+            list.delete(pos);
+            expected.remove(pos - 1);
+            assertIndex(expected, list);
+        }
+        assertNull(list.head);
+        assertNull(list.tail);
+        list.insert(1, 7);
+        assertIndex(List.of(7), list);
+    }
+
+    @Test
+    void indexSurvivesBulkChanges() {
+        Random random = new Random(3);
+        SkipLinkedList<Integer> list = new SkipLinkedList<>(new Random(4));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int pos = 1 + random.nextInt(i + 1);
+            list.insert(pos, i);
+            expected.add(pos - 1, i);
+        }
+        assertIndex(expected, list);
+
+        // edit().apply() 直接改写第0层
+        list.edit().delete(5).insert(10, -10).insert(1, -1).delete(300).insert(301, -301).apply();
+        expected.remove(299);
+        expected.remove(4);
+        expected.add(8, -10);
+        expected.add(0, -1);
+        expected.add(-301);
+        assertIndex(expected, list);
+
+        List<Integer> extra = List.of(1000, 1001, 1002);
+        list.addAll(extra);
+        expected.addAll(extra);
+        assertIndex(expected, list);
+        list.addAll(50, extra);
+        expected.addAll(49, extra);
+        assertIndex(expected, list);
+
+        SkipLinkedList<Integer> other = SkipLinkedList.fromArray(2000, 2001, 2002, 2003);
+        list.splice(other);
+        expected.addAll(List.of(2000, 2001, 2002, 2003));
+        assertIndex(expected, list);
+        assertIndex(List.of(), other);
+
+        SkipLinkedList<Integer> rest = list.split(100);
+        assertIndex(new ArrayList<>(expected.subList(100, expected.size())), rest);
+        expected = new ArrayList<>(expected.subList(0, 100));
+        assertIndex(expected, list);
+
+        list.reverse(10, 60);
+        Collections.reverse(expected.subList(9, 60));
+        assertIndex(expected, list);
+        list.reverseKGroup(7);
+        for (int from = 0; from + 7 <= expected.size(); from += 7) {
+            Collections.reverse(expected.subList(from, from + 7));
+        }
+        assertIndex(expected, list);
+        list.reverse();
+        Collections.reverse(expected);
+        assertIndex(expected, list);
+
+        list.sort(null);
+        Collections.sort(expected);
+        assertIndex(expected, list);
+        assertStructure(expected, list);
+    }
+
+    /**
+     * 校验内容、getNode 与上层索引：
+     * 第 i 层（i≥1）指针 x → y 的跨度等于 y 与 x 的位置差，最后一个节点的跨度延伸到链表末尾
+     */
+    private static void assertIndex(List<Integer> expected, SkipLinkedList<Integer> list) {
+        assertEquals(expected.size(), list.size(), "size");
+        List<SkipNode<Integer>> nodes = new ArrayList<>();
+        for (SkipNode<Integer> x = list.head; x != null; x = x.next) {
+            nodes.add(x);
+        }
+        assertEquals(expected.size(), nodes.size(), "第0层节点数");
+        for (int r = 0; r < nodes.size(); r++) {
+            SkipNode<Integer> x = nodes.get(r);
+            assertEquals(expected.get(r), x.data, "位置 " + (r + 1));
+            if (x.next != null) {
+                assertEquals(1, x.span[0], "第0层跨度"); // 尾节点的第0层跨度不参与定位
+            }
+            for (int i = 1; i < x.level(); i++) {
+                SkipNode<Integer> y = x.forward(i);
+                int target = nextAtLevel(nodes, r, i);
+                if (target < 0) {
+                    assertNull(y, "第 " + i + " 层最后一个节点");
+                    assertEquals(nodes.size() - 1 - r, x.span[i], "第 " + i + " 层末尾跨度");
+                } else {
+                    assertSame(nodes.get(target), y, "第 " + i + " 层后继");
+                    assertEquals(target - r, x.span[i], "第 " + i + " 层跨度");
+                }
+            }
+        }
+        for (int pos = 1; pos <= nodes.size(); pos++) {
+            assertSame(nodes.get(pos - 1), list.getNode(pos), "getNode(" + pos + ")");
+        }
+    }
+
+    /** r 之后第一个层数大于 level 的节点下标，不存在时返回 -1 */
+    private static int nextAtLevel(List<SkipNode<Integer>> nodes, int r, int level) {
+        for (int j = r + 1; j < nodes.size(); j++) {
+            if (nodes.get(j).level() > level) return j;
+        }
+        return -1;
+    }
+}
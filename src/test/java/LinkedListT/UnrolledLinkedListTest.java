@@ -0,0 +1,218 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * UnrolledLinkedList 拆分 / 合并 / 借用：随机位置插入与删除（集中在块边界附近）与 ArrayList 对照，
+ * 每一步之后校验块链结构（prev/next 对称、块非空且不超过容量、count 之后的槽位已清空、元素总数等于 size）
+ */
+class UnrolledLinkedListTest {
+
+    @Test
+    void positionalOperationsAcrossChunkBoundariesMatchArrayList() {
+        Random random = new Random(7);
+        for (int chunkSize : new int[]{2, 3, 4, 8}) {
+            for (int run = 0; run < 30; run++) {
+                UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(chunkSize);
+                List<Integer> expected = new ArrayList<>();
+                for (int op = 0; op < 400; op++) {
+                    int value = random.nextInt(10_000);
+                    int size = expected.size();
+                    switch (random.nextInt(6)) {
+                        case 0:
+                        case 1: {
+                            int pos = boundaryPosition(random, list, size + 1);
+                            list.insert(pos, value);
+                            expected.add(pos - 1, value);
+                            break;
+                        }
+                        case 2:
+                            if (random.nextBoolean()) {
+                                list.insert(value);
+                                expected.add(0, value);
+                            } else {
+                                list.addLast(value);
+                                expected.add(value);
+                            }
+                            break;
+                        case 3:
+                        case 4:
+                            if (size > 0) {
+                                int pos = boundaryPosition(random, list, size);
+                                list.delete(pos);
+                                expected.remove(pos - 1);
+                            }
+                            break;
+                        default:
+                            if (size > 0) {
+                                list.reverse();
+                                Collections.reverse(expected);
+                            }
+                            break;
+                    }
+                    assertChunks(expected, list);
+                }
+            }
+        }
+    }
+
+    /** 以一半的概率取某个块的首元素或末元素所在位置（拆分、合并最容易出错的地方），否则均匀随机 */
+    private static int boundaryPosition(Random random, UnrolledLinkedList<Integer> list, int max) {
+        if (list.head == null || random.nextBoolean()) {
+            return 1 + random.nextInt(max);
+        }
+        List<Integer> boundaries = new ArrayList<>();
+        int pos = 1;
+        for (UnrolledNode<Integer> chunk = list.head; chunk != null; chunk = chunk.next) {
+            boundaries.add(pos);
+            pos += chunk.count;
+            boundaries.add(pos - 1);
+        }
+        boundaries.add(pos);
+        int candidate = boundaries.get(random.nextInt(boundaries.size()));
+        return Math.min(candidate, max);
+    }
+
+    @Test
+    void deletingEverythingReleasesAllChunks() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+            expected.add(i);
+        }
+        assertEquals(25, chunkCount(list), "顺序追加保持块满载");
+
+        Random random = new Random(9);
+        while (!expected.isEmpty()) {
+            int pos = 1 + random.nextInt(expected.size());
+            list.delete(pos);
+            expected.remove(pos - 1);
+            assertChunks(expected, list);
+        }
+        assertNull(list.head);
+        assertNull(list.tail);
+        list.insert(1, 5);
+        assertChunks(List.of(5), list);
+    }
+
+    @Test
+    void splitMergeAndBorrow() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 1; i <= 8; i++) {
+            list.addLast(i);
+        }
+        list.insert(3, 30); // 满块中间插入：对半拆分为 [1 2 30] [3 4]
+        assertChunks(List.of(1, 2, 30, 3, 4, 5, 6, 7, 8), list);
+        assertEquals(3, chunkCount(list));
+
+        list.delete(1);
+        list.delete(1); // [30] 低于一半，与后继 [3 4] 合并
+        assertChunks(List.of(30, 3, 4, 5, 6, 7, 8), list);
+        assertEquals(2, chunkCount(list));
+
+        list.delete(1);
+        list.delete(1); // [4] 与后继 [5 6 7 8] 合计超过容量，借用一个元素
+        assertChunks(List.of(4, 5, 6, 7, 8), list);
+        assertEquals(2, list.head.count);
+        assertEquals(3, list.tail.count);
+    }
+
+    @Test
+    void invalidPositionsThrow() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+        assertThrows(IllegalArgumentException.class, () -> list.insert(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.delete(1));
+        list.insert(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    @Test
+    void outputMatchesLinkedListFormat() throws IOException {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(3);
+        assertEquals("", list.toString());
+        for (int i = 1; i <= 7; i++) {
+            list.addLast(i * 10);
+        }
+        assertEquals("10 20 30 40 50 60 70", list.toString());
+        assertEquals("10 20 30 40 ...", list.toString(4));
+        StringBuilder reversed = new StringBuilder();
+        list.writeReverseTo(reversed, 2);
+        assertEquals("70 60 ...", reversed.toString());
+        assertEquals("70 60 50 40 30 20 10" + System.lineSeparator(), printReverse(list));
+        assertEquals("10 20 30 40 50 60 70", list.toString(), "逆序输出不改变链表");
+    }
+
+    /** 校验元素顺序、get 与块链结构 */
+    private static void assertChunks(List<Integer> expected, UnrolledLinkedList<Integer> list) {
+        assertEquals(expected.size(), list.size(), "size");
+        List<Integer> actual = new ArrayList<>();
+        UnrolledNode<Integer> prev = null;
+        for (UnrolledNode<Integer> chunk = list.head; chunk != null; chunk = chunk.next) {
+            assertSame(prev, chunk.prev, "prev 指针");
+            assertTrue(chunk.count > 0, "不保留空块");
+            assertTrue(chunk.count <= list.chunkSize(), "块元素数不超过容量");
+            for (int i = 0; i < chunk.count; i++) {
+                actual.add(chunk.get(i));
+            }
+            for (int i = chunk.count; i < chunk.elements.length; i++) {
+                assertNull(chunk.elements[i], "count 之后的槽位已清空");
+            }
+            prev = chunk;
+        }
+        assertSame(prev, list.tail, "tail");
+        assertEquals(expected, actual);
+        assertEquals(join(expected), list.toString());
+        if (!expected.isEmpty()) {
+            assertEquals(expected.get(expected.size() - 1), list.peekLast(), "peekLast");
+            for (int pos : new int[]{1, (expected.size() + 1) / 2, expected.size()}) {
+                assertEquals(expected.get(pos - 1), list.get(pos), "get(" + pos + ")");
+            }
+        }
+    }
+
+    private static int chunkCount(UnrolledLinkedList<Integer> list) {
+        int n = 0;
+        for (UnrolledNode<Integer> chunk = list.head; chunk != null; chunk = chunk.next) {
+            n++;
+        }
+        return n;
+    }
+
+    private static String join(List<Integer> values) {
+        StringJoiner joiner = new StringJoiner(" ");
+        values.forEach(v -> joiner.add(String.valueOf(v)));
+        return joiner.toString();
+    }
+
+    /** 捕获 reversePrint 写到 System.out 的内容 */
+    private static String printReverse(UnrolledLinkedList<Integer> list) {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            list.reversePrint();
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+package LinkedListT;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * VersionedList：写者持续发布新版本时，读者取得的快照在遍历期间保持不变且内容一致；
+ * 多个写者竞争 CAS 时 push / update / pop 不丢失、不重复
+ */
+class VersionedListTest {
+
+    @Test
+    void sequentialBehaviour() {
+        VersionedList<Integer> list = new VersionedList<>();
+        assertThrows(NoSuchElementException.class, list::pop);
+        list.push(1);
+        list.push(2);
+        PersistentList<Integer> before = list.snapshot();
+        PersistentList<Integer> published = list.update(v -> v.insert(v.size() + 1, 0));
+        assertSame(published, list.snapshot());
+        assertEquals("2 1 0", list.toString());
+        assertEquals("2 1", before.toString(), "发布新版本不影响已取得的快照");
+        assertFalse(list.compareAndSet(before, PersistentList.empty()), "当前版本已不是 before");
+        assertTrue(list.compareAndSet(published, published.pop()));
+        assertEquals(2, list.size());
+        assertEquals(1, list.pop());
+    }
+
+    /**
+     * 单个写者压入 0..N-1，且压入 3 的倍数后立即弹出；多个读者在写入期间反复取快照：
+     * 快照的元素个数等于 size，元素严格递减且不含 3 的倍数，写者继续发布后再次遍历得到相同内容
+     */
+    @Test
+    void snapshotsStayConsistentWhileWriterPublishes() throws Exception {
+        int n = 30_000;
+        int readers = 3;
+        VersionedList<Integer> list = new VersionedList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int reads = 0;
+                    while (!done.get() || reads == 0) {
+                        PersistentList<Integer> snapshot = list.snapshot();
+                        List<Integer> first = new ArrayList<>(snapshot.size());
+                        int previous = Integer.MAX_VALUE;
+                        for (int value : snapshot) {
+                            assertTrue(value < previous, "头部为最近压入的元素，严格递减");
+                            assertTrue(value % 3 != 0, "3 的倍数压入后已被弹出");
+                            first.add(value);
+                            previous = value;
+                        }
+                        assertEquals(snapshot.size(), first.size(), "快照的元素个数等于 size");
+                        List<Integer> second = new ArrayList<>(snapshot.size());
+                        snapshot.forEach(second::add);
+                        assertEquals(first, second, "快照在写者继续发布后保持不变");
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < n; i++) {
+                list.push(i);
+                if (i % 3 == 0) {
+                    assertEquals(i, list.pop(), "单个写者弹出刚压入的元素");
+                }
+            }
+            done.set(true);
+            for (Future<Integer> future : futures) {
+                assertTrue(future.get() > 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(n - (n + 2) / 3, list.size());
+    }
+
+    /** 多个写者交替使用 push 与 update 压入互不相同的元素，再并发弹出至空：每个元素恰好弹出一次 */
+    @Test
+    void concurrentWritersNeitherLoseNorDuplicate() throws Exception {
+        int threads = 4;
+        int perThread = 20_000;
+        VersionedList<Integer> list = new VersionedList<>();
+        AtomicIntegerArray popped = new AtomicIntegerArray(threads * perThread);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> pushes = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                pushes.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        int value = base + i;
+                        if ((i & 1) == 0) {
+                            list.push(value);
+                        } else {
+                            list.update(v -> v.push(value));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : pushes) {
+                future.get();
+            }
+            assertEquals(threads * perThread, list.size());
+
+            List<Future<?>> pops = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                pops.add(executor.submit(() -> {
+                    while (true) {
+                        try {
+                            popped.incrementAndGet(list.pop());
+                        } catch (NoSuchElementException e) {
+                            return null;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : pops) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(list.snapshot().isEmpty());
+        for (int i = 0; i < popped.length(); i++) {
+            assertEquals(1, popped.get(i), "元素 " + i + " 弹出次数");
+        }
+    }
+}